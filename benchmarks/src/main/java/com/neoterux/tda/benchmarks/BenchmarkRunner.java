@@ -0,0 +1,31 @@
+package com.neoterux.tda.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Punto de entrada de {@code benchmarks.jar}. Acepta los mismos argumentos que la línea de comandos
+ * de JMH y siempre añade el {@link GCProfiler} para reportar la tasa de asignación de memoria
+ * ({@code gc.alloc.rate.norm}) de cada operación.
+ *
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar ListAccess -p size=10000000
+ * </pre>
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() { }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
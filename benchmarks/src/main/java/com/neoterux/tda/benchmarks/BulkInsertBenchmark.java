@@ -0,0 +1,104 @@
+package com.neoterux.tda.benchmarks;
+
+import com.neoterux.tda.list.ArrayList;
+import com.neoterux.tda.list.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara las inserciones por lotes ({@code addAll}) contra insertar los mismos elementos uno a uno: la carga
+ * de {@code size} elementos en una lista vacía, y la inserción de {@code batch} elementos en el centro de una
+ * lista con {@code size} elementos.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkInsertBenchmark {
+
+    @Param({"ArrayList", "CircularArrayList", "LinkedList", "SCLinkedList", "SimpleLinkedList"})
+    public String implementation;
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    @Param({"1000"})
+    public int batch;
+
+    private ArrayList<Integer> source;
+
+    private ArrayList<Integer> middleBatch;
+
+    @Setup(Level.Trial)
+    public void prepare() {
+        source = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            source.addLast(i);
+        }
+        middleBatch = new ArrayList<>(batch);
+        for (int i = 0; i < batch; i++) {
+            middleBatch.addLast(-i);
+        }
+    }
+
+    /**
+     * Lista con {@code size} elementos, se genera de nuevo antes de cada inserción en el centro.
+     */
+    @State(Scope.Thread)
+    public static class Populated {
+
+        List<Integer> list;
+
+        @Setup(Level.Invocation)
+        public void populate(BulkInsertBenchmark benchmark) {
+            list = Implementations.populated(benchmark.implementation, benchmark.size, 0);
+        }
+    }
+
+    @Benchmark
+    public List<Integer> loadOneByOne() {
+        List<Integer> list = Implementations.newList(implementation);
+        for (Integer e : source) {
+            list.addLast(e);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> loadAddAll() {
+        List<Integer> list = Implementations.newList(implementation);
+        list.addAll(source);
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> insertMiddleOneByOne(Populated populated) {
+        List<Integer> list = populated.list;
+        int index = list.size() >> 1;
+        for (Integer e : middleBatch) {
+            list.add(index++, e);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> insertMiddleAddAll(Populated populated) {
+        List<Integer> list = populated.list;
+        list.addAll(list.size() >> 1, middleBatch);
+        return list;
+    }
+}
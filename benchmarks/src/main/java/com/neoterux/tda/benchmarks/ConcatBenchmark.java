@@ -0,0 +1,103 @@
+package com.neoterux.tda.benchmarks;
+
+import com.neoterux.tda.list.LinkedList;
+import com.neoterux.tda.list.List;
+import com.neoterux.tda.list.SCLinkedList;
+import com.neoterux.tda.list.SimpleLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide el costo de concatenar {@code parts} listas de {@code partSize} elementos en una sola lista, añadiendo
+ * los elementos uno a uno contra mover los nodos con {@code transferAll}, y el costo de dividir la lista
+ * resultante a la mitad con {@code splitAt}. Las listas se generan de nuevo antes de cada invocación.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcatBenchmark {
+
+    @Param({"LinkedList", "SCLinkedList", "SimpleLinkedList"})
+    public String implementation;
+
+    @Param({"100"})
+    public int parts;
+
+    @Param({"1000"})
+    public int partSize;
+
+    private java.util.List<List<Integer>> lists;
+
+    @Setup(Level.Invocation)
+    public void populate() {
+        lists = new java.util.ArrayList<>(parts);
+        for (int p = 0; p < parts; p++) {
+            lists.add(Implementations.populated(implementation, partSize, p * partSize));
+        }
+    }
+
+    @Benchmark
+    public List<Integer> concatOneByOne() {
+        List<Integer> merged = Implementations.newList(implementation);
+        for (List<Integer> part : lists) {
+            for (Integer e : part) {
+                merged.addLast(e);
+            }
+        }
+        return merged;
+    }
+
+    @Benchmark
+    public List<Integer> concatTransferAll() {
+        List<Integer> merged = Implementations.newList(implementation);
+        for (List<Integer> part : lists) {
+            transfer(merged, part);
+        }
+        return merged;
+    }
+
+    @Benchmark
+    public List<Integer> splitHalf() {
+        List<Integer> merged = lists.get(0);
+        for (int p = 1; p < parts; p++) {
+            transfer(merged, lists.get(p));
+        }
+        int half = merged.size() >> 1;
+        switch (implementation) {
+            case "LinkedList":
+                return ((LinkedList<Integer>) merged).splitAt(half);
+            case "SCLinkedList":
+                return ((SCLinkedList<Integer>) merged).splitAt(half);
+            default:
+                return ((SimpleLinkedList<Integer>) merged).splitAt(half);
+        }
+    }
+
+    private void transfer(List<Integer> target, List<Integer> source) {
+        switch (implementation) {
+            case "LinkedList":
+                ((LinkedList<Integer>) target).transferAll((LinkedList<Integer>) source);
+                break;
+            case "SCLinkedList":
+                ((SCLinkedList<Integer>) target).transferAll((SCLinkedList<Integer>) source);
+                break;
+            default:
+                ((SimpleLinkedList<Integer>) target).transferAll((SimpleLinkedList<Integer>) source);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.neoterux.tda.benchmarks;
+
+import com.neoterux.tda.list.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide el costo de eliminar en sitio un tercio de los elementos de una lista, recorriéndola por índices con
+ * {@code remove(index)}, recorriéndola con el iterador y {@link Iterator#remove()}, y con una sola llamada a
+ * {@code removeIf}. La lista se genera de nuevo antes de cada invocación.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterBenchmark {
+
+    @Param({"ArrayList", "CircularArrayList", "LinkedList", "SCLinkedList", "SimpleLinkedList", "UnrolledLinkedList"})
+    public String implementation;
+
+    @Param({"10000"})
+    public int size;
+
+    private List<Integer> list;
+
+    @Setup(Level.Invocation)
+    public void populate() {
+        list = Implementations.populated(implementation, size, 0);
+    }
+
+    @Benchmark
+    public List<Integer> removeByIndex() {
+        int i = 0;
+        while (i < list.size()) {
+            if (list.get(i) % 3 == 0)
+                list.remove(i);
+            else
+                i++;
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> iteratorRemove() {
+        Iterator<Integer> it = list.iterator();
+        while (it.hasNext()) {
+            if (it.next() % 3 == 0)
+                it.remove();
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> removeIf() {
+        list.removeIf(e -> e % 3 == 0);
+        return list;
+    }
+}
@@ -0,0 +1,85 @@
+package com.neoterux.tda.benchmarks;
+
+import com.neoterux.tda.list.ArrayList;
+import com.neoterux.tda.list.CircularArrayList;
+import com.neoterux.tda.list.CopyOnWriteArrayList;
+import com.neoterux.tda.list.ElementCodec;
+import com.neoterux.tda.list.LinkedList;
+import com.neoterux.tda.list.List;
+import com.neoterux.tda.list.OffHeapList;
+import com.neoterux.tda.list.SCLinkedList;
+import com.neoterux.tda.list.SimpleLinkedList;
+import com.neoterux.tda.list.UnrolledLinkedList;
+
+/**
+ * Fábrica de las implementaciones de {@link List} que se comparan en los benchmarks.
+ * Los nombres coinciden con los valores de los {@code @Param} de cada benchmark.
+ */
+final class Implementations {
+
+    /**
+     * Cantidad de nodos que retienen las variantes con pool de nodos.
+     */
+    private static final int POOL_SIZE = 64;
+
+    private Implementations() { }
+
+    /**
+     * Crea una lista vacía de la implementación indicada.
+     *
+     * @param name nombre simple de la clase a instanciar.
+     * @return nueva lista vacía.
+     * @throws IllegalArgumentException si la implementación no existe.
+     */
+    static List<Integer> newList(String name) {
+        switch (name) {
+            case "ArrayList":
+                return new ArrayList<>();
+            case "CircularArrayList":
+                return new CircularArrayList<>();
+            case "LinkedList":
+                return new LinkedList<>();
+            case "SCLinkedList":
+                return new SCLinkedList<>();
+            case "PooledLinkedList":
+                return new LinkedList<>(POOL_SIZE);
+            case "PooledSCLinkedList":
+                return new SCLinkedList<>(POOL_SIZE);
+            case "SimpleLinkedList":
+                return new SimpleLinkedList<>();
+            case "UnrolledLinkedList":
+                return new UnrolledLinkedList<>();
+            case "OffHeapList":
+                return new OffHeapList<>(ElementCodec.ints());
+            case "CopyOnWriteArrayList":
+                return new CopyOnWriteArrayList<>();
+            default:
+                throw new IllegalArgumentException("Unknown list implementation: " + name);
+        }
+    }
+
+    /**
+     * Crea una lista de la implementación indicada con los valores {@code [offset, offset + size)}.
+     *
+     * @param name nombre simple de la clase a instanciar.
+     * @param size cantidad de elementos.
+     * @param offset primer valor a insertar.
+     * @return lista poblada.
+     */
+    static List<Integer> populated(String name, int size, int offset) {
+        List<Integer> list = newList(name);
+        if (list instanceof CopyOnWriteArrayList) {
+            // un solo lote, añadir elemento por elemento copiaría la lista en cada inserción
+            ((CopyOnWriteArrayList<Integer>) list).update(size, batch -> {
+                for (int i = 0; i < size; i++) {
+                    batch.addLast(offset + i);
+                }
+            });
+            return list;
+        }
+        for (int i = 0; i < size; i++) {
+            list.addLast(offset + i);
+        }
+        return list;
+    }
+}
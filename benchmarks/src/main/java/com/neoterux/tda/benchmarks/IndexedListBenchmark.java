@@ -0,0 +1,89 @@
+package com.neoterux.tda.benchmarks;
+
+import com.neoterux.tda.list.IndexedList;
+import com.neoterux.tda.list.List;
+import com.neoterux.tda.list.MutableList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara una lista con y sin {@link IndexedList}: el beneficio en {@code findAll}/{@code indexOf} contra el
+ * costo de mantener el índice en las operaciones de escritura. Con {@code indexed=false} se mide la lista
+ * envuelta directamente.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexedListBenchmark {
+
+    private static final int INDEXES = 1 << 10;
+
+    @Param({"ArrayList", "CircularArrayList"})
+    public String implementation;
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean indexed;
+
+    private List<Integer> list;
+
+    private int[] indexes;
+
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void populate() {
+        MutableList<Integer> inner = (MutableList<Integer>) Implementations.populated(implementation, size, 0);
+        list = indexed ? new IndexedList<>(inner) : inner;
+        list.indexOf(0); // construye el índice fuera de la medición
+        Random random = new Random(42);
+        indexes = new int[INDEXES];
+        for (int i = 0; i < INDEXES; i++) {
+            indexes[i] = random.nextInt(size);
+        }
+    }
+
+    private int nextIndex() {
+        return indexes[cursor++ & (INDEXES - 1)];
+    }
+
+    @Benchmark
+    public List<Integer> findAll() {
+        return list.findAll(nextIndex());
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return list.indexOf(nextIndex());
+    }
+
+    @Benchmark
+    public Integer addLastRemoveFirst() {
+        list.addLast(list.get(0));
+        return list.removeFirst();
+    }
+
+    @Benchmark
+    public Integer set() {
+        int idx = nextIndex();
+        return list.set(idx, list.get(idx));
+    }
+}
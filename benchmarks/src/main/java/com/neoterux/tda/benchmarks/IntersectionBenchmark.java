@@ -0,0 +1,69 @@
+package com.neoterux.tda.benchmarks;
+
+import com.neoterux.tda.list.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide {@code intersectionWith} y {@code findAll}, secuenciales y paralelos, entre dos listas de la misma
+ * implementación y tamaño que comparten la mitad de sus elementos.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class IntersectionBenchmark {
+
+    @Param({"ArrayList", "CircularArrayList", "LinkedList", "SCLinkedList", "SimpleLinkedList", "UnrolledLinkedList"})
+    public String implementation;
+
+    @Param({"1000", "10000", "200000", "2000000"})
+    public int size;
+
+    private List<Integer> list;
+
+    private List<Integer> other;
+
+    @Setup(Level.Trial)
+    public void populate() {
+        list = Implementations.populated(implementation, size, 0);
+        other = Implementations.populated(implementation, size, size >> 1);
+    }
+
+    @Benchmark
+    public List<Integer> intersectionWith() {
+        return list.intersectionWith(other);
+    }
+
+    @Benchmark
+    public List<Integer> parallelIntersectionWith() {
+        return list.parallelIntersectionWith(other);
+    }
+
+    @Benchmark
+    public List<Integer> findAll() {
+        return list.findAll(0, EVEN);
+    }
+
+    @Benchmark
+    public List<Integer> parallelFindAll() {
+        return list.parallelFindAll(0, EVEN);
+    }
+
+    private static final Comparator<Integer> EVEN = (a, b) -> ((a ^ b) & 1);
+}
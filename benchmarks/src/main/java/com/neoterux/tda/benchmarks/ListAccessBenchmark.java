@@ -0,0 +1,88 @@
+package com.neoterux.tda.benchmarks;
+
+import com.neoterux.tda.list.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide los accesos de lectura y escritura sin cambios estructurales: {@code get}/{@code set} en índices
+ * aleatorios, recorrido completo mediante el iterador y búsqueda con {@code findAll}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListAccessBenchmark {
+
+    /**
+     * Cantidad de índices aleatorios pre-calculados, potencia de 2 para recorrerlos con una máscara.
+     */
+    private static final int INDEXES = 1 << 10;
+
+    @Param({"ArrayList", "CircularArrayList", "LinkedList", "SCLinkedList", "SimpleLinkedList", "UnrolledLinkedList",
+            "OffHeapList", "CopyOnWriteArrayList"})
+    public String implementation;
+
+    @Param({"10000", "100000", "1000000"})
+    public int size;
+
+    private List<Integer> list;
+
+    private int[] indexes;
+
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void populate() {
+        list = Implementations.populated(implementation, size, 0);
+        Random random = new Random(42);
+        indexes = new int[INDEXES];
+        for (int i = 0; i < INDEXES; i++) {
+            indexes[i] = random.nextInt(size);
+        }
+    }
+
+    private int nextIndex() {
+        return indexes[cursor++ & (INDEXES - 1)];
+    }
+
+    @Benchmark
+    public Integer randomGet() {
+        return list.get(nextIndex());
+    }
+
+    @Benchmark
+    public Integer randomSet() {
+        int idx = nextIndex();
+        // se vuelve a escribir el mismo valor para no alterar los resultados de findAll
+        return list.set(idx, idx);
+    }
+
+    @Benchmark
+    public void iterate(Blackhole bh) {
+        for (Integer e : list) {
+            bh.consume(e);
+        }
+    }
+
+    @Benchmark
+    public List<Integer> findAll() {
+        return list.findAll(nextIndex());
+    }
+}
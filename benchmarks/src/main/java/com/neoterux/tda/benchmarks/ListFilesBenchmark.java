@@ -0,0 +1,101 @@
+package com.neoterux.tda.benchmarks;
+
+import com.neoterux.tda.list.ArrayList;
+import com.neoterux.tda.list.ElementCodec;
+import com.neoterux.tda.list.IntArrayList;
+import com.neoterux.tda.list.ListFiles;
+import com.neoterux.tda.list.MappedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara el tiempo de carga de una lista desde disco: interpretando un archivo de texto y llamando a
+ * {@code addLast} por cada elemento, contra los archivos binarios de {@link ListFiles}, ya sea cargándolos
+ * completos o abriéndolos como {@link MappedList}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListFilesBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    private Path text;
+
+    private Path binary;
+
+    @Setup(Level.Trial)
+    public void writeFiles() throws IOException {
+        text = Files.createTempFile("tda-list", ".txt");
+        binary = Files.createTempFile("tda-list", ".tdal");
+        IntArrayList list = new IntArrayList(size);
+        try (BufferedWriter writer = Files.newBufferedWriter(text)) {
+            for (int i = 0; i < size; i++) {
+                writer.write(Integer.toString(i));
+                writer.newLine();
+                list.addLast(i);
+            }
+        }
+        ListFiles.writeInts(binary, list);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFiles() throws IOException {
+        Files.deleteIfExists(text);
+        Files.deleteIfExists(binary);
+    }
+
+    @Benchmark
+    public ArrayList<Integer> parseText() throws IOException {
+        ArrayList<Integer> list = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(text)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                list.addLast(Integer.parseInt(line));
+            }
+        }
+        return list;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> loadCodec() throws IOException {
+        return ListFiles.load(binary, ElementCodec.ints());
+    }
+
+    @Benchmark
+    public IntArrayList loadInts() throws IOException {
+        return ListFiles.loadInts(binary);
+    }
+
+    /**
+     * Abre el archivo y lee un solo elemento, el resto de las páginas no se cargan.
+     */
+    @Benchmark
+    public int mapAndGet() throws IOException {
+        try (MappedList<Integer> list = ListFiles.map(binary, ElementCodec.ints())) {
+            return list.get(size >> 1);
+        }
+    }
+}
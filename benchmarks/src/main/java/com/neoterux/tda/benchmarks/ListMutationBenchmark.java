@@ -0,0 +1,75 @@
+package com.neoterux.tda.benchmarks;
+
+import com.neoterux.tda.list.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide el costo de las inserciones y eliminaciones en la cabeza, la cola y el centro de cada lista.
+ * Cada operación inserta y elimina un elemento en la misma posición para que el tamaño de la lista
+ * se mantenga constante durante toda la medición.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListMutationBenchmark {
+
+    @Param({"ArrayList", "CircularArrayList", "LinkedList", "SCLinkedList", "SimpleLinkedList", "UnrolledLinkedList",
+            "PooledLinkedList", "PooledSCLinkedList", "OffHeapList"})
+    public String implementation;
+
+    @Param({"10000", "100000", "1000000"})
+    public int size;
+
+    private List<Integer> list;
+
+    private final Integer value = -1;
+
+    @Setup(Level.Trial)
+    public void populate() {
+        list = Implementations.populated(implementation, size, 0);
+    }
+
+    @Benchmark
+    public Integer addRemoveFirst() {
+        list.addFirst(value);
+        return list.removeFirst();
+    }
+
+    @Benchmark
+    public Integer addRemoveLast() {
+        list.addLast(value);
+        return list.removeLast();
+    }
+
+    @Benchmark
+    public Integer addRemoveMiddle() {
+        int middle = list.size() >> 1;
+        list.add(middle, value);
+        return list.remove(middle);
+    }
+
+    /**
+     * Uso como cola: inserta al final y elimina al inicio, de manera que cada operación descarta un nodo.
+     */
+    @Benchmark
+    public Integer addLastRemoveFirst() {
+        list.addLast(value);
+        return list.removeFirst();
+    }
+}
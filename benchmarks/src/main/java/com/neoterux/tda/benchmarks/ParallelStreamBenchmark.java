@@ -0,0 +1,53 @@
+package com.neoterux.tda.benchmarks;
+
+import com.neoterux.tda.list.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara la reducción secuencial contra la paralela sobre {@link List#stream()}, la escalabilidad depende de
+ * qué tan balanceado divida cada implementación su spliterator.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelStreamBenchmark {
+
+    @Param({"ArrayList", "CircularArrayList", "LinkedList", "SimpleLinkedList", "UnrolledLinkedList", "OffHeapList"})
+    public String implementation;
+
+    @Param({"1000000"})
+    public int size;
+
+    private List<Integer> list;
+
+    @Setup(Level.Trial)
+    public void populate() {
+        list = Implementations.populated(implementation, size, 0);
+    }
+
+    @Benchmark
+    public long sequentialSum() {
+        return list.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long parallelSum() {
+        return list.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+}
@@ -0,0 +1,116 @@
+package com.neoterux.tda.benchmarks;
+
+import com.neoterux.tda.list.ArrayList;
+import com.neoterux.tda.queue.ArrayBlockingQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide el rendimiento de una etapa productor/consumidor: un hilo produce elementos y otro los consume, ambos
+ * sobre una cola con capacidad para {@code capacity} elementos. {@code WaitNotifyArrayList} reproduce la cola
+ * escrita a mano sobre una {@link ArrayList} con {@code wait}/{@code notifyAll}, donde cada
+ * {@code removeFirst} desplaza los elementos restantes, mientras que {@link ArrayBlockingQueue} utiliza un
+ * arreglo circular con candados separados. {@code batch} es la cantidad de elementos que el consumidor retira en
+ * cada operación, con valor 1 se utiliza {@code poll}, y con valores mayores {@code drainTo}.
+ * <p>
+ * Las esperas tienen un tiempo límite de {@code WAIT_MILLIS}, de manera que al terminar cada iteración el hilo
+ * que continúa no quede esperando indefinidamente al otro.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PipelineBenchmark {
+
+    @Param({"WaitNotifyArrayList", "ArrayBlockingQueue"})
+    public String implementation;
+
+    @Param({"1024"})
+    public int capacity;
+
+    @Param({"1", "64"})
+    public int batch;
+
+    private static final long WAIT_MILLIS = 10;
+
+    private final Integer value = -1;
+
+    private ArrayList<Integer> list;
+
+    private ArrayBlockingQueue<Integer> queue;
+
+    private ArrayList<Integer> drained;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        switch (implementation) {
+            case "WaitNotifyArrayList":
+                list = new ArrayList<>(capacity);
+                break;
+            case "ArrayBlockingQueue":
+                queue = new ArrayBlockingQueue<>(capacity);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        }
+        drained = new ArrayList<>(batch);
+    }
+
+    @Benchmark
+    @Group("pipeline")
+    @GroupThreads(1)
+    public boolean produce() throws InterruptedException {
+        if (queue != null)
+            return queue.offer(value, WAIT_MILLIS, TimeUnit.MILLISECONDS);
+        synchronized (list) {
+            if (list.size() == capacity)
+                list.wait(WAIT_MILLIS);
+            if (list.size() == capacity)
+                return false;
+            list.addLast(value);
+            list.notifyAll();
+            return true;
+        }
+    }
+
+    @Benchmark
+    @Group("pipeline")
+    @GroupThreads(1)
+    public int consume() throws InterruptedException {
+        if (queue != null) {
+            if (batch == 1) {
+                Integer e = queue.poll(WAIT_MILLIS, TimeUnit.MILLISECONDS);
+                return e == null ? 0 : e;
+            }
+            drained.clear();
+            return queue.drainTo(drained, batch) > 0 ? drained.get(0) : 0;
+        }
+        synchronized (list) {
+            if (list.isEmpty())
+                list.wait(WAIT_MILLIS);
+            if (list.isEmpty())
+                return 0;
+            int n = Math.min(batch, list.size()), first = list.get(0);
+            for (int i = 0; i < n; i++)
+                list.removeFirst();
+            list.notifyAll();
+            return first;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.neoterux.tda.benchmarks;
+
+import com.neoterux.tda.list.ArrayList;
+import com.neoterux.tda.list.IntArrayList;
+import com.neoterux.tda.list.IntList;
+import com.neoterux.tda.list.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara {@link IntArrayList} contra {@code ArrayList<Integer>} en llenado, acceso aleatorio y recorrido.
+ * La columna {@code gc.alloc.rate.norm} del GC profiler muestra el costo del boxing en cada operación.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveListBenchmark {
+
+    private static final int INDEXES = 1 << 10;
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    private List<Integer> boxed;
+
+    private IntList primitive;
+
+    private int[] indexes;
+
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void populate() {
+        boxed = Implementations.populated("ArrayList", size, 0);
+        primitive = new IntArrayList();
+        for (int i = 0; i < size; i++) {
+            primitive.addLast(i);
+        }
+        Random random = new Random(42);
+        indexes = new int[INDEXES];
+        for (int i = 0; i < INDEXES; i++) {
+            indexes[i] = random.nextInt(size);
+        }
+    }
+
+    private int nextIndex() {
+        return indexes[cursor++ & (INDEXES - 1)];
+    }
+
+    @Benchmark
+    public int boxedGet() {
+        return boxed.get(nextIndex());
+    }
+
+    @Benchmark
+    public int primitiveGet() {
+        return primitive.get(nextIndex());
+    }
+
+    @Benchmark
+    public long boxedSum() {
+        long sum = 0;
+        for (Integer e : boxed) {
+            sum += e;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long primitiveSum() {
+        long sum = 0;
+        PrimitiveIterator.OfInt it = primitive.iterator();
+        while (it.hasNext()) {
+            sum += it.nextInt();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public List<Integer> boxedFill() {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            list.addLast(i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public IntList primitiveFill() {
+        IntList list = new IntArrayList();
+        for (int i = 0; i < size; i++) {
+            list.addLast(i);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,123 @@
+package com.neoterux.tda.benchmarks;
+
+import com.neoterux.tda.list.CircularArrayList;
+import com.neoterux.tda.list.ConcurrentLinkedList;
+import com.neoterux.tda.queue.ConcurrentLinkedQueue;
+import com.neoterux.tda.queue.Queue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide el rendimiento de un par addLast/removeFirst cuando todos los hilos comparten la misma cola.
+ * {@code SynchronizedCircularArrayList} envuelve cada operación de una {@link CircularArrayList} en un bloque
+ * {@code synchronized}, como se hacía antes de contar con {@link ConcurrentLinkedQueue}.
+ * {@link ConcurrentLinkedList} añade y retira por extremos distintos con candados separados.
+ * <p>
+ * La cantidad de hilos se define con la opción {@code -t} de JMH, para obtener la curva completa:
+ * <pre>
+ * for t in 1 2 4 8 16 32 64; do java -jar benchmarks/target/benchmarks.jar QueueContention -t $t; done
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class QueueContentionBenchmark {
+
+    @Param({"SynchronizedCircularArrayList", "ConcurrentLinkedQueue", "ConcurrentLinkedList"})
+    public String implementation;
+
+    /**
+     * Elementos iniciales, evitan que los hilos encuentren la cola vacía.
+     */
+    private static final int PREFILL = 1024;
+
+    private final Integer value = -1;
+
+    private Queue<Integer> queue;
+
+    @Setup(Level.Trial)
+    public void populate() {
+        switch (implementation) {
+            case "SynchronizedCircularArrayList":
+                queue = new SynchronizedQueue<>(new CircularArrayList<>());
+                break;
+            case "ConcurrentLinkedQueue":
+                queue = new ConcurrentLinkedQueue<>();
+                break;
+            case "ConcurrentLinkedList":
+                queue = new ConcurrentLinkedList<>();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        }
+        for (int i = 0; i < PREFILL; i++) {
+            queue.addLast(i);
+        }
+    }
+
+    @Benchmark
+    public Integer addRemove() {
+        queue.addLast(value);
+        return queue.removeFirst();
+    }
+
+    /**
+     * Utiliza una {@link CircularArrayList} como cola y sincroniza cada operación sobre un solo monitor.
+     */
+    private static final class SynchronizedQueue<E> implements Queue<E> {
+
+        private final CircularArrayList<E> list;
+
+        SynchronizedQueue(CircularArrayList<E> list) {
+            this.list = list;
+        }
+
+        @Override
+        public synchronized boolean addLast(E e) {
+            return list.addLast(e);
+        }
+
+        @Override
+        public synchronized E removeFirst() {
+            return list.isEmpty() ? null : list.removeFirst();
+        }
+
+        @Override
+        public synchronized E peekFirst() {
+            return list.isEmpty() ? null : list.get(0);
+        }
+
+        @Override
+        public synchronized int size() {
+            return list.size();
+        }
+
+        @Override
+        public synchronized boolean isEmpty() {
+            return list.isEmpty();
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return list.iterator();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.neoterux.tda.benchmarks;
+
+import com.neoterux.tda.list.ArrayList;
+import com.neoterux.tda.list.CopyOnWriteArrayList;
+import com.neoterux.tda.list.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simula una tabla compartida que leen varios hilos mientras un hilo la actualiza ocasionalmente: tres lectores
+ * realizan {@code get} aleatorios y un escritor reemplaza un elemento cada {@code writeEvery} operaciones.
+ * {@code SynchronizedArrayList} sincroniza lecturas y escrituras sobre el mismo monitor, mientras que
+ * {@link CopyOnWriteArrayList} lee sin bloqueos.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReadMostlyBenchmark {
+
+    @Param({"SynchronizedArrayList", "CopyOnWriteArrayList"})
+    public String implementation;
+
+    @Param({"1000"})
+    public int size;
+
+    /**
+     * Cantidad de iteraciones ociosas del escritor entre cada actualización.
+     */
+    @Param({"1000"})
+    public int writeEvery;
+
+    private List<Integer> list;
+
+    private boolean synchronizedReads;
+
+    @Setup(Level.Trial)
+    public void populate() {
+        synchronizedReads = implementation.equals("SynchronizedArrayList");
+        list = Implementations.populated(synchronizedReads ? "ArrayList" : implementation, size, 0);
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(3)
+    public Integer read() {
+        int index = ThreadLocalRandom.current().nextInt(size);
+        if (synchronizedReads) {
+            synchronized (list) {
+                return list.get(index);
+            }
+        }
+        return list.get(index);
+    }
+
+    @Benchmark
+    @Group("readMostly")
+    @GroupThreads(1)
+    public Integer write() {
+        for (int i = 0; i < writeEvery; i++) {
+            Thread.onSpinWait();
+        }
+        int index = ThreadLocalRandom.current().nextInt(size);
+        synchronized (list) {
+            return list.set(index, index);
+        }
+    }
+}
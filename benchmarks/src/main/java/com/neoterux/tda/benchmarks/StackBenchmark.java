@@ -0,0 +1,93 @@
+package com.neoterux.tda.benchmarks;
+
+import com.neoterux.tda.stack.ArrayStack;
+import com.neoterux.tda.stack.IntArrayStack;
+import com.neoterux.tda.stack.IntStack;
+import com.neoterux.tda.stack.Stack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide las operaciones de {@link ArrayStack}: push/pop sobre un stack con {@code size} elementos,
+ * llenado completo desde vacío y recorrido mediante el iterador. Las variantes {@code primitive*}
+ * realizan lo mismo sobre {@link IntArrayStack}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StackBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int size;
+
+    private Stack<Integer> stack;
+
+    private IntStack primitiveStack;
+
+    private final Integer value = -1;
+
+    @Setup(Level.Trial)
+    public void populate() {
+        stack = new ArrayStack<>(size + 1);
+        for (int i = 0; i < size; i++) {
+            stack.push(i);
+        }
+        primitiveStack = new IntArrayStack(size + 1);
+        for (int i = 0; i < size; i++) {
+            primitiveStack.push(i);
+        }
+    }
+
+    @Benchmark
+    public Integer pushPop() {
+        stack.push(value);
+        return stack.pop();
+    }
+
+    @Benchmark
+    public Stack<Integer> fill() {
+        Stack<Integer> filled = new ArrayStack<>(size);
+        for (int i = 0; i < size; i++) {
+            filled.push(i);
+        }
+        return filled;
+    }
+
+    @Benchmark
+    public void iterate(Blackhole bh) {
+        for (Integer e : stack) {
+            bh.consume(e);
+        }
+    }
+
+    @Benchmark
+    public int primitivePushPop() {
+        primitiveStack.push(-1);
+        return primitiveStack.pop();
+    }
+
+    @Benchmark
+    public IntStack primitiveFill() {
+        IntStack filled = new IntArrayStack(size);
+        for (int i = 0; i < size; i++) {
+            filled.push(i);
+        }
+        return filled;
+    }
+}
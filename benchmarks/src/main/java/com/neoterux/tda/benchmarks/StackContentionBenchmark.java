@@ -0,0 +1,124 @@
+package com.neoterux.tda.benchmarks;
+
+import com.neoterux.tda.stack.ArrayStack;
+import com.neoterux.tda.stack.ConcurrentStack;
+import com.neoterux.tda.stack.GrowthPolicy;
+import com.neoterux.tda.stack.Stack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide el rendimiento de un par push/pop cuando todos los hilos comparten el mismo stack.
+ * {@code SynchronizedArrayStack} envuelve cada operación de un {@link ArrayStack} en un bloque
+ * {@code synchronized}, como se hacía antes de contar con {@link ConcurrentStack}.
+ * <p>
+ * La cantidad de hilos se define con la opción {@code -t} de JMH, para obtener la curva completa:
+ * <pre>
+ * for t in 1 2 4 8 16 32 64; do java -jar benchmarks/target/benchmarks.jar StackContention -t $t; done
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class StackContentionBenchmark {
+
+    @Param({"SynchronizedArrayStack", "ConcurrentStack"})
+    public String implementation;
+
+    /**
+     * Elementos iniciales, evitan que los hilos encuentren el stack vacío.
+     */
+    private static final int PREFILL = 1024;
+
+    private final Integer value = -1;
+
+    private Stack<Integer> stack;
+
+    @Setup(Level.Trial)
+    public void populate() {
+        switch (implementation) {
+            case "SynchronizedArrayStack":
+                stack = new SynchronizedStack<>(new ArrayStack<>(PREFILL, GrowthPolicy.doubling()));
+                break;
+            case "ConcurrentStack":
+                stack = new ConcurrentStack<>();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        }
+        for (int i = 0; i < PREFILL; i++) {
+            stack.push(i);
+        }
+    }
+
+    @Benchmark
+    public Integer pushPop() {
+        stack.push(value);
+        return stack.pop();
+    }
+
+    /**
+     * Envuelve un stack y sincroniza cada operación sobre un solo monitor.
+     */
+    private static final class SynchronizedStack<E> implements Stack<E> {
+
+        private final Stack<E> stack;
+
+        SynchronizedStack(Stack<E> stack) {
+            this.stack = stack;
+        }
+
+        @Override
+        public synchronized E pop() {
+            return stack.pop();
+        }
+
+        @Override
+        public synchronized void push(E element) {
+            stack.push(element);
+        }
+
+        @Override
+        public synchronized boolean isEmpty() {
+            return stack.isEmpty();
+        }
+
+        @Override
+        public synchronized int size() {
+            return stack.size();
+        }
+
+        @Override
+        public synchronized int capacity() {
+            return stack.capacity();
+        }
+
+        @Override
+        public synchronized E peek() {
+            return stack.peek();
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return stack.iterator();
+        }
+    }
+}
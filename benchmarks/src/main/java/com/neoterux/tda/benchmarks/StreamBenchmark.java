@@ -0,0 +1,90 @@
+package com.neoterux.tda.benchmarks;
+
+import com.neoterux.tda.io.StreamCodec;
+import com.neoterux.tda.list.IntArrayList;
+import com.neoterux.tda.list.IntList;
+import com.neoterux.tda.list.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide la escritura y lectura de listas en el formato binario de flujo, para cada implementación con
+ * {@link StreamCodec#ints()} y para {@link IntArrayList} con su codificación primitiva.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StreamBenchmark {
+
+    @Param({"ArrayList", "CircularArrayList", "LinkedList", "UnrolledLinkedList"})
+    public String implementation;
+
+    @Param({"1000000"})
+    public int size;
+
+    private List<Integer> list;
+
+    private IntList primitive;
+
+    private byte[] serialized;
+
+    private byte[] serializedPrimitive;
+
+    @Setup(Level.Trial)
+    public void populate() throws IOException {
+        list = Implementations.populated(implementation, size, 0);
+        primitive = new IntArrayList(size);
+        for (int i = 0; i < size; i++) {
+            primitive.addLast(i);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        list.writeTo(out, StreamCodec.ints());
+        serialized = out.toByteArray();
+        out.reset();
+        primitive.writeTo(out);
+        serializedPrimitive = out.toByteArray();
+    }
+
+    @Benchmark
+    public void write() throws IOException {
+        list.writeTo(OutputStream.nullOutputStream(), StreamCodec.ints());
+    }
+
+    @Benchmark
+    public List<Integer> read() throws IOException {
+        List<Integer> copy = Implementations.newList(implementation);
+        copy.readFrom(new ByteArrayInputStream(serialized), StreamCodec.ints());
+        return copy;
+    }
+
+    @Benchmark
+    public void writePrimitive() throws IOException {
+        primitive.writeTo(OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public IntList readPrimitive() throws IOException {
+        IntList copy = new IntArrayList();
+        copy.readFrom(new ByteArrayInputStream(serializedPrimitive));
+        return copy;
+    }
+}
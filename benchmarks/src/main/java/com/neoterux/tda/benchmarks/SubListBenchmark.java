@@ -0,0 +1,74 @@
+package com.neoterux.tda.benchmarks;
+
+import com.neoterux.tda.list.ArrayList;
+import com.neoterux.tda.list.List;
+import com.neoterux.tda.list.MutableList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simula la paginación de una lista: cada operación recorre una página de {@code pageSize} elementos a partir
+ * de una posición aleatoria, copiando la página a un nuevo {@link ArrayList} contra recorrer una vista de
+ * {@code subList}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SubListBenchmark {
+
+    @Param({"ArrayList", "LinkedList"})
+    public String implementation;
+
+    @Param({"100000"})
+    public int size;
+
+    @Param({"50"})
+    public int pageSize;
+
+    private MutableList<Integer> list;
+
+    @Setup(Level.Trial)
+    public void populate() {
+        list = (MutableList<Integer>) Implementations.populated(implementation, size, 0);
+    }
+
+    @Benchmark
+    public long copyPage() {
+        int from = ThreadLocalRandom.current().nextInt(size - pageSize);
+        List<Integer> page = new ArrayList<>(pageSize);
+        for (int i = from; i < from + pageSize; i++) {
+            page.addLast(list.get(i));
+        }
+        long sum = 0;
+        for (Integer e : page) {
+            sum += e;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long viewPage() {
+        int from = ThreadLocalRandom.current().nextInt(size - pageSize);
+        long sum = 0;
+        for (Integer e : list.subList(from, from + pageSize)) {
+            sum += e;
+        }
+        return sum;
+    }
+}
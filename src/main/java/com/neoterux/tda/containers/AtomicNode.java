@@ -0,0 +1,89 @@
+package com.neoterux.tda.containers;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Nodo simplemente enlazado cuyo enlace {@link #next} puede leerse y reemplazarse de manera atómica desde
+ * varios hilos, para estructuras sin bloqueos. {@link #getNext()} tiene semántica de lectura volátil, y
+ * {@link #casNext(AtomicNode, AtomicNode)} solo enlaza el nodo si el enlace actual es el esperado.
+ *
+ * @param <E> tipo de dato que almacena el nodo.
+ */
+public class AtomicNode<E> extends Node<E, AtomicNode<E>> {
+
+    private static final VarHandle NEXT;
+
+    private static final VarHandle CONTENT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+            CONTENT = lookup.findVarHandle(Node.class, "content", Object.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    public AtomicNode(E element) {
+        this.content = element;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public AtomicNode<E> getNext() {
+        return (AtomicNode<E>) NEXT.getVolatile(this);
+    }
+
+    @Override
+    public void setNext(AtomicNode<E> next) {
+        NEXT.setVolatile(this, next);
+    }
+
+    /**
+     * Reemplaza el enlace al siguiente nodo únicamente si es {@literal expected}.
+     *
+     * @param expected nodo siguiente esperado.
+     * @param next nuevo nodo siguiente.
+     * @return true si se reemplazó el enlace.
+     */
+    public boolean casNext(AtomicNode<E> expected, AtomicNode<E> next) {
+        return NEXT.compareAndSet(this, expected, next);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E getContent() {
+        return (E) CONTENT.getVolatile(this);
+    }
+
+    @Override
+    public void setContent(E content) {
+        CONTENT.setVolatile(this, content);
+    }
+
+    @Override
+    public AtomicNode<E> genNext(E element) {
+        AtomicNode<E> node = new AtomicNode<>(element);
+        setNext(node);
+        return node;
+    }
+
+    @Override
+    protected AtomicNode<E> genPrevius(E element) {
+        AtomicNode<E> node = new AtomicNode<>(element);
+        node.setNext(this);
+        return node;
+    }
+
+    @Override
+    public void clean() {
+        setNext(null);
+    }
+
+    @Override
+    public String toString() {
+        return "e: " + getContent();
+    }
+}
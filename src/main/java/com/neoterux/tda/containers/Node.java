@@ -15,6 +15,15 @@ public abstract class Node<E, N extends Node> {
         return content;
     }
 
+    /**
+     * Reemplaza el contenido del nodo sin modificar sus enlaces.
+     *
+     * @param content nuevo contenido.
+     */
+    public void setContent(E content) {
+        this.content = content;
+    }
+
     public abstract N genNext(E element);
 
     protected abstract N genPrevius(E element);
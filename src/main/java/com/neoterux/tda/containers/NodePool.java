@@ -0,0 +1,89 @@
+package com.neoterux.tda.containers;
+
+import java.util.function.Supplier;
+
+/**
+ * Pool acotado de nodos reutilizables. Los nodos liberados se limpian mediante {@link Node#clean()} y se
+ * encadenan entre sí a través de su propio enlace {@code next}, por lo que el pool no reserva memoria
+ * adicional. Permite que una lista con muchas inserciones y eliminaciones reutilice sus nodos en lugar de
+ * crear uno nuevo en cada inserción.
+ *
+ * @param <E> tipo de dato que almacenan los nodos.
+ * @param <N> tipo de nodo.
+ */
+public class NodePool<E, N extends Node<E, N>> {
+
+    /**
+     * Primer nodo disponible, los demás se encuentran enlazados mediante {@code next}.
+     */
+    private N free;
+
+    private int size = 0;
+
+    private final int maxSize;
+
+    private final Supplier<N> factory;
+
+    /**
+     * Crea un nuevo pool vacío.
+     *
+     * @param maxSize cantidad máxima de nodos a retener, los nodos liberados por encima de este límite se
+     *                descartan.
+     * @param factory crea un nuevo nodo vacío cuando el pool no tiene nodos disponibles.
+     */
+    public NodePool(int maxSize, Supplier<N> factory) {
+        if (maxSize <= 0)
+            throw new IllegalArgumentException("Pool size must be greater than 0");
+        this.maxSize = maxSize;
+        this.factory = factory;
+    }
+
+    /**
+     * Obtiene un nodo sin enlaces con el contenido especificado, reutilizando un nodo liberado si existe.
+     *
+     * @param content contenido del nodo.
+     * @return nodo listo para enlazarse.
+     */
+    public N acquire(E content) {
+        N node = free;
+        if (node == null) {
+            node = factory.get();
+        } else {
+            free = node.getNext();
+            node.setNext(null);
+            size--;
+        }
+        node.setContent(content);
+        return node;
+    }
+
+    /**
+     * Libera un nodo que ya no forma parte de ninguna estructura. El nodo se limpia y, si el pool no está
+     * lleno, se retiene para una futura llamada a {@link #acquire(Object)}.
+     *
+     * @param node nodo a liberar.
+     */
+    public void release(N node) {
+        node.clean();
+        node.setContent(null);
+        if (size < maxSize) {
+            node.setNext(free);
+            free = node;
+            size++;
+        }
+    }
+
+    /**
+     * @return cantidad de nodos disponibles en el pool.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return cantidad máxima de nodos que retiene el pool.
+     */
+    public int capacity() {
+        return maxSize;
+    }
+}
@@ -0,0 +1,397 @@
+package com.neoterux.tda.io;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ConcurrentModificationException;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Formato binario de flujo compartido por las listas y stacks. Los elementos se escriben en una sola pasada
+ * a través de un buffer de {@value #BUFFER_BYTES} bytes, por lo que la memoria utilizada no depende del tamaño
+ * de la estructura. Todos los valores se escriben en orden big-endian, igual que {@link java.io.DataOutput}:
+ * <pre>
+ * int   MAGIC ("TDAS")
+ * byte  VERSION
+ * byte  tipo de elementos ({@link #OBJECTS}, {@link #INTS}, {@link #LONGS} o {@link #DOUBLES})
+ * int   cantidad de elementos
+ * ...   elementos en el orden de iteración
+ * </pre>
+ * Los elementos de {@link #OBJECTS} tienen un tamaño variable, por lo que se escriben en bloques de a lo sumo
+ * {@value #BUFFER_BYTES} bytes precedidos por su longitud ({@code int}). Así el lector puede leer cada bloque
+ * completo sin consumir bytes posteriores al último elemento.
+ * Los métodos no cierran los flujos recibidos, únicamente los vacían al terminar de escribir.
+ */
+public final class BinaryStreams {
+
+    /**
+     * Identificador del formato, corresponde a los caracteres "TDAS".
+     */
+    public static final int MAGIC = 0x54444153;
+
+    /**
+     * Versión actual del formato.
+     */
+    public static final byte VERSION = 1;
+
+    /**
+     * Elementos codificados mediante un {@link StreamCodec}.
+     */
+    public static final byte OBJECTS = 0;
+
+    public static final byte INTS = 1;
+
+    public static final byte LONGS = 2;
+
+    public static final byte DOUBLES = 3;
+
+    /**
+     * Tamaño del encabezado en bytes.
+     */
+    public static final int HEADER_BYTES = 10;
+
+    /**
+     * Tamaño del buffer de lectura y escritura.
+     */
+    public static final int BUFFER_BYTES = 1 << 16;
+
+    private BinaryStreams() { }
+
+    /**
+     * Escribe los elementos de una estructura mediante un codec.
+     *
+     * @param out flujo destino.
+     * @param source elementos a escribir, en orden.
+     * @param count cantidad de elementos de {@literal source}.
+     * @param codec codec de los elementos.
+     * @param <E> tipo de dato de los elementos.
+     * @throws IOException si ocurre un error al escribir.
+     * @throws ConcurrentModificationException si la cantidad de elementos recorridos no coincide con
+     *                                         {@literal count}.
+     */
+    public static <E> void write(OutputStream out, Iterable<E> source, int count, StreamCodec<E> codec)
+            throws IOException {
+        out.write(header(OBJECTS, count));
+        DataOutputStream data = new DataOutputStream(new ChunkOutputStream(out));
+        int written = 0;
+        for (E e : source) {
+            codec.write(data, e);
+            written++;
+        }
+        data.flush();
+        checkCount(count, written);
+    }
+
+    /**
+     * Lee los elementos escritos mediante {@link #write(OutputStream, Iterable, int, StreamCodec)}, bloque por
+     * bloque, sin consumir bytes posteriores al último elemento.
+     *
+     * @param in flujo origen.
+     * @param codec codec de los elementos.
+     * @param sink destino de cada elemento leído, en orden.
+     * @param <E> tipo de dato de los elementos.
+     * @return cantidad de elementos leídos.
+     * @throws IOException si ocurre un error al leer o el flujo no tiene un formato válido.
+     */
+    public static <E> int read(InputStream in, StreamCodec<E> codec, Consumer<E> sink) throws IOException {
+        int count = readHeader(new DataInputStream(in), OBJECTS);
+        DataInputStream data = new DataInputStream(new ChunkInputStream(in));
+        for (int i = 0; i < count; i++) {
+            sink.accept(codec.read(data));
+        }
+        return count;
+    }
+
+    /**
+     * Escribe una secuencia de enteros.
+     *
+     * @param out flujo destino.
+     * @param source elementos a escribir.
+     * @param count cantidad de elementos de {@literal source}.
+     * @throws IOException si ocurre un error al escribir.
+     */
+    public static void writeInts(OutputStream out, PrimitiveIterator.OfInt source, int count) throws IOException {
+        ByteBuffer chunk = ByteBuffer.allocate(BUFFER_BYTES);
+        chunk.put(header(INTS, count));
+        int written = 0;
+        while (source.hasNext()) {
+            if (chunk.remaining() < Integer.BYTES)
+                drain(out, chunk);
+            chunk.putInt(source.nextInt());
+            written++;
+        }
+        drain(out, chunk);
+        out.flush();
+        checkCount(count, written);
+    }
+
+    /**
+     * Escribe una secuencia de long.
+     *
+     * @param out flujo destino.
+     * @param source elementos a escribir.
+     * @param count cantidad de elementos de {@literal source}.
+     * @throws IOException si ocurre un error al escribir.
+     */
+    public static void writeLongs(OutputStream out, PrimitiveIterator.OfLong source, int count)
+            throws IOException {
+        ByteBuffer chunk = ByteBuffer.allocate(BUFFER_BYTES);
+        chunk.put(header(LONGS, count));
+        int written = 0;
+        while (source.hasNext()) {
+            if (chunk.remaining() < Long.BYTES)
+                drain(out, chunk);
+            chunk.putLong(source.nextLong());
+            written++;
+        }
+        drain(out, chunk);
+        out.flush();
+        checkCount(count, written);
+    }
+
+    /**
+     * Escribe una secuencia de double.
+     *
+     * @param out flujo destino.
+     * @param source elementos a escribir.
+     * @param count cantidad de elementos de {@literal source}.
+     * @throws IOException si ocurre un error al escribir.
+     */
+    public static void writeDoubles(OutputStream out, PrimitiveIterator.OfDouble source, int count)
+            throws IOException {
+        ByteBuffer chunk = ByteBuffer.allocate(BUFFER_BYTES);
+        chunk.put(header(DOUBLES, count));
+        int written = 0;
+        while (source.hasNext()) {
+            if (chunk.remaining() < Double.BYTES)
+                drain(out, chunk);
+            chunk.putDouble(source.nextDouble());
+            written++;
+        }
+        drain(out, chunk);
+        out.flush();
+        checkCount(count, written);
+    }
+
+    /**
+     * Lee una secuencia de enteros escrita mediante {@link #writeInts}. Como el tamaño de los elementos es
+     * fijo, nunca consume bytes posteriores al último elemento.
+     *
+     * @param in flujo origen.
+     * @param sink destino de cada elemento leído, en orden.
+     * @return cantidad de elementos leídos.
+     * @throws IOException si ocurre un error al leer o el flujo no tiene un formato válido.
+     */
+    public static int readInts(InputStream in, IntConsumer sink) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        int count = readHeader(data, INTS);
+        ByteBuffer chunk = ByteBuffer.allocate(BUFFER_BYTES);
+        long remaining = (long) count * Integer.BYTES;
+        while (remaining > 0) {
+            fill(data, chunk, remaining);
+            remaining -= chunk.remaining();
+            while (chunk.hasRemaining())
+                sink.accept(chunk.getInt());
+        }
+        return count;
+    }
+
+    /**
+     * Lee una secuencia de long escrita mediante {@link #writeLongs}, sin consumir bytes posteriores al último
+     * elemento.
+     *
+     * @param in flujo origen.
+     * @param sink destino de cada elemento leído, en orden.
+     * @return cantidad de elementos leídos.
+     * @throws IOException si ocurre un error al leer o el flujo no tiene un formato válido.
+     */
+    public static int readLongs(InputStream in, LongConsumer sink) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        int count = readHeader(data, LONGS);
+        ByteBuffer chunk = ByteBuffer.allocate(BUFFER_BYTES);
+        long remaining = (long) count * Long.BYTES;
+        while (remaining > 0) {
+            fill(data, chunk, remaining);
+            remaining -= chunk.remaining();
+            while (chunk.hasRemaining())
+                sink.accept(chunk.getLong());
+        }
+        return count;
+    }
+
+    /**
+     * Lee una secuencia de double escrita mediante {@link #writeDoubles}, sin consumir bytes posteriores al
+     * último elemento.
+     *
+     * @param in flujo origen.
+     * @param sink destino de cada elemento leído, en orden.
+     * @return cantidad de elementos leídos.
+     * @throws IOException si ocurre un error al leer o el flujo no tiene un formato válido.
+     */
+    public static int readDoubles(InputStream in, DoubleConsumer sink) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        int count = readHeader(data, DOUBLES);
+        ByteBuffer chunk = ByteBuffer.allocate(BUFFER_BYTES);
+        long remaining = (long) count * Double.BYTES;
+        while (remaining > 0) {
+            fill(data, chunk, remaining);
+            remaining -= chunk.remaining();
+            while (chunk.hasRemaining())
+                sink.accept(chunk.getDouble());
+        }
+        return count;
+    }
+
+    private static byte[] header(byte kind, int count) {
+        return ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).put(VERSION).put(kind).putInt(count).array();
+    }
+
+    private static int readHeader(DataInputStream in, byte kind) throws IOException {
+        if (in.readInt() != MAGIC)
+            throw new IOException("Not a serialized structure");
+        byte version = in.readByte();
+        if (version != VERSION)
+            throw new IOException("Unsupported format version: " + version);
+        byte found = in.readByte();
+        if (found != kind)
+            throw new IOException("Element type mismatch, expected " + kind + " but found " + found);
+        int count = in.readInt();
+        if (count < 0)
+            throw new IOException("Invalid element count: " + count);
+        return count;
+    }
+
+    /**
+     * Escribe el contenido del buffer en el flujo y lo deja listo para volver a llenarse.
+     */
+    private static void drain(OutputStream out, ByteBuffer chunk) throws IOException {
+        out.write(chunk.array(), 0, chunk.position());
+        chunk.clear();
+    }
+
+    /**
+     * Llena el buffer con los siguientes bytes del flujo, sin exceder {@literal remaining}, y lo deja listo para
+     * leerse.
+     */
+    private static void fill(DataInputStream in, ByteBuffer chunk, long remaining) throws IOException {
+        int n = (int) Math.min(chunk.capacity(), remaining);
+        chunk.clear();
+        in.readFully(chunk.array(), 0, n);
+        chunk.limit(n);
+    }
+
+    private static void checkCount(int expected, int written) {
+        if (expected != written)
+            throw new ConcurrentModificationException("Structure size changed while writing");
+    }
+
+    /**
+     * Buffer de escritura sin sincronización que escribe su contenido como un bloque precedido por su longitud.
+     * {@link DataOutputStream} escribe los valores byte por byte, por lo que un
+     * {@link java.io.BufferedOutputStream} adquiere su lock en cada byte.
+     */
+    private static final class ChunkOutputStream extends OutputStream {
+        private final OutputStream out;
+        private final byte[] buffer = new byte[BUFFER_BYTES];
+        private final ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+        private int count = 0;
+
+        ChunkOutputStream(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (count == buffer.length)
+                drain();
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (count == buffer.length)
+                    drain();
+                int n = Math.min(len, buffer.length - count);
+                System.arraycopy(b, off, buffer, count, n);
+                count += n;
+                off += n;
+                len -= n;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            drain();
+            out.flush();
+        }
+
+        private void drain() throws IOException {
+            if (count > 0) {
+                out.write(length.putInt(0, count).array());
+                out.write(buffer, 0, count);
+                count = 0;
+            }
+        }
+    }
+
+    /**
+     * Buffer de lectura sin sincronización que lee los bloques escritos por {@link ChunkOutputStream}. Cada bloque
+     * se lee completo y únicamente cuando se necesita, por lo que nunca consume bytes posteriores al último.
+     */
+    private static final class ChunkInputStream extends InputStream {
+        private final DataInputStream in;
+        private final byte[] buffer = new byte[BUFFER_BYTES];
+        private int position = 0;
+        private int limit = 0;
+
+        ChunkInputStream(InputStream in) {
+            this.in = new DataInputStream(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (position == limit && !fill())
+                return -1;
+            return buffer[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0)
+                return 0;
+            if (position == limit && !fill())
+                return -1;
+            int n = Math.min(len, limit - position);
+            System.arraycopy(buffer, position, b, off, n);
+            position += n;
+            return n;
+        }
+
+        /**
+         * Lee el siguiente bloque completo, devuelve {@code false} si el flujo terminó antes de su longitud.
+         */
+        private boolean fill() throws IOException {
+            int n;
+            try {
+                n = in.readInt();
+            } catch (EOFException e) {
+                return false;
+            }
+            if (n <= 0 || n > buffer.length)
+                throw new IOException("Invalid chunk length: " + n);
+            in.readFully(buffer, 0, n);
+            position = 0;
+            limit = n;
+            return true;
+        }
+    }
+}
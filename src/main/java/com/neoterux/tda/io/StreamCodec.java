@@ -0,0 +1,109 @@
+package com.neoterux.tda.io;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Codifica elementos en un flujo binario. A diferencia de {@link com.neoterux.tda.list.ElementCodec}, los
+ * elementos pueden tener un ancho variable.
+ *
+ * @param <E> tipo de dato que codifica.
+ */
+public interface StreamCodec<E> {
+
+    /**
+     * Escribe un elemento.
+     *
+     * @param out destino del elemento.
+     * @param e elemento a escribir, nunca es null.
+     * @throws IOException si ocurre un error al escribir.
+     */
+    void write(DataOutput out, E e) throws IOException;
+
+    /**
+     * Lee un elemento escrito mediante {@link #write(DataOutput, Object)}.
+     *
+     * @param in origen del elemento.
+     * @return el elemento leído.
+     * @throws IOException si ocurre un error al leer.
+     */
+    E read(DataInput in) throws IOException;
+
+    /**
+     * @return codec de 4 bytes para {@link Integer}.
+     */
+    static StreamCodec<Integer> ints() {
+        return new StreamCodec<>() {
+            @Override
+            public void write(DataOutput out, Integer e) throws IOException {
+                out.writeInt(e);
+            }
+
+            @Override
+            public Integer read(DataInput in) throws IOException {
+                return in.readInt();
+            }
+        };
+    }
+
+    /**
+     * @return codec de 8 bytes para {@link Long}.
+     */
+    static StreamCodec<Long> longs() {
+        return new StreamCodec<>() {
+            @Override
+            public void write(DataOutput out, Long e) throws IOException {
+                out.writeLong(e);
+            }
+
+            @Override
+            public Long read(DataInput in) throws IOException {
+                return in.readLong();
+            }
+        };
+    }
+
+    /**
+     * @return codec de 8 bytes para {@link Double}.
+     */
+    static StreamCodec<Double> doubles() {
+        return new StreamCodec<>() {
+            @Override
+            public void write(DataOutput out, Double e) throws IOException {
+                out.writeDouble(e);
+            }
+
+            @Override
+            public Double read(DataInput in) throws IOException {
+                return in.readDouble();
+            }
+        };
+    }
+
+    /**
+     * @return codec para {@link String}, cada cadena se escribe como su longitud en bytes seguida de su
+     * codificación UTF-8.
+     */
+    static StreamCodec<String> strings() {
+        return new StreamCodec<>() {
+            @Override
+            public void write(DataOutput out, String e) throws IOException {
+                byte[] bytes = e.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+
+            @Override
+            public String read(DataInput in) throws IOException {
+                int length = in.readInt();
+                if (length < 0)
+                    throw new IOException("Invalid string length: " + length);
+                byte[] bytes = new byte[length];
+                in.readFully(bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+    }
+}
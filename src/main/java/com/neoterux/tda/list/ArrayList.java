@@ -1,8 +1,14 @@
 package com.neoterux.tda.list;
 
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
 
 /**
  * Implementación estática del TDA List
@@ -26,6 +32,12 @@ public class ArrayList<E> implements MutableList<E> {
      */
     private int effectiveSize = 0;
 
+    /**
+     * Cantidad de modificaciones estructurales (inserciones y eliminaciones), utilizada por los iteradores y las
+     * vistas de {@link #subList(int, int)} para detectar modificaciones de la lista fuera de ellos.
+     */
+    private int modCount = 0;
+
     /**
      * Crea un nuevo ArrayList con un tamaño inicial de 10
      */
@@ -46,7 +58,8 @@ public class ArrayList<E> implements MutableList<E> {
     }
 
     /**
-     * Añade un objeto a la primera posición de la lista.
+     * Añade un objeto a la primera posición de la lista. Desplaza todos los elementos una posición, por lo que
+     * tiene una dificultad de O(n), para inserciones frecuentes al inicio ver {@link CircularArrayList}.
      *
      * @param e objeto a añadir
      * @return true si se añadió con éxito.
@@ -58,11 +71,10 @@ public class ArrayList<E> implements MutableList<E> {
         if (effectiveSize == capacity) {
             addCapacity();
         }
-        for (int i = effectiveSize - 1; i >0; i--) {
-            elements[i+1] = elements[i];
-        }
+        System.arraycopy(elements, 0, elements, 1, effectiveSize);
         elements[0] = e;
         effectiveSize++;
+        modCount++;
         return true;
     }
 
@@ -84,6 +96,7 @@ public class ArrayList<E> implements MutableList<E> {
             elements[effectiveSize] = e;
         }
         effectiveSize++;
+        modCount++;
         return true;
     }
 
@@ -111,11 +124,47 @@ public class ArrayList<E> implements MutableList<E> {
         }
         elements[index] = element;
         effectiveSize++;
+        modCount++;
+    }
+
+    /**
+     * Añade los elementos al final de la lista. Si se conoce la cantidad de elementos (listas y colecciones)
+     * la capacidad se calcula una sola vez y los elementos se copian directamente al arreglo, caso contrario se
+     * añaden uno a uno.
+     *
+     * @param elements elementos a añadir, los elementos null se omiten.
+     * @return true si se añadió al menos un elemento.
+     */
+    @Override
+    public boolean addAll(Iterable<? extends E> elements) {
+        int count = Batches.knownSize(elements);
+        if (count >= 0)
+            return insertAll(effectiveSize, elements, count);
+        boolean changed = false;
+        for (E e : elements)
+            changed |= addLast(e);
+        return changed;
+    }
+
+    /**
+     * Inserta los elementos a partir de {@literal index} calculando la capacidad una sola vez y desplazando los
+     * elementos posteriores en un solo movimiento, por lo que tiene una dificultad de O(n - index + m) sin
+     * importar la cantidad de elementos insertados.
+     *
+     * @param index posición donde se inserta el primer elemento, entre 0 y {@link #size()}.
+     * @param elements elementos a insertar, los elementos null se omiten.
+     * @return true si se insertó al menos un elemento.
+     */
+    @Override
+    public boolean addAll(int index, List<? extends E> elements) {
+        Objects.checkIndex(index, effectiveSize + 1);
+        return insertAll(index, elements, elements.size());
     }
 
     /**
      * Remueve un objeto en la posición especificada.
-     * En la peor situación tiene una dificultad de O(n^2).
+     * Únicamente desplaza los elementos posteriores a {@literal index}, por lo que tiene una dificultad de
+     * O(n - index).
      *
      * @param index índice del objeto a eliminar de la lista.
      * @return elemento descartado.
@@ -126,11 +175,7 @@ public class ArrayList<E> implements MutableList<E> {
             return null;
         }
         E obj = elements[index];
-        elements[index] = null;
-        // We can't fix array elements when is the last object
-        if(index != effectiveSize - 1)
-            fixArraySpace(elements);
-        effectiveSize--;
+        removeRange(index, index + 1);
         return obj;
     }
 
@@ -145,9 +190,7 @@ public class ArrayList<E> implements MutableList<E> {
             return null;
 
         E old = elements[0];
-        elements[0] = null;
-        fixArraySpace(elements);
-        effectiveSize--;
+        removeRange(0, 1);
         return old;
     }
 
@@ -162,6 +205,7 @@ public class ArrayList<E> implements MutableList<E> {
             return null;
 
         E old = elements[--effectiveSize];
+        modCount++;
         elements[effectiveSize] = null;
         return old;
     }
@@ -222,6 +266,7 @@ public class ArrayList<E> implements MutableList<E> {
             elements[i] = null;
         }
         effectiveSize = 0;
+        modCount++;
     }
 
     /**
@@ -234,13 +279,12 @@ public class ArrayList<E> implements MutableList<E> {
      */
     public static <E> ArrayList<E> fromArray(E[] array) {
         ArrayList<E> na = new ArrayList<>(array.length);
-        na.elements = fixArraySpace(array.clone());
+        E[] copy = na.elements;
         int esize = 0;
-        for (E e : na.elements) {
-            if (e == null) {
-                break;
-            }
-            esize++;
+        // los espacios (null) del array original se omiten, en una sola pasada.
+        for (E e : array) {
+            if (e != null)
+                copy[esize++] = e;
         }
         na.effectiveSize = esize;
 
@@ -248,29 +292,74 @@ public class ArrayList<E> implements MutableList<E> {
     }
 
     /**
-     * Ordena los espacios (null) del Array posicionando consecutivamente cada objeto que contenga el array.
-     * En el peor escenario tiene una complejidad de O(n^2).
+     * Copia los elementos a un nuevo ArrayList en una sola pasada, utilizado por {@link CopyOnWriteArrayList}
+     * para preparar cada nueva versión de la lista.
      *
-     * @param array arreglo a reposicionar.
-     * @param <E> tipo de dato del array.
-     * @return el {@literal array} con los objetos contenidos ordenado.
-     */
-    private static <E> E[] fixArraySpace(E[] array) {
-        for (int i = 1; i < array.length; i++) {
-            if(array[i] == null)
-                continue;
-            if(array[i-1] == null) {
-                int nidx = -1;
-                for (int j = i; j > 0; j--) {
-                    if (array[j - 1] == null) {
-                        nidx = j - 1;
-                    }
-                }
-                array[nidx] = array[i];
-                array[i] = null;
-            }
+     * @param minCapacity capacidad mínima del nuevo ArrayList, nunca menor a la cantidad de elementos.
+     * @return un ArrayList independiente con los mismos elementos.
+     */
+    ArrayList<E> copy(int minCapacity) {
+        ArrayList<E> copy = new ArrayList<>(Math.max(Math.max(minCapacity, effectiveSize), 1));
+        System.arraycopy(elements, 0, copy.elements, 0, effectiveSize);
+        copy.effectiveSize = effectiveSize;
+        return copy;
+    }
+
+    /**
+     * Abre un espacio de {@literal count} posiciones en {@literal index} y lo llena con los elementos de
+     * {@literal source}. Si {@literal source} contiene elementos null el espacio sobrante se cierra con un
+     * segundo movimiento.
+     *
+     * @param index posición donde se inserta el primer elemento.
+     * @param source elementos a insertar.
+     * @param count cantidad de elementos de {@literal source}.
+     * @return true si se insertó al menos un elemento.
+     */
+    private boolean insertAll(int index, Iterable<? extends E> source, int count) {
+        if (count <= 0)
+            return false;
+        if (source == this) // el desplazamiento alteraría los elementos que se están copiando
+            source = Arrays.asList(Arrays.copyOf(elements, effectiveSize));
+        else if (source instanceof SubList) // puede ser una vista sobre esta misma lista
+            source = Batches.snapshot(source);
+        ensureCapacity(effectiveSize + count);
+        int moved = effectiveSize - index;
+        if (moved > 0)
+            System.arraycopy(elements, index, elements, index + count, moved);
+        int written = 0;
+        Iterator<? extends E> it = source.iterator();
+        while (written < count && it.hasNext()) {
+            E e = it.next();
+            if (e != null)
+                elements[index + written++] = e;
         }
-        return array;
+        if (written < count) {
+            if (moved > 0)
+                System.arraycopy(elements, index + count, elements, index + written, moved);
+            Arrays.fill(elements, effectiveSize + written, effectiveSize + count, null);
+        }
+        effectiveSize += written;
+        modCount++;
+        return written > 0;
+    }
+
+    /**
+     * Elimina los elementos en el rango [from, to) desplazando, en un solo movimiento, los elementos
+     * posteriores a {@literal to} hacia {@literal from}. Tiene una dificultad de O(n - from),
+     * independiente del ancho del rango.
+     *
+     * @param from índice inicial del rango, inclusivo.
+     * @param to índice final del rango, exclusivo.
+     */
+    private void removeRange(int from, int to) {
+        int moved = effectiveSize - to;
+        if (moved > 0)
+            System.arraycopy(elements, to, elements, from, moved);
+        int nSize = effectiveSize - (to - from);
+        // libera las referencias sobrantes para el GC
+        Arrays.fill(elements, nSize, effectiveSize, null);
+        effectiveSize = nSize;
+        modCount++;
     }
 
     /**
@@ -308,6 +397,19 @@ public class ArrayList<E> implements MutableList<E> {
 
     }
 
+    /**
+     * Amplía el arreglo en un solo paso para contener al menos {@literal minCapacity} elementos, duplicando la
+     * capacidad si es suficiente.
+     *
+     * @param minCapacity cantidad de elementos que debe poder contener el arreglo.
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity <= capacity)
+            return;
+        capacity = Math.max(capacity << 1, minCapacity);
+        elements = Arrays.copyOf(elements, capacity);
+    }
+
     /**
      * Modifica los elementos de la lista y mantiene los items que se encuentren entre el rango
      * [from, to] inclusivos. si 'to'es mayor al index maximo, se toma como límite el índice máximo.
@@ -321,15 +423,8 @@ public class ArrayList<E> implements MutableList<E> {
 
         int top = Math.min(to, effectiveSize - 1);
 
-        int originalSize = effectiveSize;
-        for (int i = 0; i < originalSize; i++) {
-            if (!(i >= from && i <= top)) {
-                elements[i] = null;
-                effectiveSize --;
-            }
-        }
-
-        fixArraySpace(elements);
+        removeRange(top + 1, effectiveSize);
+        removeRange(0, from);
     }
 
     /**
@@ -343,13 +438,7 @@ public class ArrayList<E> implements MutableList<E> {
         checkRanges(from, to);
 
         int top = Math.min(to, effectiveSize - 1);
-        for (int i = 0; i <= top; i++) {
-            if (i >= from && i <= to) {
-                elements[i] = null;
-                effectiveSize--;
-            }
-        }
-        fixArraySpace(elements);
+        removeRange(from, top + 1);
     }
 
     private void checkRanges(int from, int to) {
@@ -362,15 +451,80 @@ public class ArrayList<E> implements MutableList<E> {
     }
 
     /**
-     * Genera un nuevo objeto iterador, para recorrer la lista de manera externa.
+     * Vista de los elementos en el rango [from, to) que comparte el arreglo con esta lista, sin copiar
+     * elementos. {@code get} y {@code set} sobre la vista tienen una dificultad de O(1), y las inserciones y
+     * eliminaciones sobre la vista se aplican sobre esta lista. Si esta lista se modifica estructuralmente fuera
+     * de la vista, cualquier operación posterior sobre la vista lanza
+     * {@link java.util.ConcurrentModificationException}.
+     *
+     * @param from índice del primer elemento de la vista, inclusivo.
+     * @param to índice final de la vista, exclusivo.
+     * @return una vista sobre el rango.
+     */
+    @Override
+    public MutableList<E> subList(int from, int to) {
+        return new SubList<>(this, from, to, () -> modCount);
+    }
+
+    /**
+     * @return un spliterator que divide el rango de índices del arreglo a la mitad.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(elements, 0, effectiveSize, Spliterator.ORDERED);
+    }
+
+    /**
+     * Elimina los elementos que cumplan con {@literal filter} en un solo recorrido: los elementos que se
+     * conservan se compactan hacia el inicio del arreglo conforme se recorre, por lo que tiene una dificultad
+     * de O(n) sin importar cuántos elementos se eliminen. Si {@literal filter} lanza una excepción, los
+     * elementos que aún no se evaluaron se conservan.
+     *
+     * @param filter condición de los elementos a eliminar.
+     * @return true si se eliminó al menos un elemento.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        // localiza el primer elemento a eliminar sin escribir en el arreglo
+        int read = 0;
+        while (read < effectiveSize && !filter.test(elements[read]))
+            read++;
+        if (read == effectiveSize)
+            return false;
+        int write = read++;
+        try {
+            for (; read < effectiveSize; read++) {
+                E e = elements[read];
+                if (!filter.test(e))
+                    elements[write++] = e;
+            }
+        } finally {
+            // read < effectiveSize únicamente si el filtro lanzó una excepción
+            removeRange(write, read);
+        }
+        return true;
+    }
+
+    /**
+     * Genera un nuevo objeto iterador, para recorrer la lista de manera externa. {@link Iterator#remove()}
+     * desplaza los elementos posteriores con una dificultad de O(n); para filtrar la lista en un solo recorrido
+     * se debe utilizar {@link #removeIf(Predicate)}.
      *
-     * @return un nuevo objeto iterador
+     * @return un iterador que lanza {@link ConcurrentModificationException} si la lista se modifica
+     * estructuralmente fuera del iterador durante el recorrido.
      */
     @Override
     public Iterator<E> iterator() {
-        // TODO: test if works
         return new Iterator<>() {
             int pointer = 0;
+
+            /**
+             * Índice del último elemento devuelto por {@link #next()}, -1 si ya se eliminó.
+             */
+            int lastReturned = -1;
+            int expectedModCount = modCount;
+
             @Override
             public boolean hasNext() {
                 return pointer < effectiveSize;
@@ -378,10 +532,28 @@ public class ArrayList<E> implements MutableList<E> {
 
             @Override
             public E next() {
+                checkForComodification();
                 if (pointer >= effectiveSize)
-                    return null;
+                    throw new NoSuchElementException();
+                lastReturned = pointer;
                 return elements[pointer++];
             }
+
+            @Override
+            public void remove() {
+                if (lastReturned < 0)
+                    throw new IllegalStateException();
+                checkForComodification();
+                removeRange(lastReturned, lastReturned + 1);
+                pointer = lastReturned;
+                lastReturned = -1;
+                expectedModCount = modCount;
+            }
+
+            private void checkForComodification() {
+                if (modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+            }
         };
     }
 
@@ -420,22 +592,31 @@ public class ArrayList<E> implements MutableList<E> {
     /**
      * Genera una lista con elementos que sean iguales entre esta lista,
      * y la lista {@literal target}. La igualdad se evalua mediante el método equals
-     * {@code element.equals(target_element);}.
+     * {@code element.equals(target_element);}. Por cada elemento de esta lista se añaden, en orden, todos los
+     * elementos iguales de {@literal target}. Utiliza un índice hash sobre la lista más pequeña, por lo que
+     * tiene una dificultad de O(n + m).
      *
      * @param target lista a comparar objetos
      * @return Lista con los objetos compartidos entre ambas listas.
      */
     @Override
     public List<E> intersectionWith(List<E> target) {
-        // TODO: implement and test
         List<E> tmp = new ArrayList<>();
-        forEach((element) ->{
-            for (E current : target) {
-                if (current.equals(element))
-                    tmp.addLast(current);
-            }
-        });
+        Intersections.join(this, target, true, tmp::addLast);
         return tmp;
     }
 
+    /**
+     * Variante paralela de {@link #intersectionWith(List)}, devuelve el mismo resultado. Las listas pequeñas se
+     * recorren en el hilo que invoca el método.
+     */
+    @Override
+    public List<E> parallelIntersectionWith(List<E> target) {
+        if (target == null || target.isEmpty() || !ParallelSearch.worthSplitting(effectiveSize))
+            return intersectionWith(target);
+        List<E> container = new ArrayList<>();
+        Intersections.parallelJoin(this, target, true, container::addLast);
+        return container;
+    }
+
 }
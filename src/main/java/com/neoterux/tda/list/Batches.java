@@ -0,0 +1,100 @@
+package com.neoterux.tda.list;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Utilidades para las inserciones y eliminaciones por lotes, ver {@link List#addAll(Iterable)},
+ * {@link List#addAll(int, List)} y {@link List#removeIf(Predicate)}.
+ */
+final class Batches {
+
+    private Batches() { }
+
+    /**
+     * @param source elementos a insertar.
+     * @return la cantidad de elementos de {@literal source} si se conoce sin recorrerlo, -1 caso contrario.
+     */
+    static int knownSize(Iterable<?> source) {
+        if (source instanceof List)
+            return ((List<?>) source).size();
+        if (source instanceof Collection)
+            return ((Collection<?>) source).size();
+        return -1;
+    }
+
+    /**
+     * Copia los elementos de {@literal source} que no sean null a un arreglo del tamaño exacto. Si se conoce la
+     * cantidad de elementos el arreglo se reserva una sola vez.
+     *
+     * @param source elementos a copiar.
+     * @return arreglo con los elementos, en el orden de {@literal source}.
+     */
+    static Object[] toArray(Iterable<?> source) {
+        int expected = knownSize(source);
+        Object[] batch = new Object[expected >= 0 ? expected : 16];
+        int n = 0;
+        for (Object e : source) {
+            if (e == null)
+                continue;
+            if (n == batch.length)
+                batch = Arrays.copyOf(batch, Math.max(n << 1, 16));
+            batch[n++] = e;
+        }
+        return (n == batch.length) ? batch : Arrays.copyOf(batch, n);
+    }
+
+    /**
+     * Copia los elementos de {@literal source} a un nuevo {@link ArrayList}, utilizado cuando una lista inserta
+     * sus propios elementos y no puede recorrerse mientras se modifica.
+     *
+     * @param source elementos a copiar.
+     * @param <E> tipo de dato de los elementos.
+     * @return un ArrayList independiente con los elementos no nulos de {@literal source}.
+     */
+    static <E> ArrayList<E> snapshot(Iterable<? extends E> source) {
+        ArrayList<E> copy = new ArrayList<>(Math.max(knownSize(source), 1));
+        for (E e : source)
+            copy.addLast(e);
+        return copy;
+    }
+
+    /**
+     * Elimina los elementos de {@literal list} que cumplan con {@literal filter} en un solo recorrido por
+     * índices: los elementos que se conservan se mueven hacia el inicio mediante {@code set}, y los elementos
+     * sobrantes del final se eliminan con una sola llamada a {@literal truncate}. Si {@literal filter} lanza una
+     * excepción, los elementos que aún no se evaluaron se conservan.
+     *
+     * @param list lista a filtrar.
+     * @param filter condición de los elementos a eliminar.
+     * @param truncate elimina los elementos desde el índice recibido hasta el final de la lista.
+     * @param <E> tipo de dato de los elementos.
+     * @return true si se eliminó al menos un elemento.
+     */
+    static <E> boolean compact(List<E> list, Predicate<? super E> filter, IntConsumer truncate) {
+        Objects.requireNonNull(filter);
+        int size = list.size();
+        int read = 0, write = 0;
+        try {
+            for (; read < size; read++) {
+                E e = list.get(read);
+                if (!filter.test(e)) {
+                    if (write != read)
+                        list.set(write, e);
+                    write++;
+                }
+            }
+        } finally {
+            // read < size únicamente si el filtro lanzó una excepción
+            if (write != read) {
+                for (int i = read; i < size; i++)
+                    list.set(write + i - read, list.get(i));
+                truncate.accept(size - (read - write));
+            }
+        }
+        return write != read;
+    }
+}
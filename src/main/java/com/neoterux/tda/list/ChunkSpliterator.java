@@ -0,0 +1,112 @@
+package com.neoterux.tda.list;
+
+import com.neoterux.tda.list.content.ChunkNode;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator para {@link UnrolledLinkedList}. Recorre {@literal remaining} elementos a partir de una posición
+ * dentro de un bloque, y se divide en el límite de bloque más cercano a la mitad del rango recorriendo
+ * únicamente los bloques, de manera que cada división recorre bloques completos y conoce su tamaño exacto. Si el
+ * rango está contenido en un solo bloque, se divide a la mitad dentro del bloque.
+ *
+ * @param <E> tipo de dato de la lista.
+ */
+final class ChunkSpliterator<E> implements Spliterator<E> {
+
+    private ChunkNode<E> node;
+
+    /**
+     * Posición del siguiente elemento dentro de {@link #node}.
+     */
+    private int offset;
+
+    private int remaining;
+
+    /**
+     * @param first bloque del primer elemento a recorrer, puede ser null si {@literal count} es 0.
+     * @param offset posición del primer elemento dentro de {@literal first}.
+     * @param count cantidad de elementos a recorrer.
+     */
+    ChunkSpliterator(ChunkNode<E> first, int offset, int count) {
+        this.node = first;
+        this.offset = offset;
+        this.remaining = count;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super E> action) {
+        if (remaining <= 0)
+            return false;
+        if (offset == node.count()) {
+            node = node.getNext();
+            offset = 0;
+        }
+        E e = node.get(offset++);
+        remaining--;
+        action.accept(e);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+        ChunkNode<E> current = node;
+        int off = offset;
+        int left = remaining;
+        while (left > 0) {
+            if (off == current.count()) {
+                current = current.getNext();
+                off = 0;
+            }
+            int end = Math.min(current.count(), off + left);
+            left -= end - off;
+            for (; off < end; off++)
+                action.accept(current.get(off));
+        }
+        node = current;
+        offset = off;
+        remaining = 0;
+    }
+
+    @Override
+    public Spliterator<E> trySplit() {
+        int half = remaining >>> 1;
+        if (half == 0)
+            return null;
+        if (offset == node.count()) {
+            node = node.getNext();
+            offset = 0;
+        }
+        ChunkNode<E> start = node;
+        int startOffset = offset;
+        int first = node.count() - offset;
+        if (first >= remaining) {
+            // el rango está dentro de un solo bloque
+            offset += half;
+            remaining -= half;
+            return new ChunkSpliterator<>(start, startOffset, half);
+        }
+        // avanza por bloques completos mientras el prefijo no supere la mitad, tomando al menos un bloque
+        int prefix = first;
+        ChunkNode<E> mid = node.getNext();
+        while (prefix + mid.count() <= half) {
+            prefix += mid.count();
+            mid = mid.getNext();
+        }
+        node = mid;
+        offset = 0;
+        remaining -= prefix;
+        return new ChunkSpliterator<>(start, startOffset, prefix);
+    }
+
+    @Override
+    public long estimateSize() {
+        return remaining;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL;
+    }
+}
@@ -0,0 +1,587 @@
+package com.neoterux.tda.list;
+
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+
+/**
+ * Implementación del TDA List sobre un arreglo circular (ring buffer).
+ * Mantiene un índice {@link #head} hacia el primer elemento, por lo que las operaciones en ambos extremos
+ * ({@code addFirst}, {@code addLast}, {@code removeFirst} y {@code removeLast}) tienen una dificultad O(1)
+ * amortizada, mientras que {@code get} y {@code set} se mantienen en O(1).
+ *
+ * @param <E> tipo de dato que va a almacenar la lista
+ */
+public class CircularArrayList<E> implements MutableList<E> {
+
+    /**
+     * Array que contiene los elementos de la lista, a partir de {@link #head}.
+     */
+    private E[] elements;
+
+    /**
+     * Capacidad del arreglo de elementos
+     */
+    private int capacity;
+
+    /**
+     * Posición física dentro de {@link #elements} del primer elemento de la lista.
+     */
+    private int head = 0;
+
+    /**
+     * Cantidad real de elementos contenidos en la lista.
+     */
+    private int effectiveSize = 0;
+
+    /**
+     * Cantidad de modificaciones estructurales (inserciones y eliminaciones), utilizada por los iteradores y las
+     * vistas de {@link #subList(int, int)} para detectar modificaciones de la lista fuera de ellos.
+     */
+    private int modCount = 0;
+
+    /**
+     * Crea una nueva lista con un tamaño inicial de 10
+     */
+    public CircularArrayList() {
+        this(10);
+    }
+
+    /**
+     * Crea una lista con un tamaño incial determinado.
+     *
+     * @param size capacidad inicial de la lista, debe ser mayor a 0.
+     */
+    public CircularArrayList(int size) {
+        if (size <= 0)
+            throw new IllegalArgumentException("Illegal size to initialization");
+        capacity = size;
+        elements = newArray(size);
+    }
+
+    /**
+     * Añade un objeto a la primera posición de la lista, tiene una dificultad O(1) amortizada.
+     *
+     * @param e objeto a añadir
+     * @return true si se añadió con éxito.
+     */
+    @Override
+    public boolean addFirst(E e) {
+        if (e == null)
+            return false;
+        if (effectiveSize == capacity)
+            addCapacity();
+        head = (head == 0) ? capacity - 1 : head - 1;
+        elements[head] = e;
+        effectiveSize++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Añade un objeto al final de la lista, tiene una dificultad O(1) amortizada.
+     *
+     * @param e elemento a añadir.
+     * @return true si se añadió con éxito.
+     */
+    @Override
+    public boolean addLast(E e) {
+        if (e == null)
+            return false;
+        if (effectiveSize == capacity)
+            addCapacity();
+        elements[physical(effectiveSize)] = e;
+        effectiveSize++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Añade un elemento de tipo E en un índice específico, desplaza una posición a los elementos
+     * del lado más corto de la lista, por lo que tiene una dificultad de O(min(index, n - index)).
+     *
+     * @param index   indice a insertar
+     * @param element Elemento a añádir
+     */
+    @Override
+    public void add(int index, E element) {
+        if (element == null)
+            return;
+        if (index < 0 || index >= effectiveSize)
+            throw new IndexOutOfBoundsException("Index not valid");
+        if (effectiveSize == capacity)
+            addCapacity();
+
+        if (index < effectiveSize >> 1) {
+            head = (head == 0) ? capacity - 1 : head - 1;
+            for (int i = 0; i < index; i++) {
+                elements[physical(i)] = elements[physical(i + 1)];
+            }
+        } else {
+            for (int i = effectiveSize; i > index; i--) {
+                elements[physical(i)] = elements[physical(i - 1)];
+            }
+        }
+        elements[physical(index)] = element;
+        effectiveSize++;
+        modCount++;
+    }
+
+    /**
+     * Añade los elementos al final de la lista, ver {@link #addAll(int, List)}.
+     *
+     * @param elements elementos a añadir, los elementos null se omiten.
+     * @return true si se añadió al menos un elemento.
+     */
+    @Override
+    public boolean addAll(Iterable<? extends E> elements) {
+        return insertAll(effectiveSize, Batches.toArray(elements));
+    }
+
+    /**
+     * Inserta los elementos a partir de {@literal index}. Si la capacidad no es suficiente el arreglo se amplía
+     * una sola vez, copiando los elementos al nuevo arreglo con el espacio ya abierto; caso contrario desplaza el
+     * lado más corto de la lista, por lo que tiene una dificultad de O(min(index, n - index) + m).
+     *
+     * @param index posición donde se inserta el primer elemento, entre 0 y {@link #size()}.
+     * @param elements elementos a insertar, los elementos null se omiten.
+     * @return true si se insertó al menos un elemento.
+     */
+    @Override
+    public boolean addAll(int index, List<? extends E> elements) {
+        Objects.checkIndex(index, effectiveSize + 1);
+        return insertAll(index, Batches.toArray(elements));
+    }
+
+    /**
+     * Remueve un objeto en la posición especificada, desplaza los elementos del lado más corto de la lista.
+     *
+     * @param index índice del objeto a eliminar de la lista.
+     * @return elemento descartado, null si el índice no es válido.
+     */
+    @Override
+    public E remove(int index) {
+        if (index < 0 || index >= effectiveSize)
+            return null;
+        E obj = elements[physical(index)];
+        if (index < effectiveSize >> 1) {
+            for (int i = index; i > 0; i--) {
+                elements[physical(i)] = elements[physical(i - 1)];
+            }
+            elements[head] = null;
+            head = physical(1);
+        } else {
+            for (int i = index; i < effectiveSize - 1; i++) {
+                elements[physical(i)] = elements[physical(i + 1)];
+            }
+            elements[physical(effectiveSize - 1)] = null;
+        }
+        effectiveSize--;
+        modCount++;
+        return obj;
+    }
+
+    /**
+     * Remueve el primer elemento de la lista, tiene una dificultad de O(1).
+     *
+     * @return el elemento removido
+     */
+    @Override
+    public E removeFirst() {
+        if (effectiveSize == 0)
+            return null;
+        E old = elements[head];
+        elements[head] = null;
+        head = physical(1);
+        effectiveSize--;
+        modCount++;
+        return old;
+    }
+
+    /**
+     * Remueve el último elemento que se encuentra en la lista, tiene una dificultad de O(1).
+     *
+     * @return el elemento removido de la lista.
+     */
+    @Override
+    public E removeLast() {
+        if (effectiveSize == 0)
+            return null;
+        int tail = physical(--effectiveSize);
+        E old = elements[tail];
+        elements[tail] = null;
+        modCount++;
+        return old;
+    }
+
+    /**
+     * Obtiene un elemento en un índice específico
+     *
+     * @param index indice del elemento a buscar
+     * @return elemento
+     */
+    @Override
+    public E get(int index) {
+        if (isEmpty())
+            return null;
+        if (index < 0 || index >= effectiveSize)
+            throw new IndexOutOfBoundsException("invalid index");
+        return elements[physical(index)];
+    }
+
+    /**
+     * Reemplaza un objeto en una posición específica por otro objeto.
+     *
+     * @param index posición a intercambiar
+     * @param element nuevo objeto a colocar
+     * @return el objeto descartado en la posición {@literal index}
+     */
+    @Override
+    public E set(int index, E element) {
+        Objects.checkIndex(index, effectiveSize);
+        int pos = physical(index);
+        E detachObject = elements[pos];
+        elements[pos] = element;
+        return detachObject;
+    }
+
+    /**
+     * @return la cantidad de objetos almacenados en la lista
+     */
+    @Override
+    public int size() {
+        return effectiveSize;
+    }
+
+    /**
+     * @return true si el {@link #effectiveSize} es 0.
+     */
+    @Override
+    public boolean isEmpty() {
+        return effectiveSize == 0;
+    }
+
+    /**
+     * Borra los elementos de la lista.
+     */
+    @Override
+    public void clear() {
+        for (int i = 0; i < effectiveSize; i++) {
+            elements[physical(i)] = null;
+        }
+        head = 0;
+        effectiveSize = 0;
+        modCount++;
+    }
+
+    /**
+     * Mantiene únicamente los elementos dentro del rango [from, to] inclusivos. Si 'to' es mayor al index
+     * máximo, se toma como límite el índice máximo. No desplaza elementos, únicamente mueve la cabeza.
+     *
+     * @param from index desde donde mantener
+     * @param to index hasta donde mantener
+     */
+    @Override
+    public void keepOnly(int from, int to) {
+        checkRanges(from, to);
+        int top = Math.min(to, effectiveSize - 1);
+
+        for (int i = top + 1; i < effectiveSize; i++) {
+            elements[physical(i)] = null;
+        }
+        for (int i = 0; i < from; i++) {
+            elements[physical(i)] = null;
+        }
+        head = physical(from);
+        effectiveSize = top - from + 1;
+        modCount++;
+    }
+
+    /**
+     * Elimina los elementos que se encuentren dentro del rango [from, to]. Desplaza únicamente el lado
+     * más corto de la lista que queda fuera del rango.
+     *
+     * @param from index desde donde eliminar
+     * @param to index hasta donde eliminar
+     */
+    @Override
+    public void detach(int from, int to) {
+        checkRanges(from, to);
+        int top = Math.min(to, effectiveSize - 1);
+        int removed = top - from + 1;
+
+        if (from < effectiveSize - top - 1) {
+            // mueve los elementos previos al rango hacia la derecha
+            for (int i = from - 1; i >= 0; i--) {
+                elements[physical(i + removed)] = elements[physical(i)];
+            }
+            for (int i = 0; i < removed; i++) {
+                elements[physical(i)] = null;
+            }
+            head = physical(removed);
+        } else {
+            // mueve los elementos posteriores al rango hacia la izquierda
+            for (int i = top + 1; i < effectiveSize; i++) {
+                elements[physical(i - removed)] = elements[physical(i)];
+            }
+            for (int i = effectiveSize - removed; i < effectiveSize; i++) {
+                elements[physical(i)] = null;
+            }
+        }
+        effectiveSize -= removed;
+        modCount++;
+    }
+
+    private void checkRanges(int from, int to) {
+        if (from > to)
+            throw new IllegalArgumentException("from value must be lower than to");
+        if (from < 0 || to < 0)
+            throw new IllegalArgumentException("Values must me greater than 0");
+        if (from >= effectiveSize)
+            throw new IllegalArgumentException("from must be inside list bounds");
+    }
+
+    /**
+     * @return un spliterator que divide el rango de índices lógicos a la mitad.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new IndexSpliterator<>(i -> elements[physical(i)], 0, effectiveSize);
+    }
+
+    /**
+     * Vista de los elementos en el rango [from, to) que comparte el arreglo con esta lista, sin copiar
+     * elementos. {@code get} y {@code set} sobre la vista tienen una dificultad de O(1), y las inserciones y
+     * eliminaciones sobre la vista se aplican sobre esta lista. Si esta lista se modifica estructuralmente fuera
+     * de la vista, cualquier operación posterior sobre la vista lanza {@link ConcurrentModificationException}.
+     *
+     * @param from índice del primer elemento de la vista, inclusivo.
+     * @param to índice final de la vista, exclusivo.
+     * @return una vista sobre el rango.
+     */
+    @Override
+    public MutableList<E> subList(int from, int to) {
+        return new SubList<>(this, from, to, () -> modCount);
+    }
+
+    /**
+     * Genera un nuevo objeto iterador, para recorrer la lista de manera externa. El iterador falla rápido: si la
+     * lista se modifica estructuralmente fuera de él, lanza {@link ConcurrentModificationException}.
+     * {@link Iterator#remove()} desplaza el lado más corto de la lista, igual que {@link #remove(int)}.
+     *
+     * @return un nuevo objeto iterador
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            int pointer = 0;
+
+            /**
+             * Índice del último elemento devuelto por {@link #next()}, -1 si ya se eliminó.
+             */
+            int lastReturned = -1;
+            int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return pointer < effectiveSize;
+            }
+
+            @Override
+            public E next() {
+                checkForComodification();
+                if (pointer >= effectiveSize)
+                    throw new NoSuchElementException();
+                lastReturned = pointer;
+                return elements[physical(pointer++)];
+            }
+
+            @Override
+            public void remove() {
+                if (lastReturned < 0)
+                    throw new IllegalStateException();
+                checkForComodification();
+                CircularArrayList.this.remove(lastReturned);
+                pointer = lastReturned;
+                lastReturned = -1;
+                expectedModCount = modCount;
+            }
+
+            private void checkForComodification() {
+                if (modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+            }
+        };
+    }
+
+    /**
+     * Busca elementos dentro de la lista mediante {@code target.equals(element)} y devuelve una nueva lista
+     * con los elementos que coincidan.
+     *
+     * @param target elemento a comparar.
+     * @return Lista con elementos iguales.
+     */
+    @Override
+    public List<E> findAll(E target) {
+        return findAll(target, (t, comp)-> (t.equals(comp))? 0: 1);
+    }
+
+    /**
+     * Busca elementos dentro de la lista de acuerdo a lo especificado en el comparador.
+     * Los elementos que retornen 0 se ingresaran a la nueva lista.
+     *
+     * @param target objeto a comparar con los elementos de la lista.
+     * @param cmp comparador con el {@literal target} como primer argumento.
+     * @return lista con elementos de acuerdo al resultado del comparador.
+     */
+    @Override
+    public List<E> findAll(E target, Comparator<E> cmp) {
+        List<E> tmp = new CircularArrayList<>();
+        for (int i = 0; i < effectiveSize; i++) {
+            E current = elements[physical(i)];
+            if (cmp.compare(target, current) == 0)
+                tmp.addLast(current);
+        }
+        return tmp;
+    }
+
+    /**
+     * Variante paralela de {@link #findAll(Object, Comparator)}, devuelve el mismo resultado. Las listas
+     * pequeñas se recorren en el hilo que invoca el método.
+     */
+    @Override
+    public List<E> parallelFindAll(E target, Comparator<E> cmp) {
+        if (cmp == null || target == null || !ParallelSearch.worthSplitting(effectiveSize))
+            return findAll(target, cmp);
+        List<E> container = new CircularArrayList<>();
+        ParallelSearch.forEachMatch(this, (item, emit) -> {
+            if (cmp.compare(target, item) == 0)
+                emit.accept(item);
+        }, container::addLast);
+        return container;
+    }
+
+    /**
+     * Genera una lista con elementos que sean iguales entre esta lista,
+     * y la lista {@literal target}. La igualdad se evalua mediante el método equals
+     * {@code element.equals(target_element);}. Por cada elemento de esta lista se añaden, en orden, todos los
+     * elementos iguales de {@literal target}. Tiene una dificultad de O(n + m).
+     *
+     * @param target lista a comparar objetos
+     * @return Lista con los objetos compartidos entre ambas listas.
+     */
+    @Override
+    public List<E> intersectionWith(List<E> target) {
+        List<E> tmp = new CircularArrayList<>();
+        Intersections.join(this, target, true, tmp::addLast);
+        return tmp;
+    }
+
+    /**
+     * Variante paralela de {@link #intersectionWith(List)}, devuelve el mismo resultado. Las listas pequeñas se
+     * recorren en el hilo que invoca el método.
+     */
+    @Override
+    public List<E> parallelIntersectionWith(List<E> target) {
+        if (target == null || target.isEmpty() || !ParallelSearch.worthSplitting(effectiveSize))
+            return intersectionWith(target);
+        List<E> container = new CircularArrayList<>();
+        Intersections.parallelJoin(this, target, true, container::addLast);
+        return container;
+    }
+
+    /**
+     * @return Una representación de la lista en forma legible.
+     */
+    @Override
+    public String toString() {
+        StringBuilder representation = new StringBuilder("[");
+        for (int i = 0; i < effectiveSize; i++) {
+            representation.append(elements[physical(i)]);
+            if (i != effectiveSize - 1) {
+                representation.append(", ");
+            }
+        }
+        representation.append("]");
+        return representation.toString();
+    }
+
+    /**
+     * Inserta {@literal batch} a partir de {@literal index}, ver {@link #addAll(int, List)}.
+     */
+    private boolean insertAll(int index, Object[] batch) {
+        int n = batch.length;
+        if (n == 0)
+            return false;
+        if (effectiveSize + n > capacity) {
+            int nCapacity = Math.max(capacity << 1, effectiveSize + n);
+            E[] newArr = newArray(nCapacity);
+            for (int i = 0; i < index; i++) {
+                newArr[i] = elements[physical(i)];
+            }
+            System.arraycopy(batch, 0, newArr, index, n);
+            for (int i = index; i < effectiveSize; i++) {
+                newArr[i + n] = elements[physical(i)];
+            }
+            head = 0;
+            capacity = nCapacity;
+            elements = newArr;
+            effectiveSize += n;
+            modCount++;
+            return true;
+        }
+        if (index < effectiveSize - index) {
+            // mueve los elementos previos n posiciones hacia la izquierda
+            head = (head < n) ? head - n + capacity : head - n;
+            for (int i = 0; i < index; i++) {
+                elements[physical(i)] = elements[physical(i + n)];
+            }
+        } else {
+            for (int i = effectiveSize - 1; i >= index; i--) {
+                elements[physical(i + n)] = elements[physical(i)];
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            // el lote contiene únicamente elementos de tipo E, copiados de la lista insertada
+            @SuppressWarnings("unchecked")
+            E e = (E) batch[i];
+            elements[physical(index + i)] = e;
+        }
+        effectiveSize += n;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Traduce un índice lógico de la lista a su posición dentro de {@link #elements}.
+     *
+     * @param index índice lógico, entre 0 y {@link #capacity}.
+     * @return posición física en el arreglo.
+     */
+    private int physical(int index) {
+        int pos = head + index;
+        return (pos >= capacity) ? pos - capacity : pos;
+    }
+
+    /**
+     * Duplica la capacidad del arreglo, los elementos se copian al nuevo arreglo a partir de la posición 0
+     * en dos movimientos (desde la cabeza hasta el final del arreglo, y desde el inicio hasta la cola).
+     */
+    private void addCapacity() {
+        E[] newArr = newArray(capacity << 1);
+        int firstPart = Math.min(effectiveSize, capacity - head);
+        System.arraycopy(elements, head, newArr, 0, firstPart);
+        System.arraycopy(elements, 0, newArr, firstPart, effectiveSize - firstPart);
+        head = 0;
+        capacity = newArr.length;
+        elements = newArr;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E[] newArray(int size) {
+        return (E[]) new Object[size];
+    }
+}
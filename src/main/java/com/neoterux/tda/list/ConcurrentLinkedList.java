@@ -0,0 +1,583 @@
+package com.neoterux.tda.list;
+
+import com.neoterux.tda.io.StreamCodec;
+import com.neoterux.tda.list.content.DoubleNode;
+import com.neoterux.tda.queue.Queue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * Lista doblemente enlazada que puede utilizarse desde varios hilos a la vez, con un bloqueo para cada extremo.
+ * Las operaciones sobre el inicio ({@link #addFirst}, {@link #removeFirst}) toman únicamente el bloqueo del
+ * inicio y las operaciones sobre el final ({@link #addLast}, {@link #removeLast}) el del final, de manera que
+ * ambos extremos se modifican en paralelo.
+ * <p>
+ * Los extremos se delimitan con dos nodos centinela. Mientras la lista tenga pocos elementos las operaciones de
+ * ambos extremos modificarían los mismos nodos, por lo que se toman ambos bloqueos: las inserciones requieren al
+ * menos 2 elementos para operar con un solo bloqueo, y las eliminaciones reservan su elemento reduciendo el
+ * contador antes de desenlazarlo, únicamente si quedan al menos 3. Ambos bloqueos se toman siempre en el mismo
+ * orden, inicio y después final. Las operaciones por índice toman ambos bloqueos y tienen una dificultad de O(n).
+ * <p>
+ * El iterador, {@link #findAll} e {@link #intersectionWith} recorren los nodos sin bloqueos: reflejan el estado
+ * de la lista en algún momento durante el recorrido, nunca lanzan excepciones por modificaciones concurrentes y
+ * omiten los elementos que se eliminan antes de alcanzarlos. Los nodos eliminados conservan su enlace al
+ * siguiente nodo para que un iterador detenido sobre ellos pueda continuar.
+ *
+ * @param <E> tipo de dato que almacena la lista
+ */
+public class ConcurrentLinkedList<E> implements List<E>, Queue<E> {
+
+    private final DoubleNode<E> header = new DoubleNode<>(null);
+
+    private final DoubleNode<E> trailer = new DoubleNode<>(null);
+
+    private final ReentrantLock headLock = new ReentrantLock();
+
+    private final ReentrantLock tailLock = new ReentrantLock();
+
+    /**
+     * Cantidad de elementos enlazados, sin contar las eliminaciones en curso.
+     */
+    private final AtomicInteger count = new AtomicInteger();
+
+    /**
+     * Crea una nueva lista vacía.
+     */
+    public ConcurrentLinkedList() {
+        header.setNextVolatile(trailer);
+        trailer.setPreviousVolatile(header);
+    }
+
+    /**
+     * Añade un elemento al inicio de la lista, con una dificultad de O(1).
+     *
+     * @param e elemento a añadir.
+     * @return true si se añadió con éxito, false si es null.
+     */
+    @Override
+    public boolean addFirst(E e) {
+        if (e == null)
+            return false;
+        DoubleNode<E> node = new DoubleNode<>(e);
+        headLock.lock();
+        try {
+            if (count.get() >= 2) {
+                linkAfter(header, node);
+                count.incrementAndGet();
+                return true;
+            }
+            tailLock.lock();
+            try {
+                linkAfter(header, node);
+                count.incrementAndGet();
+            } finally {
+                tailLock.unlock();
+            }
+        } finally {
+            headLock.unlock();
+        }
+        return true;
+    }
+
+    /**
+     * Añade un elemento al final de la lista, con una dificultad de O(1).
+     *
+     * @param e elemento a añadir.
+     * @return true si se añadió con éxito, false si es null.
+     */
+    @Override
+    public boolean addLast(E e) {
+        if (e == null)
+            return false;
+        DoubleNode<E> node = new DoubleNode<>(e);
+        tailLock.lock();
+        try {
+            if (count.get() >= 2) {
+                linkAfter(trailer.getPreviousVolatile(), node);
+                count.incrementAndGet();
+                return true;
+            }
+        } finally {
+            tailLock.unlock();
+        }
+        fullyLock();
+        try {
+            linkAfter(trailer.getPreviousVolatile(), node);
+            count.incrementAndGet();
+        } finally {
+            fullyUnlock();
+        }
+        return true;
+    }
+
+    /**
+     * Retira el primer elemento de la lista, con una dificultad de O(1).
+     *
+     * @return el elemento retirado, o null si la lista está vacía.
+     */
+    @Override
+    public E removeFirst() {
+        headLock.lock();
+        try {
+            if (reserveRemoval())
+                return unlink(header.getNextVolatile());
+            tailLock.lock();
+            try {
+                if (count.get() == 0)
+                    return null;
+                count.decrementAndGet();
+                return unlink(header.getNextVolatile());
+            } finally {
+                tailLock.unlock();
+            }
+        } finally {
+            headLock.unlock();
+        }
+    }
+
+    /**
+     * Retira el último elemento de la lista, con una dificultad de O(1).
+     *
+     * @return el elemento retirado, o null si la lista está vacía.
+     */
+    @Override
+    public E removeLast() {
+        tailLock.lock();
+        try {
+            if (reserveRemoval())
+                return unlink(trailer.getPreviousVolatile());
+        } finally {
+            tailLock.unlock();
+        }
+        fullyLock();
+        try {
+            if (count.get() == 0)
+                return null;
+            count.decrementAndGet();
+            return unlink(trailer.getPreviousVolatile());
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    /**
+     * @return el primer elemento sin retirarlo, o null si la lista está vacía.
+     */
+    @Override
+    public E peekFirst() {
+        while (true) {
+            DoubleNode<E> first = header.getNextVolatile();
+            if (first == trailer)
+                return null;
+            E e = first.getContentVolatile();
+            // un contenido null indica que el nodo se eliminó después de leer el enlace
+            if (e != null)
+                return e;
+        }
+    }
+
+    /**
+     * @return el último elemento sin retirarlo, o null si la lista está vacía.
+     */
+    public E peekLast() {
+        while (true) {
+            DoubleNode<E> last = trailer.getPreviousVolatile();
+            if (last == header)
+                return null;
+            E e = last.getContentVolatile();
+            if (e != null)
+                return e;
+        }
+    }
+
+    @Override
+    public void add(int index, E element) {
+        if (element == null)
+            return;
+        fullyLock();
+        try {
+            Objects.checkIndex(index, count.get());
+            linkAfter(nodeAt(index).getPreviousVolatile(), new DoubleNode<>(element));
+            count.incrementAndGet();
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    /**
+     * Añade los elementos al final de la lista de manera atómica: los elementos se enlazan en una cadena antes de
+     * tomar los bloqueos, y la cadena se une a la lista en un solo paso, por lo que otros hilos observan todos
+     * los elementos o ninguno.
+     *
+     * @param elements elementos a añadir, los elementos null se omiten.
+     * @return true si se añadió al menos un elemento.
+     */
+    @Override
+    public boolean addAll(Iterable<? extends E> elements) {
+        return splice(true, 0, elements);
+    }
+
+    /**
+     * Inserta los elementos a partir de {@literal index} de manera atómica, ver {@link #addAll(Iterable)}.
+     *
+     * @param index posición donde se inserta el primer elemento, entre 0 y {@link #size()}.
+     * @param elements elementos a insertar, los elementos null se omiten.
+     * @return true si se insertó al menos un elemento.
+     */
+    @Override
+    public boolean addAll(int index, List<? extends E> elements) {
+        return splice(false, index, elements);
+    }
+
+    @Override
+    public E remove(int index) {
+        fullyLock();
+        try {
+            Objects.checkIndex(index, count.get());
+            DoubleNode<E> node = nodeAt(index);
+            count.decrementAndGet();
+            return unlink(node);
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    /**
+     * Elimina los elementos que cumplan con {@literal filter} en un solo recorrido con ambos bloqueos, con una
+     * dificultad de O(n). Los iteradores en curso pueden observar una parte de las eliminaciones. El filtro se
+     * evalúa con ambos bloqueos, por lo que no debe modificar la lista.
+     *
+     * @param filter condición de los elementos a eliminar.
+     * @return true si se eliminó al menos un elemento.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        boolean removed = false;
+        fullyLock();
+        try {
+            // unlink conserva el enlace al siguiente nodo, por lo que el recorrido continúa desde el nodo eliminado
+            for (DoubleNode<E> node = header.getNextVolatile(); node != trailer; node = node.getNextVolatile()) {
+                if (filter.test(node.getContentVolatile())) {
+                    count.decrementAndGet();
+                    unlink(node);
+                    removed = true;
+                }
+            }
+        } finally {
+            fullyUnlock();
+        }
+        return removed;
+    }
+
+    @Override
+    public E get(int index) {
+        fullyLock();
+        try {
+            Objects.checkIndex(index, count.get());
+            return nodeAt(index).getContentVolatile();
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    @Override
+    public E set(int index, E element) {
+        if (element == null)
+            return null;
+        fullyLock();
+        try {
+            Objects.checkIndex(index, count.get());
+            DoubleNode<E> node = nodeAt(index);
+            E old = node.getContentVolatile();
+            node.setContentVolatile(element);
+            return old;
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        return count.get();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count.get() == 0;
+    }
+
+    /**
+     * Elimina todos los elementos en una sola operación, los iteradores en curso recorren los nodos que existían.
+     */
+    @Override
+    public void clear() {
+        fullyLock();
+        try {
+            header.setNextVolatile(trailer);
+            trailer.setPreviousVolatile(header);
+            count.set(0);
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    @Override
+    public List<E> findAll(E target) {
+        return findAll(target, (t, item) -> t.equals(item) ? 0 : 1);
+    }
+
+    /**
+     * Busca los elementos para los que el comparador devuelve 0, recorriendo la lista sin bloqueos.
+     *
+     * @param target objeto a comparar
+     * @param cmp comparador con primer parametro el objeto {@literal target}.
+     * @return lista con los elementos encontrados.
+     */
+    @Override
+    public List<E> findAll(E target, Comparator<E> cmp) {
+        List<E> container = new LinkedList<>();
+        for (E item : this) {
+            if (cmp.compare(target, item) == 0)
+                container.addLast(item);
+        }
+        return container;
+    }
+
+    /**
+     * Genera una lista con los elementos de esta lista que tengan al menos un elemento igual en
+     * {@literal target}, con una dificultad de O(n + m).
+     *
+     * @param target lista a comparar.
+     * @return lista con los elementos en común.
+     */
+    @Override
+    public List<E> intersectionWith(List<E> target) {
+        List<E> container = new LinkedList<>();
+        if (target == null || target.isEmpty())
+            return container;
+        Intersections.semiJoin(this, target, container::addLast);
+        return container;
+    }
+
+    /**
+     * Variante paralela de {@link #findAll(Object, Comparator)}, devuelve el mismo resultado. Las listas
+     * pequeñas se recorren en el hilo que invoca el método.
+     */
+    @Override
+    public List<E> parallelFindAll(E target, Comparator<E> cmp) {
+        if (cmp == null || target == null || !ParallelSearch.worthSplitting(size()))
+            return findAll(target, cmp);
+        List<E> container = new LinkedList<>();
+        ParallelSearch.forEachMatch(this, (item, emit) -> {
+            if (cmp.compare(target, item) == 0)
+                emit.accept(item);
+        }, container::addLast);
+        return container;
+    }
+
+    /**
+     * Variante paralela de {@link #intersectionWith(List)}, devuelve el mismo resultado. Las listas pequeñas se
+     * recorren en el hilo que invoca el método.
+     */
+    @Override
+    public List<E> parallelIntersectionWith(List<E> target) {
+        if (target == null || target.isEmpty() || !ParallelSearch.worthSplitting(size()))
+            return intersectionWith(target);
+        List<E> container = new LinkedList<>();
+        Intersections.parallelSemiJoin(this, target, container::addLast);
+        return container;
+    }
+
+    /**
+     * Escribe los elementos que se encuentren en la lista durante el recorrido, otros hilos pueden modificarla
+     * durante la escritura.
+     */
+    @Override
+    public void writeTo(OutputStream out, StreamCodec<E> codec) throws IOException {
+        ArrayList<E> snapshot = new ArrayList<>(Math.max(count.get(), 1));
+        for (E e : this)
+            snapshot.addLast(e);
+        snapshot.writeTo(out, codec);
+    }
+
+    /**
+     * @return un spliterator sin tamaño conocido, ya que la lista puede modificarse durante el recorrido.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(),
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.CONCURRENT);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private DoubleNode<E> node = header;
+            private E nextElement = advance();
+
+            private E advance() {
+                while (node != trailer) {
+                    node = node.getNextVolatile();
+                    E e = node.getContentVolatile();
+                    if (e != null)
+                        return e;
+                }
+                return null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return nextElement != null;
+            }
+
+            @Override
+            public E next() {
+                if (nextElement == null)
+                    throw new NoSuchElementException();
+                E e = nextElement;
+                nextElement = advance();
+                return e;
+            }
+        };
+    }
+
+    /**
+     * @return La representacion de la lista en formato [e1, e2, ..., en].
+     */
+    @Override
+    public String toString() {
+        StringBuilder str = new StringBuilder("[");
+        Iterator<E> it = iterator();
+        while (it.hasNext()) {
+            str.append(it.next());
+            if (it.hasNext())
+                str.append(", ");
+        }
+        str.append("]");
+        return str.toString();
+    }
+
+    /**
+     * Reduce el contador para reservar la eliminación de un elemento con un solo bloqueo, únicamente si quedan
+     * al menos 3 elementos, de manera que el otro extremo no pueda alcanzar el nodo reservado.
+     *
+     * @return true si se reservó un elemento.
+     */
+    private boolean reserveRemoval() {
+        int c;
+        while ((c = count.get()) >= 3) {
+            if (count.compareAndSet(c, c - 1))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Enlaza {@literal node} a continuación de {@literal previous}. El enlace desde {@literal previous} se
+     * escribe al final, para que los iteradores nunca alcancen un nodo enlazado parcialmente.
+     */
+    private void linkAfter(DoubleNode<E> previous, DoubleNode<E> node) {
+        DoubleNode<E> next = previous.getNextVolatile();
+        node.setPreviousVolatile(previous);
+        node.setNextVolatile(next);
+        next.setPreviousVolatile(node);
+        previous.setNextVolatile(node);
+    }
+
+    /**
+     * Enlaza los elementos en una cadena fuera de los bloqueos y la une a la lista antes del nodo en
+     * {@literal index}, o al final si {@literal append} es true o {@literal index} es el tamaño de la lista. El
+     * enlace desde el nodo previo se escribe al final, para que los iteradores nunca alcancen la cadena enlazada
+     * parcialmente.
+     */
+    private boolean splice(boolean append, int index, Iterable<? extends E> elements) {
+        DoubleNode<E> first = null, tail = null;
+        int added = 0;
+        for (E e : elements) {
+            if (e == null)
+                continue;
+            DoubleNode<E> node = new DoubleNode<>(e);
+            if (first == null) {
+                first = node;
+            } else {
+                tail.setNext(node);
+                node.setPrevious(tail);
+            }
+            tail = node;
+            added++;
+        }
+        fullyLock();
+        try {
+            int size = count.get();
+            if (!append)
+                Objects.checkIndex(index, size + 1);
+            if (added == 0)
+                return false;
+            DoubleNode<E> next = (append || index == size) ? trailer : nodeAt(index);
+            DoubleNode<E> previous = next.getPreviousVolatile();
+            first.setPreviousVolatile(previous);
+            tail.setNextVolatile(next);
+            next.setPreviousVolatile(tail);
+            previous.setNextVolatile(first);
+            count.addAndGet(added);
+            return true;
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    /**
+     * Desenlaza un nodo de la lista, conservando su enlace al siguiente nodo para los iteradores en curso.
+     *
+     * @return el elemento que contenía el nodo.
+     */
+    private E unlink(DoubleNode<E> node) {
+        DoubleNode<E> previous = node.getPreviousVolatile();
+        DoubleNode<E> next = node.getNextVolatile();
+        previous.setNextVolatile(next);
+        next.setPreviousVolatile(previous);
+        E e = node.getContentVolatile();
+        node.setContentVolatile(null);
+        return e;
+    }
+
+    /**
+     * Obtiene el nodo en el índice especificado recorriendo desde el extremo más cercano, se debe invocar con
+     * ambos bloqueos.
+     */
+    private DoubleNode<E> nodeAt(int index) {
+        int size = count.get();
+        DoubleNode<E> node;
+        if (index < (size >> 1)) {
+            node = header.getNextVolatile();
+            for (int i = 0; i < index; i++)
+                node = node.getNextVolatile();
+        } else {
+            node = trailer.getPreviousVolatile();
+            for (int i = size - 1; i > index; i--)
+                node = node.getPreviousVolatile();
+        }
+        return node;
+    }
+
+    private void fullyLock() {
+        headLock.lock();
+        tailLock.lock();
+    }
+
+    private void fullyUnlock() {
+        tailLock.unlock();
+        headLock.unlock();
+    }
+}
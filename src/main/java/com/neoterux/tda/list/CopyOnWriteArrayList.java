@@ -0,0 +1,374 @@
+package com.neoterux.tda.list;
+
+import com.neoterux.tda.io.StreamCodec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Variante de {@link ArrayList} para listas que se leen desde muchos hilos y se modifican con poca frecuencia.
+ * La lista publica sus elementos como una instantánea inmutable: las lecturas ({@link #get(int)},
+ * {@link #iterator()}, {@link #findAll(Object)}, etc.) toman la instantánea actual sin bloqueos, y cada
+ * modificación copia los elementos, aplica el cambio sobre la copia y la publica en una sola escritura volátil.
+ * <p>
+ * Las modificaciones se serializan entre sí, y cada una tiene una dificultad de O(n) por la copia, por lo que
+ * {@link #update(Consumer)} permite aplicar varios cambios con una sola copia. Un iterador obtenido antes de una
+ * modificación sigue recorriendo la versión anterior de la lista y nunca observa cambios parciales.
+ *
+ * @param <E> tipo de dato que va a almacenar la lista
+ */
+public class CopyOnWriteArrayList<E> implements MutableList<E> {
+
+    /**
+     * Versión publicada de la lista, una vez asignada nunca se modifica.
+     */
+    private volatile ArrayList<E> snapshot;
+
+    /**
+     * Monitor que serializa las modificaciones, las lecturas no lo utilizan.
+     */
+    private final Object writeLock = new Object();
+
+    /**
+     * Crea una nueva lista vacía.
+     */
+    public CopyOnWriteArrayList() {
+        snapshot = new ArrayList<>(1);
+    }
+
+    /**
+     * Crea una nueva lista con los elementos de {@literal source}, en el mismo orden.
+     *
+     * @param source lista de donde se copian los elementos.
+     */
+    public CopyOnWriteArrayList(List<E> source) {
+        ArrayList<E> initial = new ArrayList<>(Math.max(source.size(), 1));
+        for (E e : source)
+            initial.addLast(e);
+        snapshot = initial;
+    }
+
+    /**
+     * Añade un elemento al inicio de la lista, copiando la lista.
+     *
+     * @param e objeto a añadir
+     * @return true si se añadió con éxito.
+     */
+    @Override
+    public boolean addFirst(E e) {
+        if (e == null)
+            return false;
+        synchronized (writeLock) {
+            ArrayList<E> next = snapshot.copy(snapshot.size() + 1);
+            next.addFirst(e);
+            snapshot = next;
+        }
+        return true;
+    }
+
+    /**
+     * Añade un elemento al final de la lista, copiando la lista.
+     *
+     * @param e elemento a añadir.
+     * @return true si se añadió con éxito.
+     */
+    @Override
+    public boolean addLast(E e) {
+        if (e == null)
+            return false;
+        synchronized (writeLock) {
+            ArrayList<E> next = snapshot.copy(snapshot.size() + 1);
+            next.addLast(e);
+            snapshot = next;
+        }
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        if (element == null)
+            return;
+        synchronized (writeLock) {
+            ArrayList<E> next = snapshot.copy(snapshot.size() + 1);
+            next.add(index, element);
+            snapshot = next;
+        }
+    }
+
+    /**
+     * Añade los elementos al final de la lista con una sola copia, ver {@link #addAll(int, List)}.
+     *
+     * @param elements elementos a añadir, los elementos null se omiten.
+     * @return true si se añadió al menos un elemento.
+     */
+    @Override
+    public boolean addAll(Iterable<? extends E> elements) {
+        synchronized (writeLock) {
+            ArrayList<E> next = snapshot.copy(snapshot.size() + Math.max(Batches.knownSize(elements), 0));
+            if (!next.addAll(elements))
+                return false;
+            snapshot = next;
+        }
+        return true;
+    }
+
+    /**
+     * Inserta los elementos a partir de {@literal index} con una sola copia de la lista, que reserva el espacio
+     * para todos los elementos nuevos.
+     *
+     * @param index posición donde se inserta el primer elemento, entre 0 y {@link #size()}.
+     * @param elements elementos a insertar, los elementos null se omiten.
+     * @return true si se insertó al menos un elemento.
+     */
+    @Override
+    public boolean addAll(int index, List<? extends E> elements) {
+        synchronized (writeLock) {
+            Objects.checkIndex(index, snapshot.size() + 1);
+            ArrayList<E> next = snapshot.copy(snapshot.size() + elements.size());
+            if (!next.addAll(index, elements))
+                return false;
+            snapshot = next;
+        }
+        return true;
+    }
+
+    /**
+     * Copia a la nueva versión de la lista únicamente los elementos que no cumplan con {@literal filter}, en un
+     * solo recorrido, y la publica si se eliminó algún elemento. Si {@literal filter} lanza una excepción la
+     * lista no se modifica.
+     *
+     * @param filter condición de los elementos a eliminar.
+     * @return true si se eliminó al menos un elemento.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        synchronized (writeLock) {
+            ArrayList<E> current = snapshot;
+            ArrayList<E> next = new ArrayList<>(Math.max(current.size(), 1));
+            for (E e : current) {
+                if (!filter.test(e))
+                    next.addLast(e);
+            }
+            if (next.size() == current.size())
+                return false;
+            snapshot = next;
+        }
+        return true;
+    }
+
+    @Override
+    public E remove(int index) {
+        synchronized (writeLock) {
+            if (index < 0 || index >= snapshot.size())
+                return null;
+            ArrayList<E> next = snapshot.copy(0);
+            E removed = next.remove(index);
+            snapshot = next;
+            return removed;
+        }
+    }
+
+    @Override
+    public E removeFirst() {
+        return remove(0);
+    }
+
+    @Override
+    public E removeLast() {
+        synchronized (writeLock) {
+            return remove(snapshot.size() - 1);
+        }
+    }
+
+    /**
+     * Obtiene un elemento de la instantánea actual, sin bloqueos.
+     *
+     * @param index indice del elemento a buscar
+     * @return elemento
+     */
+    @Override
+    public E get(int index) {
+        return snapshot.get(index);
+    }
+
+    /**
+     * Reemplaza un elemento, copiando la lista.
+     *
+     * @param index posición a intercambiar
+     * @param element nuevo objeto a colocar
+     * @return el objeto descartado en la posición {@literal index}
+     */
+    @Override
+    public E set(int index, E element) {
+        synchronized (writeLock) {
+            ArrayList<E> next = snapshot.copy(0);
+            E old = next.set(index, element);
+            snapshot = next;
+            return old;
+        }
+    }
+
+    @Override
+    public int size() {
+        return snapshot.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return snapshot.isEmpty();
+    }
+
+    /**
+     * Reemplaza la lista por una lista vacía, sin copiar los elementos.
+     */
+    @Override
+    public void clear() {
+        synchronized (writeLock) {
+            snapshot = new ArrayList<>(1);
+        }
+    }
+
+    @Override
+    public List<E> findAll(E target) {
+        return snapshot.findAll(target);
+    }
+
+    @Override
+    public List<E> findAll(E target, Comparator<E> cmp) {
+        return snapshot.findAll(target, cmp);
+    }
+
+    @Override
+    public List<E> intersectionWith(List<E> target) {
+        return snapshot.intersectionWith(target);
+    }
+
+    @Override
+    public List<E> parallelFindAll(E target, Comparator<E> cmp) {
+        return snapshot.parallelFindAll(target, cmp);
+    }
+
+    @Override
+    public List<E> parallelIntersectionWith(List<E> target) {
+        return snapshot.parallelIntersectionWith(target);
+    }
+
+    @Override
+    public int indexOf(E e) {
+        return snapshot.indexOf(e);
+    }
+
+    /**
+     * Mantiene únicamente los elementos del rango [from, to], copiando la lista.
+     *
+     * @param from index desde donde mantener
+     * @param to index hasta donde mantener
+     */
+    @Override
+    public void keepOnly(int from, int to) {
+        update(list -> list.keepOnly(from, to));
+    }
+
+    /**
+     * Elimina los elementos del rango [from, to], copiando la lista.
+     *
+     * @param from index desde donde eliminar
+     * @param to index hasta donde eliminar
+     */
+    @Override
+    public void detach(int from, int to) {
+        update(list -> list.detach(from, to));
+    }
+
+    /**
+     * Aplica varios cambios con una sola copia de la lista: {@literal changes} recibe una copia privada de los
+     * elementos, que se publica al terminar. Si {@literal changes} lanza una excepción la lista no se modifica.
+     * La copia no debe utilizarse fuera de {@literal changes}.
+     *
+     * @param changes cambios a aplicar sobre la copia.
+     */
+    public void update(Consumer<? super MutableList<E>> changes) {
+        update(0, changes);
+    }
+
+    /**
+     * Igual que {@link #update(Consumer)}, pero reserva espacio para {@literal additions} elementos nuevos de
+     * manera que la copia no necesite ampliarse al añadirlos.
+     *
+     * @param additions cantidad esperada de elementos que se añadirán.
+     * @param changes cambios a aplicar sobre la copia.
+     */
+    public void update(int additions, Consumer<? super MutableList<E>> changes) {
+        synchronized (writeLock) {
+            ArrayList<E> next = snapshot.copy(snapshot.size() + Math.max(additions, 0));
+            changes.accept(next);
+            snapshot = next;
+        }
+    }
+
+    /**
+     * Escribe la instantánea actual, otros hilos pueden modificar la lista durante la escritura.
+     */
+    @Override
+    public void writeTo(OutputStream out, StreamCodec<E> codec) throws IOException {
+        snapshot.writeTo(out, codec);
+    }
+
+    /**
+     * Lee todos los elementos del flujo sobre una sola copia de la lista, y los publica al terminar. Si ocurre un
+     * error al leer la lista no se modifica.
+     */
+    @Override
+    public void readFrom(InputStream in, StreamCodec<E> codec) throws IOException {
+        synchronized (writeLock) {
+            ArrayList<E> next = snapshot.copy(0);
+            next.readFrom(in, codec);
+            snapshot = next;
+        }
+    }
+
+    /**
+     * @return un spliterator sobre la instantánea actual.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return snapshot.spliterator();
+    }
+
+    /**
+     * @return un iterador de solo lectura sobre la instantánea actual, no observa las modificaciones
+     * posteriores.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        // la instantánea publicada no se debe modificar, por lo que no se expone Iterator.remove
+        Iterator<E> it = snapshot.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public E next() {
+                return it.next();
+            }
+        };
+    }
+
+    /**
+     * @return Una representación de la lista en forma legible.
+     */
+    @Override
+    public String toString() {
+        return snapshot.toString();
+    }
+}
@@ -0,0 +1,51 @@
+package com.neoterux.tda.list;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * Liberación explícita de la memoria de los {@link ByteBuffer} directos. Java 11 no expone una API pública para
+ * hacerlo, por lo que se utiliza {@code sun.misc.Unsafe#invokeCleaner}; si no está disponible la memoria se
+ * libera cuando el recolector de basura descarta el buffer.
+ */
+final class DirectBuffers {
+
+    private static final Object UNSAFE;
+
+    private static final Method INVOKE_CLEANER;
+
+    static {
+        Object unsafe = null;
+        Method invokeCleaner = null;
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            unsafe = null;
+            invokeCleaner = null;
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    private DirectBuffers() { }
+
+    /**
+     * Libera la memoria de un buffer directo, el buffer no debe volver a utilizarse.
+     *
+     * @param buffer buffer creado mediante {@link ByteBuffer#allocateDirect(int)}, no un slice o duplicado.
+     */
+    static void free(ByteBuffer buffer) {
+        if (buffer == null || !buffer.isDirect() || INVOKE_CLEANER == null)
+            return;
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // la memoria se liberará cuando el buffer sea recolectado
+        }
+    }
+}
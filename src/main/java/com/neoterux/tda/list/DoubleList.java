@@ -0,0 +1,138 @@
+package com.neoterux.tda.list;
+
+import com.neoterux.tda.io.BinaryStreams;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Variante del TDA List especializada para el tipo primitivo {@code double}. Los elementos se almacenan sin
+ * envolverlos en {@link Double}, por lo que ninguna operación de lectura crea objetos.
+ * Incluye también las operaciones de {@link MutableList}.
+ */
+public interface DoubleList {
+
+    void addFirst(double e);
+
+    void addLast(double e);
+
+    void add(int index, double element);
+
+    double remove(int index);
+
+    double removeFirst();
+
+    double removeLast();
+
+    double get(int index);
+
+    double set(int index, double element);
+
+    int size();
+
+    boolean isEmpty();
+
+    void clear();
+
+    void keepOnly(int from, int to);
+
+    void detach(int from, int to);
+
+    DoubleList findAll(double target);
+
+    DoubleList intersectionWith(DoubleList target);
+
+    int indexOf(double e);
+
+    /**
+     * @return un iterador primitivo, {@code nextDouble()} no crea objetos.
+     */
+    PrimitiveIterator.OfDouble iterator();
+
+    /**
+     * Ejecuta la acción sobre cada elemento de la lista, en orden, sin crear un iterador.
+     *
+     * @param action acción a ejecutar.
+     */
+    void forEach(DoubleConsumer action);
+
+    /**
+     * @return una copia de los elementos de la lista en un arreglo del tamaño exacto.
+     */
+    double[] toArray();
+
+    /**
+     * Por defecto recorre la lista mediante su iterador y se divide copiando lotes de elementos a un arreglo.
+     *
+     * @return un spliterator que conoce el tamaño de la lista.
+     */
+    default Spliterator.OfDouble spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+    /**
+     * @return un Stream secuencial sobre los elementos de la lista.
+     */
+    default DoubleStream stream() {
+        return StreamSupport.doubleStream(spliterator(), false);
+    }
+
+    /**
+     * @return un Stream paralelo sobre los elementos de la lista.
+     */
+    default DoubleStream parallelStream() {
+        return StreamSupport.doubleStream(spliterator(), true);
+    }
+
+    /**
+     * Escribe los elementos de la lista en orden en una sola pasada, en el formato de {@link BinaryStreams}. El flujo
+     * no se cierra.
+     *
+     * @param out flujo destino.
+     * @throws IOException si ocurre un error al escribir.
+     */
+    default void writeTo(OutputStream out) throws IOException {
+        BinaryStreams.writeDoubles(out, iterator(), size());
+    }
+
+    /**
+     * Escribe los elementos de la lista en orden en el canal especificado, ver {@link #writeTo(OutputStream)}.
+     *
+     * @param channel canal destino.
+     * @throws IOException si ocurre un error al escribir.
+     */
+    default void writeTo(WritableByteChannel channel) throws IOException {
+        writeTo(Channels.newOutputStream(channel));
+    }
+
+    /**
+     * Lee elementos escritos mediante {@link #writeTo(OutputStream)} y los añade al final de la lista, sin consumir
+     * bytes posteriores al último elemento.
+     *
+     * @param in flujo origen.
+     * @throws IOException si ocurre un error al leer o el flujo no tiene un formato válido.
+     */
+    default void readFrom(InputStream in) throws IOException {
+        BinaryStreams.readDoubles(in, this::addLast);
+    }
+
+    /**
+     * Lee elementos del canal especificado, ver {@link #readFrom(InputStream)}.
+     *
+     * @param channel canal origen.
+     * @throws IOException si ocurre un error al leer o el flujo no tiene un formato válido.
+     */
+    default void readFrom(ReadableByteChannel channel) throws IOException {
+        readFrom(Channels.newInputStream(channel));
+    }
+}
@@ -0,0 +1,114 @@
+package com.neoterux.tda.list;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Codifica elementos de ancho fijo dentro de un {@link ByteBuffer}. Permite almacenar los elementos de una lista
+ * como bytes (por ejemplo fuera del heap) en lugar de referencias a objetos.
+ *
+ * @param <E> tipo de dato que codifica.
+ */
+public interface ElementCodec<E> {
+
+    /**
+     * @return cantidad de bytes que ocupa cada elemento, debe ser mayor a 0 y constante.
+     */
+    int width();
+
+    /**
+     * Escribe un elemento a partir de la posición absoluta especificada, sin modificar la posición del buffer.
+     *
+     * @param buffer buffer destino.
+     * @param offset posición del primer byte del elemento.
+     * @param e elemento a escribir, nunca es null.
+     */
+    void write(ByteBuffer buffer, int offset, E e);
+
+    /**
+     * Lee un elemento a partir de la posición absoluta especificada, sin modificar la posición del buffer.
+     *
+     * @param buffer buffer origen.
+     * @param offset posición del primer byte del elemento.
+     * @return el elemento leído.
+     */
+    E read(ByteBuffer buffer, int offset);
+
+    /**
+     * Lee un elemento reutilizando una instancia existente. Los codecs de tipos mutables pueden sobreescribir este
+     * método para recorrer una lista sin crear un objeto por elemento; por defecto crea un nuevo elemento.
+     *
+     * @param buffer buffer origen.
+     * @param offset posición del primer byte del elemento.
+     * @param reuse instancia que puede reutilizarse, puede ser null.
+     * @return el elemento leído, {@literal reuse} si fue reutilizado.
+     */
+    default E read(ByteBuffer buffer, int offset, E reuse) {
+        return read(buffer, offset);
+    }
+
+    /**
+     * @return codec de 4 bytes para {@link Integer}.
+     */
+    static ElementCodec<Integer> ints() {
+        return new ElementCodec<>() {
+            @Override
+            public int width() {
+                return Integer.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, Integer e) {
+                buffer.putInt(offset, e);
+            }
+
+            @Override
+            public Integer read(ByteBuffer buffer, int offset) {
+                return buffer.getInt(offset);
+            }
+        };
+    }
+
+    /**
+     * @return codec de 8 bytes para {@link Long}.
+     */
+    static ElementCodec<Long> longs() {
+        return new ElementCodec<>() {
+            @Override
+            public int width() {
+                return Long.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, Long e) {
+                buffer.putLong(offset, e);
+            }
+
+            @Override
+            public Long read(ByteBuffer buffer, int offset) {
+                return buffer.getLong(offset);
+            }
+        };
+    }
+
+    /**
+     * @return codec de 8 bytes para {@link Double}.
+     */
+    static ElementCodec<Double> doubles() {
+        return new ElementCodec<>() {
+            @Override
+            public int width() {
+                return Double.BYTES;
+            }
+
+            @Override
+            public void write(ByteBuffer buffer, int offset, Double e) {
+                buffer.putDouble(offset, e);
+            }
+
+            @Override
+            public Double read(ByteBuffer buffer, int offset) {
+                return buffer.getDouble(offset);
+            }
+        };
+    }
+}
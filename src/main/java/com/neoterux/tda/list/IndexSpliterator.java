@@ -0,0 +1,68 @@
+package com.neoterux.tda.list;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * Spliterator para listas con acceso por índice en O(1). Recorre el rango [origin, fence) y se divide a la mitad
+ * del rango, por lo que todas las divisiones conocen su tamaño exacto.
+ *
+ * @param <E> tipo de dato de la lista.
+ */
+final class IndexSpliterator<E> implements Spliterator<E> {
+
+    /**
+     * Obtiene el elemento en un índice válido de la lista.
+     */
+    private final IntFunction<E> getter;
+
+    private int index;
+
+    private final int fence;
+
+    /**
+     * @param getter acceso por índice a los elementos.
+     * @param origin primer índice, inclusivo.
+     * @param fence último índice, exclusivo.
+     */
+    IndexSpliterator(IntFunction<E> getter, int origin, int fence) {
+        this.getter = getter;
+        this.index = origin;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super E> action) {
+        if (index >= fence)
+            return false;
+        action.accept(getter.apply(index++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+        for (int i = index; i < fence; i++) {
+            action.accept(getter.apply(i));
+        }
+        index = fence;
+    }
+
+    @Override
+    public Spliterator<E> trySplit() {
+        int mid = (index + fence) >>> 1;
+        if (index >= mid)
+            return null;
+        return new IndexSpliterator<>(getter, index, index = mid);
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED;
+    }
+}
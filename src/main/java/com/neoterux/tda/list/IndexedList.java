@@ -0,0 +1,399 @@
+package com.neoterux.tda.list;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+
+/**
+ * Envoltura sobre cualquier {@link MutableList} que mantiene un índice hash secundario de valor a posiciones, de
+ * manera que {@link #findAll(Object)} e {@link #indexOf(Object)} tienen una dificultad esperada de O(1)
+ * (más la cantidad de coincidencias).
+ * <p>
+ * Las posiciones se guardan relativas a una base móvil, por lo que {@code addFirst}, {@code addLast},
+ * {@code removeFirst}, {@code removeLast} y {@code set} actualizan el índice en O(1) (más el tamaño del grupo
+ * de elementos iguales). Las operaciones que desplazan elementos en el centro de la lista ({@code add},
+ * {@code remove} en el centro, {@code keepOnly} y {@code detach}) y las inserciones por lotes ({@code addAll})
+ * marcan el índice como obsoleto y este se reconstruye en O(n) la siguiente vez que se consulta;
+ * {@link #rebuildCount()} permite medir cuántas veces ocurre para decidir si conviene usar esta envoltura.
+ *
+ * @param <E> tipo de dato que almacena la lista
+ */
+public class IndexedList<E> implements MutableList<E> {
+
+    /**
+     * Lista que almacena los elementos.
+     */
+    private final MutableList<E> list;
+
+    /**
+     * Índice de cada valor hacia las posiciones (absolutas) donde se encuentra.
+     */
+    private final Map<E, Bucket<E>> index = new HashMap<>();
+
+    /**
+     * Posición absoluta del elemento en el índice 0 de la lista.
+     */
+    private long base = 0;
+
+    /**
+     * true si el índice no refleja el contenido de la lista y debe reconstruirse.
+     */
+    private boolean stale;
+
+    /**
+     * Cantidad de veces que se ha reconstruido el índice.
+     */
+    private long rebuilds = 0;
+
+    /**
+     * Crea una lista indexada sobre {@literal list}, los elementos que ya contenga se indexan en la primera
+     * consulta.
+     *
+     * @param list lista a envolver, no debe ser modificada directamente después de envolverla.
+     */
+    public IndexedList(MutableList<E> list) {
+        if (list == null)
+            throw new NullPointerException("List must not be null");
+        this.list = list;
+        this.stale = !list.isEmpty();
+    }
+
+    @Override
+    public boolean addFirst(E e) {
+        if (!list.addFirst(e))
+            return false;
+        if (!stale)
+            bucketOf(e).addFirst(--base, e);
+        return true;
+    }
+
+    @Override
+    public boolean addLast(E e) {
+        if (!list.addLast(e))
+            return false;
+        if (!stale)
+            bucketOf(e).addLast(base + list.size() - 1, e);
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        int before = list.size();
+        list.add(index, element);
+        if (list.size() != before)
+            stale = true;
+    }
+
+    /**
+     * Añade los elementos mediante {@link List#addAll(Iterable)} de la lista envuelta, y marca el índice como
+     * obsoleto.
+     */
+    @Override
+    public boolean addAll(Iterable<? extends E> elements) {
+        if (!list.addAll((elements == this) ? list : elements))
+            return false;
+        stale = true;
+        return true;
+    }
+
+    /**
+     * Inserta los elementos mediante {@link List#addAll(int, List)} de la lista envuelta, y marca el índice como
+     * obsoleto.
+     */
+    @Override
+    public boolean addAll(int index, List<? extends E> elements) {
+        if (!list.addAll(index, (elements == this) ? list : elements))
+            return false;
+        stale = true;
+        return true;
+    }
+
+    /**
+     * Elimina los elementos mediante {@link List#removeIf(Predicate)} de la lista envuelta, y marca el índice
+     * como obsoleto si se eliminó algún elemento.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        int before = list.size();
+        try {
+            return list.removeIf(filter);
+        } finally {
+            if (list.size() != before)
+                stale = true;
+        }
+    }
+
+    @Override
+    public E remove(int index) {
+        int before = list.size();
+        if (index == 0)
+            return removeFirst();
+        if (index == before - 1)
+            return removeLast();
+        E removed = list.remove(index);
+        if (list.size() != before)
+            stale = true;
+        return removed;
+    }
+
+    @Override
+    public E removeFirst() {
+        int before = list.size();
+        E removed = list.removeFirst();
+        if (list.size() != before && !stale) {
+            if (removed == null || !unindex(removed, base))
+                stale = true;
+            base++;
+        }
+        return removed;
+    }
+
+    @Override
+    public E removeLast() {
+        int before = list.size();
+        E removed = list.removeLast();
+        if (list.size() != before && !stale && (removed == null || !unindex(removed, base + before - 1)))
+            stale = true;
+        return removed;
+    }
+
+    @Override
+    public E get(int index) {
+        return list.get(index);
+    }
+
+    @Override
+    public E set(int index, E element) {
+        E old = list.set(index, element);
+        if (stale)
+            return old;
+        if (index < 0 || element == null || old == null || !unindex(old, base + index))
+            stale = true;
+        else
+            bucketOf(element).insert(base + index, element);
+        return old;
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return list.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        list.clear();
+        index.clear();
+        base = 0;
+        stale = false;
+    }
+
+    /**
+     * Busca los elementos iguales a {@literal target} a través del índice.
+     *
+     * @param target elemento a buscar.
+     * @return lista con los elementos iguales, en el orden en que aparecen.
+     */
+    @Override
+    public List<E> findAll(E target) {
+        ensureIndex();
+        List<E> result = new ArrayList<>();
+        Bucket<E> bucket = (target == null) ? null : index.get(target);
+        if (bucket != null) {
+            for (E e : bucket.elements)
+                result.addLast(e);
+        }
+        return result;
+    }
+
+    /**
+     * La búsqueda mediante comparador no puede utilizar el índice, se delega a la lista envuelta.
+     */
+    @Override
+    public List<E> findAll(E target, Comparator<E> cmp) {
+        return list.findAll(target, cmp);
+    }
+
+    @Override
+    public List<E> intersectionWith(List<E> target) {
+        return list.intersectionWith(target);
+    }
+
+    @Override
+    public List<E> parallelFindAll(E target, Comparator<E> cmp) {
+        return list.parallelFindAll(target, cmp);
+    }
+
+    @Override
+    public List<E> parallelIntersectionWith(List<E> target) {
+        return list.parallelIntersectionWith(target);
+    }
+
+    /**
+     * @param e elemento a buscar.
+     * @return el índice de la primera aparición del elemento, -1 si no se encuentra.
+     */
+    @Override
+    public int indexOf(E e) {
+        ensureIndex();
+        Bucket<E> bucket = (e == null) ? null : index.get(e);
+        if (bucket == null)
+            return -1;
+        return (int) (bucket.positions.get(0) - base);
+    }
+
+    @Override
+    public void keepOnly(int from, int to) {
+        list.keepOnly(from, to);
+        stale = true;
+    }
+
+    @Override
+    public void detach(int from, int to) {
+        list.detach(from, to);
+        stale = true;
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return list.spliterator();
+    }
+
+    /**
+     * @return un iterador sobre la lista envuelta; las eliminaciones mediante {@link Iterator#remove()} marcan
+     * el índice como obsoleto.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        Iterator<E> it = list.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public E next() {
+                return it.next();
+            }
+
+            @Override
+            public void remove() {
+                it.remove();
+                stale = true;
+            }
+        };
+    }
+
+    /**
+     * @return la cantidad de veces que el índice se ha reconstruido por completo.
+     */
+    public long rebuildCount() {
+        return rebuilds;
+    }
+
+    @Override
+    public String toString() {
+        return list.toString();
+    }
+
+    /**
+     * Reconstruye el índice recorriendo la lista, si es que está obsoleto.
+     */
+    private void ensureIndex() {
+        if (!stale)
+            return;
+        index.clear();
+        base = 0;
+        long position = 0;
+        for (E e : list)
+            bucketOf(e).addLast(position++, e);
+        stale = false;
+        rebuilds++;
+    }
+
+    private Bucket<E> bucketOf(E e) {
+        return index.computeIfAbsent(e, k -> new Bucket<>());
+    }
+
+    /**
+     * Elimina una posición del índice.
+     *
+     * @param e valor que se encontraba en la posición.
+     * @param position posición absoluta a eliminar.
+     * @return false si la posición no se encontraba en el índice.
+     */
+    private boolean unindex(E e, long position) {
+        Bucket<E> bucket = index.get(e);
+        if (bucket == null || !bucket.remove(position))
+            return false;
+        if (bucket.positions.isEmpty())
+            index.remove(e);
+        return true;
+    }
+
+    /**
+     * Grupo de posiciones, en orden ascendente, de los elementos iguales a un valor, junto con los elementos en
+     * esas mismas posiciones.
+     */
+    private static final class Bucket<E> {
+        private final LongArrayList positions = new LongArrayList(2);
+        private final CircularArrayList<E> elements = new CircularArrayList<>(2);
+
+        void addFirst(long position, E e) {
+            positions.addFirst(position);
+            elements.addFirst(e);
+        }
+
+        void addLast(long position, E e) {
+            positions.addLast(position);
+            elements.addLast(e);
+        }
+
+        void insert(long position, E e) {
+            int at = search(position);
+            if (at < 0)
+                at = -(at + 1);
+            if (at == positions.size()) {
+                addLast(position, e);
+            } else {
+                positions.add(at, position);
+                elements.add(at, e);
+            }
+        }
+
+        boolean remove(long position) {
+            int at = search(position);
+            if (at < 0)
+                return false;
+            positions.remove(at);
+            elements.remove(at);
+            return true;
+        }
+
+        /**
+         * Búsqueda binaria con el mismo contrato que {@link java.util.Arrays#binarySearch(long[], long)}.
+         */
+        private int search(long position) {
+            int low = 0, high = positions.size() - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                long value = positions.get(mid);
+                if (value < position)
+                    low = mid + 1;
+                else if (value > position)
+                    high = mid - 1;
+                else
+                    return mid;
+            }
+            return -(low + 1);
+        }
+    }
+}
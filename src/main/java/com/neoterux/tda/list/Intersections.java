@@ -0,0 +1,191 @@
+package com.neoterux.tda.list;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Algoritmos de intersección compartidos por las implementaciones de {@link List}.
+ * Las variantes basadas en {@code equals} construyen un índice hash sobre la lista más pequeña y recorren la
+ * otra, con una dificultad de O(n + m) en lugar de O(n * m). En todos los casos los resultados se entregan en
+ * el orden de la lista {@literal source}.
+ */
+final class Intersections {
+
+    private Intersections() { }
+
+    /**
+     * Entrega cada elemento de {@literal source} que tenga al menos un elemento igual en {@literal target}.
+     * Cada elemento se entrega una sola vez por cada aparición en {@literal source}.
+     *
+     * @param source lista de donde se toman los elementos y su orden.
+     * @param target lista con la que se compara.
+     * @param sink destino de los elementos encontrados.
+     * @param <E> tipo de dato de las listas.
+     */
+    static <E> void semiJoin(List<E> source, List<E> target, Consumer<E> sink) {
+        Set<E> index = semiJoinIndex(source, target);
+        for (E e : source) {
+            if (index.contains(e))
+                sink.accept(e);
+        }
+    }
+
+    /**
+     * Variante paralela de {@link #semiJoin}: el índice se construye en el hilo que invoca el método y
+     * {@literal source} se recorre por segmentos en paralelo, entregando los resultados en el mismo orden.
+     *
+     * @param source lista de donde se toman los elementos y su orden.
+     * @param target lista con la que se compara.
+     * @param sink destino de los elementos encontrados.
+     * @param <E> tipo de dato de las listas.
+     */
+    static <E> void parallelSemiJoin(List<E> source, List<E> target, Consumer<E> sink) {
+        Set<E> index = semiJoinIndex(source, target);
+        ParallelSearch.forEachMatch(source, (e, emit) -> {
+            if (index.contains(e))
+                emit.accept(e);
+        }, sink);
+    }
+
+    /**
+     * @return conjunto de los elementos de {@literal target}, limitado a los presentes en {@literal source} si
+     * {@literal source} es la lista más pequeña.
+     */
+    private static <E> Set<E> semiJoinIndex(List<E> source, List<E> target) {
+        Set<E> index;
+        if (target.size() <= source.size()) {
+            index = new HashSet<>(capacityFor(target.size()));
+            for (E e : target)
+                index.add(e);
+        } else {
+            // el índice se construye sobre source, y se conservan únicamente las llaves presentes en target
+            Set<E> candidates = new HashSet<>(capacityFor(source.size()));
+            for (E e : source)
+                candidates.add(e);
+            index = new HashSet<>(capacityFor(candidates.size()));
+            for (E e : target) {
+                if (candidates.contains(e))
+                    index.add(e);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Entrega, por cada elemento de {@literal source}, una vez cada coincidencia en {@literal target}.
+     *
+     * @param source lista de donde se toma el orden de los resultados.
+     * @param target lista con la que se compara.
+     * @param emitTarget true para entregar los elementos de {@literal target} que coinciden, false para entregar
+     *                   el elemento de {@literal source} repetido por cada coincidencia.
+     * @param sink destino de los elementos encontrados.
+     * @param <E> tipo de dato de las listas.
+     */
+    static <E> void join(List<E> source, List<E> target, boolean emitTarget, Consumer<E> sink) {
+        Map<E, java.util.List<E>> index = joinIndex(source, target);
+        for (E e : source) {
+            java.util.List<E> bucket = index.get(e);
+            if (bucket == null)
+                continue;
+            for (E match : bucket)
+                sink.accept(emitTarget ? match : e);
+        }
+    }
+
+    /**
+     * Variante paralela de {@link #join}: el índice se construye en el hilo que invoca el método y
+     * {@literal source} se recorre por segmentos en paralelo, entregando los resultados en el mismo orden.
+     *
+     * @param source lista de donde se toma el orden de los resultados.
+     * @param target lista con la que se compara.
+     * @param emitTarget true para entregar los elementos de {@literal target} que coinciden, false para entregar
+     *                   el elemento de {@literal source} repetido por cada coincidencia.
+     * @param sink destino de los elementos encontrados.
+     * @param <E> tipo de dato de las listas.
+     */
+    static <E> void parallelJoin(List<E> source, List<E> target, boolean emitTarget, Consumer<E> sink) {
+        Map<E, java.util.List<E>> index = joinIndex(source, target);
+        ParallelSearch.forEachMatch(source, (e, emit) -> {
+            java.util.List<E> bucket = index.get(e);
+            if (bucket == null)
+                return;
+            for (E match : bucket)
+                emit.accept(emitTarget ? match : e);
+        }, sink);
+    }
+
+    /**
+     * @return índice de los elementos de {@literal target} agrupados por igualdad; si {@literal source} es la
+     * lista más pequeña, las llaves de {@literal source} sin coincidencias quedan asociadas a null.
+     */
+    private static <E> Map<E, java.util.List<E>> joinIndex(List<E> source, List<E> target) {
+        Map<E, java.util.List<E>> index = new HashMap<>(capacityFor(Math.min(source.size(), target.size())));
+        if (target.size() <= source.size()) {
+            for (E e : target)
+                index.computeIfAbsent(e, k -> new java.util.ArrayList<>(1)).add(e);
+        } else {
+            for (E e : source)
+                index.putIfAbsent(e, null);
+            for (E e : target) {
+                if (index.containsKey(e)) {
+                    java.util.List<E> bucket = index.get(e);
+                    if (bucket == null)
+                        index.put(e, bucket = new java.util.ArrayList<>(1));
+                    bucket.add(e);
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Variante de {@link #semiJoin} para comparadores que definen un orden total: ordena una copia de
+     * {@literal target} y busca cada elemento de {@literal source} mediante búsqueda binaria, con una
+     * dificultad de O((n + m) log m).
+     *
+     * @param source lista de donde se toman los elementos y su orden.
+     * @param target lista con la que se compara.
+     * @param cmp comparador de orden total, dos elementos son iguales si devuelve 0.
+     * @param sink destino de los elementos encontrados.
+     * @param <E> tipo de dato de las listas.
+     */
+    @SuppressWarnings("unchecked")
+    static <E> void sortedSemiJoin(List<E> source, List<E> target, Comparator<E> cmp, Consumer<E> sink) {
+        E[] sorted = (E[]) new Object[target.size()];
+        int i = 0;
+        for (E e : target)
+            sorted[i++] = e;
+        Arrays.sort(sorted, cmp);
+        for (E e : source) {
+            if (Arrays.binarySearch(sorted, e, cmp) >= 0)
+                sink.accept(e);
+        }
+    }
+
+    /**
+     * @param target elementos a indexar.
+     * @return conjunto con los elementos de {@literal target} para consultar la pertenencia en O(1), el mismo
+     * {@literal target} si ya es un {@link Set}.
+     */
+    static Set<?> membership(Iterable<?> target) {
+        if (target instanceof Set)
+            return (Set<?>) target;
+        Set<Object> index = new HashSet<>(capacityFor(Math.max(Batches.knownSize(target), 0)));
+        for (Object e : target)
+            index.add(e);
+        return index;
+    }
+
+    /**
+     * @param expected cantidad de elementos esperados.
+     * @return capacidad inicial de un HashMap para que no necesite redimensionarse.
+     */
+    private static int capacityFor(int expected) {
+        return (int) Math.min((expected / 0.75f) + 1, 1 << 30);
+    }
+}
@@ -1,11 +1,16 @@
 package com.neoterux.tda.list;
 
+import com.neoterux.tda.containers.NodePool;
 import com.neoterux.tda.list.content.DoubleNode;
 
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
-import static java.lang.Math.max;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+
 import static java.lang.Math.abs;
 
 public class LinkedList<E> implements MutableList<E>{
@@ -13,10 +18,46 @@ public class LinkedList<E> implements MutableList<E>{
     private int effectiveSize;
     private DoubleNode<E> last;
 
+    /**
+     * Cantidad de modificaciones estructurales (inserciones, eliminaciones y rotaciones), utilizada por los
+     * iteradores y las vistas de {@link #subList(int, int)} para detectar modificaciones de la lista fuera de
+     * ellos.
+     */
+    private int modCount;
+
+    /**
+     * Último nodo accedido mediante {@link #getNodeAt(int)}, null si no es válido.
+     */
+    private DoubleNode<E> finger;
+
+    /**
+     * Índice de {@link #finger} dentro de la lista.
+     */
+    private int fingerIndex;
+
+    /**
+     * Pool de nodos eliminados para reutilizarlos en las inserciones, null si la lista no recicla nodos.
+     */
+    private final NodePool<E, DoubleNode<E>> pool;
+
     /**
      * Crea una nueva lista Doblemente enlazada circular vacía.
      */
-    public LinkedList() { effectiveSize = 0; }
+    public LinkedList() { this(0); }
+
+    /**
+     * Crea una nueva lista Doblemente enlazada circular vacía que recicla los nodos eliminados. Útil cuando la
+     * lista se utiliza como cola o buffer con muchas inserciones y eliminaciones, ya que evita reservar un nodo
+     * nuevo en cada inserción.
+     *
+     * @param poolSize cantidad máxima de nodos eliminados a retener para reutilizar, 0 para no reciclar nodos.
+     */
+    public LinkedList(int poolSize) {
+        if (poolSize < 0)
+            throw new IllegalArgumentException("Pool size cannot be negative");
+        effectiveSize = 0;
+        pool = (poolSize == 0) ? null : new NodePool<>(poolSize, () -> new DoubleNode<>(null));
+    }
 
     /**
      * Añade un nuevo objeto en la primera posición.
@@ -31,8 +72,10 @@ public class LinkedList<E> implements MutableList<E>{
         if(last == null)
             return addLast(e);
         DoubleNode<E> header = last.getNext();// header
-        header.genPrevius(e);
+        header.linkPrevious(newNode(e));
+        fingerIndex++; // todos los nodos se desplazan una posición
         effectiveSize++;
+        modCount++;
         return true;
     }
 
@@ -47,18 +90,19 @@ public class LinkedList<E> implements MutableList<E>{
         if(e == null)
             return false;
         if(effectiveSize == 0) {
-            last = new DoubleNode<>(e);
+            last = newNode(e);
             last.setNext(last);
             last.setPrevious(last);
         }else {
-         last = last.genNext(e);
+         last = last.linkNext(newNode(e));
         }
         effectiveSize++;
+        modCount++;
         return true;
     }
 
     /**
-     * Añade un nuevo ítem en en índice especificado.
+     * Añade un nuevo ítem en en índice especificado, desplazando al ítem que se encontraba en esa posición.
      *
      * @param index indice a añadir.
      * @param element elemento a añadir.
@@ -68,9 +112,106 @@ public class LinkedList<E> implements MutableList<E>{
         if(element == null)
             return;
         Objects.checkIndex(index, effectiveSize);
-        getNodeAt(index).genNext(element);
+        getNodeAt(index).linkPrevious(newNode(element));
+        fingerIndex++; // el finger apunta al nodo desplazado
         effectiveSize++;
+        modCount++;
+
+    }
+
+    /**
+     * Añade los elementos al final de la lista, enlazándolos en una cadena que se une a la lista en un solo paso.
+     *
+     * @param elements elementos a añadir, los elementos null se omiten.
+     * @return true si se añadió al menos un elemento.
+     */
+    @Override
+    public boolean addAll(Iterable<? extends E> elements) {
+        return linkAll(effectiveSize, elements);
+    }
 
+    /**
+     * Inserta los elementos a partir de {@literal index}. Los elementos se enlazan primero en una cadena
+     * independiente que se une a la lista en un solo paso, por lo que únicamente se recorre la lista una vez para
+     * localizar {@literal index}, con una dificultad de O(min(index, n - index) + m).
+     *
+     * @param index posición donde se inserta el primer elemento, entre 0 y {@link #size()}.
+     * @param elements elementos a insertar, los elementos null se omiten.
+     * @return true si se insertó al menos un elemento.
+     */
+    @Override
+    public boolean addAll(int index, List<? extends E> elements) {
+        Objects.checkIndex(index, effectiveSize + 1);
+        return linkAll(index, elements);
+    }
+
+    /**
+     * Mueve todos los nodos de {@literal other} al final de esta lista, sin copiar elementos ni reservar nodos
+     * nuevos, con una dificultad de O(1). {@literal other} queda vacía.
+     *
+     * @param other lista de donde se mueven los nodos.
+     * @throws IllegalArgumentException si {@literal other} es esta misma lista.
+     */
+    public void transferAll(LinkedList<E> other) {
+        splice(effectiveSize, other);
+    }
+
+    /**
+     * Mueve todos los nodos de {@literal other} a esta lista a partir de {@literal index}, sin copiar elementos
+     * ni reservar nodos nuevos. Únicamente se recorre esta lista para localizar {@literal index}, por lo que
+     * tiene una dificultad de O(min(index, n - index)), e insertar al inicio o al final es O(1).
+     * {@literal other} queda vacía.
+     *
+     * @param index posición donde queda el primer elemento de {@literal other}, entre 0 y {@link #size()}.
+     * @param other lista de donde se mueven los nodos.
+     * @throws IllegalArgumentException si {@literal other} es esta misma lista.
+     * @throws IndexOutOfBoundsException si {@literal index} está fuera de límites.
+     */
+    public void splice(int index, LinkedList<E> other) {
+        if (other == this)
+            throw new IllegalArgumentException("Cannot splice a list into itself");
+        Objects.checkIndex(index, effectiveSize + 1);
+        if (other == null || other.isEmpty())
+            return;
+        DoubleNode<E> tail = other.last;
+        int count = other.effectiveSize;
+        other.clear();
+        linkChain(index, tail.getNext(), tail, count);
+    }
+
+    /**
+     * Divide la lista en {@literal index}: esta lista conserva los elementos [0, index) y los elementos
+     * [index, n) se mueven a una nueva lista, sin copiar elementos. Tiene una dificultad de
+     * O(min(index, n - index)) para localizar {@literal index}.
+     *
+     * @param index posición del primer elemento de la nueva lista, entre 0 y {@link #size()}.
+     * @return una nueva lista con los elementos a partir de {@literal index}, que no recicla nodos.
+     * @throws IndexOutOfBoundsException si {@literal index} está fuera de límites.
+     */
+    public LinkedList<E> splitAt(int index) {
+        Objects.checkIndex(index, effectiveSize + 1);
+        LinkedList<E> rest = new LinkedList<>();
+        if (index == effectiveSize)
+            return rest;
+        rest.last = last;
+        rest.effectiveSize = effectiveSize - index;
+        if (index == 0) {
+            clear();
+            return rest;
+        }
+        DoubleNode<E> first = getNodeAt(index);
+        DoubleNode<E> nLast = first.getPrevious();
+        DoubleNode<E> header = last.getNext();
+        // cierra el ciclo de cada lista
+        nLast.setNext(header);
+        header.setPrevious(nLast);
+        first.setPrevious(last);
+        last.setNext(first);
+        last = nLast;
+        effectiveSize = index;
+        modCount++;
+        finger = null;
+        return rest;
     }
 
     /**
@@ -82,17 +223,89 @@ public class LinkedList<E> implements MutableList<E>{
     @Override
     public E remove(int index) {
         if(effectiveSize == 1) {
-            E e = last.getContent();
+            DoubleNode<E> node = last;
+            E e = node.getContent();
             clear();
+            recycle(node);
             return e;
         }
         DoubleNode<E> node = getNodeAt(index);
+        DoubleNode<E> following = node.getNext();
         if(index == effectiveSize -1 || index == -1){
             last = node.getPrevious();
         }
+        E e = node.getContent();
         node.delete();
+        recycle(node);
         effectiveSize--;
-        return node.getContent();
+        modCount++;
+        // el nodo siguiente ocupa ahora el índice del nodo eliminado
+        if (fingerIndex < effectiveSize)
+            finger = following;
+        else
+            finger = null;
+        return e;
+    }
+
+    /**
+     * Elimina los elementos que cumplan con {@literal filter} en un solo recorrido de los nodos: los nodos que
+     * se conservan se enlazan entre sí conforme se recorre, y los eliminados se devuelven al pool, con una
+     * dificultad de O(n). Si {@literal filter} lanza una excepción, los elementos que aún no se evaluaron se
+     * conservan.
+     *
+     * @param filter condición de los elementos a eliminar.
+     * @return true si se eliminó al menos un elemento.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        if (last == null)
+            return false;
+        DoubleNode<E> node = last.getNext();
+        DoubleNode<E> first = null, kept = null; // primer y último nodo conservado
+        int n = effectiveSize, i = 0, removed = 0;
+        try {
+            for (; i < n; i++) {
+                DoubleNode<E> next = node.getNext();
+                if (filter.test(node.getContent())) {
+                    node.clean();
+                    recycle(node);
+                    removed++;
+                } else {
+                    if (first == null) {
+                        first = node;
+                    } else {
+                        kept.setNext(node);
+                        node.setPrevious(kept);
+                    }
+                    kept = node;
+                }
+                node = next;
+            }
+        } finally {
+            if (removed > 0) {
+                if (i < n) { // el filtro lanzó una excepción, se conservan los nodos desde node hasta last
+                    if (first == null) {
+                        first = node;
+                    } else {
+                        kept.setNext(node);
+                        node.setPrevious(kept);
+                    }
+                    kept = last;
+                }
+                if (first == null) {
+                    last = null;
+                } else {
+                    kept.setNext(first);
+                    first.setPrevious(kept);
+                    last = kept;
+                }
+                finger = null;
+                effectiveSize -= removed;
+                modCount++;
+            }
+        }
+        return removed > 0;
     }
 
     /**
@@ -128,7 +341,8 @@ public class LinkedList<E> implements MutableList<E>{
     }
 
     /**
-     * Reemplaza un ítem de la lista en el indice especificado por otro objeto.
+     * Reemplaza un ítem de la lista en el indice especificado por otro objeto, el contenido se reemplaza dentro
+     * del mismo nodo.
      *
      * @param index indice a reemplazar
      * @param element elemento con el que se va a reemplazar.
@@ -142,9 +356,10 @@ public class LinkedList<E> implements MutableList<E>{
         if(element == null)
             return null;
         Objects.checkIndex(index, effectiveSize);
-        DoubleNode<E> old = getNodeAt(index);
-        old.replaceWith(element);
-        return old.getContent();
+        DoubleNode<E> node = getNodeAt(index);
+        E old = node.getContent();
+        node.setContent(element);
+        return old;
     }
 
     /**
@@ -170,12 +385,10 @@ public class LinkedList<E> implements MutableList<E>{
     public void clear() {
         if(last == null)
             return;
-        DoubleNode<E> pointer = last.getNext();
-        for (int i = 0; i < effectiveSize; i++) {
-            pointer.setPrevious(null); // clear all references.
-        }
         last = null;
+        finger = null;
         effectiveSize = 0;
+        modCount++;
     }
 
     /**
@@ -214,16 +427,50 @@ public class LinkedList<E> implements MutableList<E>{
         return container;
     }
 
+    /**
+     * Variante paralela de {@link #findAll(Object, Comparator)}, devuelve el mismo resultado. Las listas
+     * pequeñas se recorren en el hilo que invoca el método.
+     */
+    @Override
+    public List<E> parallelFindAll(E target, Comparator<E> cmp) {
+        if (cmp == null || target == null || !ParallelSearch.worthSplitting(effectiveSize))
+            return findAll(target, cmp);
+        List<E> container = new LinkedList<>();
+        ParallelSearch.forEachMatch(this, (item, emit) -> {
+            if (cmp.compare(item, target) == 0)
+                emit.accept(item);
+        }, container::addLast);
+        return container;
+    }
+
     /**
      * Compara los elementos de la lista donde fue invocado, con los elementos de {@literal target} que sean iguales
-     * de acuerdo a la implementación del método {@code equals} de los objetos de tipo {@link E}.
+     * de acuerdo a la implementación del método {@code equals} de los objetos de tipo {@link E}. Utiliza un índice
+     * hash sobre la lista más pequeña, por lo que tiene una dificultad de O(n + m).
      *
      * @param target Lista con elementos a comparar.
      * @return Lista con items de donde fue invocado que hayan cumplido las condiciones del equals {@see E#equals}.
      */
     @Override
     public List<E> intersectionWith(List<E> target) {
-        return intersectionWith(target, (i, t)-> i.equals(t)? 0 : 1 );
+        List<E> container = new LinkedList<>();
+        if(target == null || target.isEmpty())
+            return container;
+        Intersections.semiJoin(this, target, container::addLast);
+        return container;
+    }
+
+    /**
+     * Variante paralela de {@link #intersectionWith(List)}, devuelve el mismo resultado. Las listas pequeñas se
+     * recorren en el hilo que invoca el método.
+     */
+    @Override
+    public List<E> parallelIntersectionWith(List<E> target) {
+        if (target == null || target.isEmpty() || !ParallelSearch.worthSplitting(effectiveSize))
+            return intersectionWith(target);
+        List<E> container = new LinkedList<>();
+        Intersections.parallelSemiJoin(this, target, container::addLast);
+        return container;
     }
 
 
@@ -236,11 +483,30 @@ public class LinkedList<E> implements MutableList<E>{
      * @return Lista con items de donde fue invocado que hayan cumplido las condiciones del equals {@see E#equals}.
      */
     public List<E> intersectionWith(List<E> targetList, Comparator<E> cmp){
+        return intersectionWith(targetList, cmp, false);
+    }
+
+    /**
+     * Compara los elementos de la lista donde fue invocado, con los elementos de {@literal target} que sean iguales
+     * de acuerdo a la implementacion del comparador. Si el comparador define un orden total, ordena una copia de
+     * {@literal targetList} y busca cada elemento mediante búsqueda binaria, con una dificultad de
+     * O((n + m) log m); caso contrario compara todos los pares de elementos, O(n * m).
+     *
+     * @param targetList Lista con elementos a comparar.
+     * @param cmp Comparador que dicta que elementos son iguales (return 0).
+     * @param totalOrder true si el comparador define un orden total entre los elementos.
+     * @return Lista con items de donde fue invocado que hayan cumplido las condiciones del comparador.
+     */
+    public List<E> intersectionWith(List<E> targetList, Comparator<E> cmp, boolean totalOrder){
         if(cmp == null)
             throw new IllegalArgumentException("Comparator cannot be null");
         List<E> container = new LinkedList<>();
         if(targetList == null || targetList.isEmpty())
             return container;
+        if (totalOrder) {
+            Intersections.sortedSemiJoin(this, targetList, cmp, container::addLast);
+            return container;
+        }
         for(E item : this) for(E target : targetList) {
             if (cmp.compare(item, target) == 0) { // the intersection is 1->1, so we can break the loop.
                 container.addLast(item);
@@ -272,10 +538,11 @@ public class LinkedList<E> implements MutableList<E>{
         }
         sNode.setPrevious(tNode);
         tNode.setNext(sNode);
-        if(to == effectiveSize - 1)
-            last = tNode;
+        last = tNode;
+        finger = null;
 
         effectiveSize = nSize;
+        modCount++;
     }
 
     /**
@@ -287,22 +554,25 @@ public class LinkedList<E> implements MutableList<E>{
     @Override
     public void detach(final int from, int to) {
         checkRange(from, to);
+        to = Math.min(effectiveSize-1, to);
         if(from == 0 && to == effectiveSize -1) {
             clear();
             return;
         }
-        to = Math.min(effectiveSize-1, to);
         int original = effectiveSize;
         DoubleNode<E> head = getNodeAt(from -1);
         DoubleNode<E> trail = head.getNext();
         int n_moves = to - from +1;
         for (int i = 0; i < n_moves ; i++) {
             trail = trail.getNext();
-            trail.getPrevious().delete();
+            DoubleNode<E> removed = trail.getPrevious();
+            removed.delete();
+            recycle(removed);
         }
 
         effectiveSize -= n_moves;
-        System.out.println("size: " + effectiveSize + " moves: " + n_moves);
+        modCount++;
+        finger = null;
         head.setNext(trail);
         trail.setPrevious(head);
         if (to == original - 1)
@@ -311,36 +581,88 @@ public class LinkedList<E> implements MutableList<E>{
     }
 
     /**
-     * @return un Objeto iterador.
+     * Vista de los elementos en el rango [from, to) que comparte los nodos con esta lista, sin copiar
+     * elementos. La vista accede a los nodos mediante los índices de esta lista, por lo que los recorridos
+     * secuenciales sobre la vista tienen un costo O(1) por acceso gracias al último nodo accedido. Las
+     * inserciones y eliminaciones sobre la vista se aplican sobre esta lista; si esta lista se modifica
+     * estructuralmente fuera de la vista, cualquier operación posterior sobre la vista lanza
+     * {@link java.util.ConcurrentModificationException}.
+     *
+     * @param from índice del primer elemento de la vista, inclusivo.
+     * @param to índice final de la vista, exclusivo.
+     * @return una vista sobre el rango.
+     */
+    @Override
+    public MutableList<E> subList(int from, int to) {
+        return new SubList<>(this, from, to, () -> modCount);
+    }
+
+    /**
+     * @return un spliterator que se divide en dos rangos de nodos del mismo tamaño.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new NodeSpliterator<>((last == null) ? null : last.getNext(), effectiveSize);
+    }
+
+    /**
+     * {@link Iterator#remove()} desenlaza el último nodo devuelto con una dificultad de O(1), por lo que
+     * filtrar la lista con el iterador es un solo recorrido.
+     *
+     * @return un iterador que lanza {@link ConcurrentModificationException} si la lista se modifica
+     * estructuralmente fuera del iterador durante el recorrido.
      */
     @Override
     public Iterator<E> iterator() {
 
         return new Iterator<>() {
-            private DoubleNode<E> head = (last == null)? null : last.getNext();
-            private DoubleNode<E> pointer = head;
+            private DoubleNode<E> pointer = (last == null)? null : last.getNext();
+
+            /**
+             * Último nodo devuelto por {@link #next()}, null si ya se eliminó o aún no se llama a next.
+             */
+            private DoubleNode<E> lastReturned;
             private int idx = 0;
+            private int expectedModCount = modCount;
+
             @Override
             public boolean hasNext() {
-                if(last == null)
-                    pointer = null;
-                return pointer != null && idx < effectiveSize;
+                return idx < effectiveSize;
             }
 
             @Override
             public E next() {
-                if (idx >= effectiveSize || pointer == null)
-                    return null;
-                E out = pointer.getContent();
+                checkForComodification();
+                if (idx >= effectiveSize)
+                    throw new NoSuchElementException();
+                lastReturned = pointer;
                 pointer = pointer.getNext();
                 idx++;
-                return out;
+                return lastReturned.getContent();
+            }
+
+            @Override
+            public void remove() {
+                if (lastReturned == null)
+                    throw new IllegalStateException();
+                checkForComodification();
+                unlink(lastReturned);
+                lastReturned = null;
+                idx--;
+                expectedModCount = modCount;
+            }
+
+            private void checkForComodification() {
+                if (modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
             }
         };
     }
 
     /**
-     * Obtiene un nodo en un punto específico, tiene dificultad O(n/2).
+     * Obtiene un nodo en un punto específico, recorriendo desde el extremo más cercano (la cabeza, el último
+     * nodo o el último nodo accedido). Los recorridos secuenciales por índice tienen un costo O(1) por acceso,
+     * en el peor caso tiene dificultad O(n/2).
      *
      * @param idx index del nodo objetivo
      * @return Nodo objetivo.
@@ -351,23 +673,117 @@ public class LinkedList<E> implements MutableList<E>{
         if(idx < 0){ // fix index
             idx += effectiveSize;
         }
-        DoubleNode<E> target = last;
-        int mid = Math.floorDiv(max(effectiveSize-1, 0), 2);
-        boolean reverse = (idx > mid) || (idx + effectiveSize > mid && idx < 0);
-        int n_moves = abs(idx + 1);
-//        if(reverse)
-//            n_moves = effectiveSize - n_moves-1;
-        if(idx > 0 && reverse)
-            n_moves = effectiveSize - n_moves;
+        DoubleNode<E> target = last.getNext();
+        int n_moves = idx;
+        boolean reverse = false;
+        if (effectiveSize - 1 - idx < n_moves) {
+            target = last;
+            n_moves = effectiveSize - 1 - idx;
+            reverse = true;
+        }
+        if (finger != null && abs(idx - fingerIndex) < n_moves) {
+            target = finger;
+            n_moves = abs(idx - fingerIndex);
+            reverse = idx < fingerIndex;
+        }
         for (int i = 0; i < n_moves; i++) {
             if(reverse)
                 target = target.getPrevious();
             else
                 target = target.getNext();
         }
+        finger = target;
+        fingerIndex = idx;
         return target;
     }
 
+    /**
+     * Desenlaza un nodo de la lista sin recorrerla y lo devuelve al pool.
+     */
+    private void unlink(DoubleNode<E> node) {
+        if (effectiveSize == 1) {
+            last = null;
+        } else if (node == last) {
+            last = node.getPrevious();
+        }
+        node.delete();
+        recycle(node);
+        finger = null;
+        effectiveSize--;
+        modCount++;
+    }
+
+    /**
+     * Enlaza los elementos en una cadena de nodos y la une a la lista mediante {@link #linkChain}.
+     */
+    private boolean linkAll(int index, Iterable<? extends E> elements) {
+        DoubleNode<E> first = null, tail = null;
+        int added = 0;
+        for (E e : elements) {
+            if (e == null)
+                continue;
+            DoubleNode<E> node = newNode(e);
+            if (first == null) {
+                first = node;
+            } else {
+                tail.setNext(node);
+                node.setPrevious(tail);
+            }
+            tail = node;
+            added++;
+        }
+        if (added == 0)
+            return false;
+        first.setPrevious(tail);
+        tail.setNext(first);
+        linkChain(index, first, tail, added);
+        return true;
+    }
+
+    /**
+     * Une una cadena circular de nodos a la lista antes del nodo en {@literal index}, o al final si
+     * {@literal index} es igual al tamaño de la lista.
+     *
+     * @param index posición donde queda el primer nodo de la cadena, previamente validada.
+     * @param first primer nodo de la cadena.
+     * @param tail último nodo de la cadena, enlazado con {@literal first}.
+     * @param count cantidad de nodos de la cadena.
+     */
+    private void linkChain(int index, DoubleNode<E> first, DoubleNode<E> tail, int count) {
+        if (last == null) {
+            last = tail;
+        } else {
+            DoubleNode<E> following = (index == effectiveSize) ? last.getNext() : getNodeAt(index);
+            DoubleNode<E> preceding = following.getPrevious();
+            preceding.setNext(first);
+            first.setPrevious(preceding);
+            tail.setNext(following);
+            following.setPrevious(tail);
+            if (index == effectiveSize)
+                last = tail;
+            if (fingerIndex >= index)
+                fingerIndex += count; // los nodos posteriores se desplazan
+        }
+        effectiveSize += count;
+        modCount++;
+    }
+
+    /**
+     * @param e contenido del nodo.
+     * @return un nodo sin enlazar, reutilizado del pool si es posible.
+     */
+    private DoubleNode<E> newNode(E e) {
+        return (pool == null) ? new DoubleNode<>(e) : pool.acquire(e);
+    }
+
+    /**
+     * Devuelve al pool un nodo que ya fue desenlazado de la lista.
+     */
+    private void recycle(DoubleNode<E> node) {
+        if (pool != null)
+            pool.release(node);
+    }
+
     private void checkRange(int from, int to){
         if(from < 0 || to < 0)
             throw new IndexOutOfBoundsException("Values cannot be negative");
@@ -409,6 +825,8 @@ public class LinkedList<E> implements MutableList<E>{
         boolean reverse = times < 0;
         // this will reduce the numbers of iterations to the size of the list
         times = Math.abs(times) % size();
+        finger = null;
+        modCount++;
 
         while (times > 0){
             if (reverse){
@@ -1,7 +1,24 @@
 package com.neoterux.tda.list;
 
+import com.neoterux.tda.io.BinaryStreams;
+import com.neoterux.tda.io.StreamCodec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 
 public interface List<E> extends Iterable<E> {
@@ -12,8 +29,108 @@ public interface List<E> extends Iterable<E> {
 
     void add(int index, E element);
 
+    /**
+     * Añade los elementos de {@literal elements} al final de la lista, en orden. Los elementos null se omiten.
+     * <p>
+     * Por defecto añade cada elemento mediante {@link #addLast(Object)}, las implementaciones lo sobreescriben
+     * para reservar espacio o enlazar los nodos una sola vez por lote.
+     *
+     * @param elements elementos a añadir.
+     * @return true si se añadió al menos un elemento.
+     */
+    default boolean addAll(Iterable<? extends E> elements) {
+        boolean changed = false;
+        // una vista de subList puede recorrer esta misma lista
+        for (E e : (elements == this || elements instanceof SubList) ? Batches.snapshot(elements) : elements)
+            changed |= addLast(e);
+        return changed;
+    }
+
+    /**
+     * Inserta los elementos de {@literal elements} a partir de {@literal index}, en orden, desplazando al
+     * elemento que se encontraba en esa posición y a los siguientes. Un {@literal index} igual al tamaño de la
+     * lista añade los elementos al final. Los elementos null se omiten.
+     * <p>
+     * Por defecto inserta cada elemento mediante {@link #add(int, Object)}.
+     *
+     * @param index posición donde se inserta el primer elemento, entre 0 y {@link #size()}.
+     * @param elements elementos a insertar.
+     * @return true si se insertó al menos un elemento.
+     * @throws IndexOutOfBoundsException si {@literal index} está fuera de límites.
+     */
+    default boolean addAll(int index, List<? extends E> elements) {
+        Objects.checkIndex(index, size() + 1);
+        if (index == size())
+            return addAll(elements);
+        int position = index;
+        for (E e : (elements == this || elements instanceof SubList) ? Batches.snapshot(elements) : elements) {
+            if (e != null)
+                add(position++, e);
+        }
+        return position > index;
+    }
+
+    /**
+     * Inserta los elementos de {@literal elements} al inicio de la lista, conservando su orden, equivalente a
+     * {@code addAll(0, elements)}.
+     *
+     * @param elements elementos a insertar.
+     * @return true si se insertó al menos un elemento.
+     */
+    default boolean addAllFirst(List<? extends E> elements) {
+        return addAll(0, elements);
+    }
+
     E remove(int index);
 
+    /**
+     * Elimina los elementos que cumplan con {@literal filter}, conservando el orden de los demás. Si
+     * {@literal filter} lanza una excepción, los elementos que aún no se evaluaron se conservan.
+     * <p>
+     * Por defecto compacta los elementos que se conservan hacia el inicio mediante {@link #get(int)} y
+     * {@link #set(int, Object)} en un solo recorrido, y elimina los sobrantes del final con
+     * {@link #removeLast()}; las implementaciones lo sobreescriben para compactar su arreglo o reenlazar sus
+     * nodos directamente.
+     *
+     * @param filter condición de los elementos a eliminar.
+     * @return true si se eliminó al menos un elemento.
+     */
+    default boolean removeIf(Predicate<? super E> filter) {
+        return Batches.compact(this, filter, size -> {
+            for (int i = size(); i > size; i--)
+                removeLast();
+        });
+    }
+
+    /**
+     * Conserva únicamente los elementos que tengan al menos un elemento igual en {@literal target}, de acuerdo
+     * al método {@code equals}, mediante un índice hash sobre {@literal target} y una sola llamada a
+     * {@link #removeIf(Predicate)}, con una dificultad de O(n + m).
+     *
+     * @param target lista con los elementos a conservar.
+     * @return true si se eliminó al menos un elemento.
+     */
+    default boolean retainAll(List<?> target) {
+        Objects.requireNonNull(target);
+        if (target == this)
+            return false;
+        Set<?> index = Intersections.membership(target);
+        return removeIf(e -> !index.contains(e));
+    }
+
+    /**
+     * Variante de {@link #retainAll(List)} para las colecciones de {@code java.util}. Si {@literal target} es un
+     * {@link Set} se consulta directamente, caso contrario se copia a un índice hash.
+     *
+     * @param target colección con los elementos a conservar.
+     * @return true si se eliminó al menos un elemento.
+     */
+    default boolean retainAll(Collection<?> target) {
+        Objects.requireNonNull(target);
+        Set<?> index = Intersections.membership(target);
+        return removeIf(e -> !index.contains(e));
+    }
+
     E removeFirst();
 
     E removeLast();
@@ -34,6 +151,51 @@ public interface List<E> extends Iterable<E> {
 
     List<E> intersectionWith(List<E> target);
 
+    /**
+     * Variante paralela de {@link #findAll(Object, Comparator)}: divide la lista en segmentos que se recorren en
+     * el {@link java.util.concurrent.ForkJoinPool#commonPool()}, y concatena los resultados en el orden original.
+     * Las listas con menos de 16384 elementos, o si el pool dispone de un solo hilo, se recorren en el hilo que
+     * invoca el método. La lista no debe modificarse durante la búsqueda.
+     * <p>
+     * Por defecto el comparador recibe {@literal target} como primer argumento y el resultado es un
+     * {@link ArrayList}, las implementaciones lo sobreescriben para conservar la semántica de su versión
+     * secuencial.
+     *
+     * @param target objeto a comparar con los elementos de la lista.
+     * @param cmp comparador, debe poder invocarse desde varios hilos a la vez.
+     * @return lista con los elementos para los que el comparador devolvió 0.
+     */
+    default List<E> parallelFindAll(E target, Comparator<E> cmp) {
+        if (cmp == null || target == null || !ParallelSearch.worthSplitting(size()))
+            return findAll(target, cmp);
+        List<E> container = new ArrayList<>();
+        ParallelSearch.forEachMatch(this, (item, emit) -> {
+            if (cmp.compare(target, item) == 0)
+                emit.accept(item);
+        }, container::addLast);
+        return container;
+    }
+
+    /**
+     * Variante paralela de {@link #intersectionWith(List)}: el índice hash de la intersección se construye en el
+     * hilo que invoca el método, y esta lista se recorre por segmentos en el
+     * {@link java.util.concurrent.ForkJoinPool#commonPool()}. Las listas con menos de 16384 elementos, o si el
+     * pool dispone de un solo hilo, se recorren en el hilo que invoca el método.
+     * <p>
+     * Por defecto se añade cada elemento de esta lista que tenga al menos un elemento igual en {@literal target}
+     * a un {@link ArrayList}.
+     *
+     * @param target lista a comparar, no debe modificarse durante la búsqueda.
+     * @return lista con los elementos en común, en el orden de esta lista.
+     */
+    default List<E> parallelIntersectionWith(List<E> target) {
+        if (target == null || target.isEmpty() || !ParallelSearch.worthSplitting(size()))
+            return intersectionWith(target);
+        List<E> container = new ArrayList<>();
+        Intersections.parallelSemiJoin(this, target, container::addLast);
+        return container;
+    }
+
     default int indexOf(E e) {
         Iterator<E> it = iterator();
         int idx = -1;
@@ -46,4 +208,75 @@ public interface List<E> extends Iterable<E> {
         return idx;
     }
 
+    /**
+     * Por defecto recorre la lista mediante su iterador y se divide copiando lotes de elementos a un arreglo,
+     * las implementaciones sobreescriben este método para dividirse sin copiar.
+     *
+     * @return un spliterator que conoce el tamaño de la lista.
+     */
+    @Override
+    default Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+    /**
+     * @return un Stream secuencial sobre los elementos de la lista.
+     */
+    default Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * @return un Stream paralelo sobre los elementos de la lista.
+     */
+    default Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Escribe los elementos de la lista en orden en una sola pasada, en el formato de {@link BinaryStreams}. El flujo
+     * no se cierra.
+     *
+     * @param out flujo destino.
+     * @param codec codec de los elementos.
+     * @throws IOException si ocurre un error al escribir.
+     */
+    default void writeTo(OutputStream out, StreamCodec<E> codec) throws IOException {
+        BinaryStreams.write(out, this, size(), codec);
+    }
+
+    /**
+     * Escribe los elementos de la lista en orden en el canal especificado, ver
+     * {@link #writeTo(OutputStream, StreamCodec)}.
+     *
+     * @param channel canal destino.
+     * @param codec codec de los elementos.
+     * @throws IOException si ocurre un error al escribir.
+     */
+    default void writeTo(WritableByteChannel channel, StreamCodec<E> codec) throws IOException {
+        writeTo(Channels.newOutputStream(channel), codec);
+    }
+
+    /**
+     * Lee elementos escritos mediante {@link #writeTo(OutputStream, StreamCodec)} y los añade al final de la lista, sin
+     * consumir bytes posteriores al último elemento.
+     *
+     * @param in flujo origen.
+     * @param codec codec de los elementos.
+     * @throws IOException si ocurre un error al leer o el flujo no tiene un formato válido.
+     */
+    default void readFrom(InputStream in, StreamCodec<E> codec) throws IOException {
+        BinaryStreams.read(in, codec, this::addLast);
+    }
+
+    /**
+     * Lee elementos del canal especificado, ver {@link #readFrom(InputStream, StreamCodec)}.
+     *
+     * @param channel canal origen.
+     * @param codec codec de los elementos.
+     * @throws IOException si ocurre un error al leer o el flujo no tiene un formato válido.
+     */
+    default void readFrom(ReadableByteChannel channel, StreamCodec<E> codec) throws IOException {
+        readFrom(Channels.newInputStream(channel), codec);
+    }
 }
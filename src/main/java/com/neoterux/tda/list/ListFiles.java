@@ -0,0 +1,338 @@
+package com.neoterux.tda.list;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.PrimitiveIterator;
+
+/**
+ * Persistencia de listas en archivos binarios compactos que pueden volver a abrirse mediante
+ * {@link MappedByteBuffer}, sin leer ni decodificar el archivo completo.
+ * <p>
+ * El archivo inicia con un encabezado de {@value #HEADER_BYTES} bytes, seguido de los elementos codificados con un
+ * ancho fijo, uno tras otro. Todos los valores se escriben en orden little-endian:
+ * <pre>
+ *  0  int   MAGIC ("TDAL")
+ *  4  int   VERSION
+ *  8  int   ancho en bytes de cada elemento
+ * 12  int   reservado (0)
+ * 16  long  cantidad de elementos
+ * 24  ...   elementos
+ * </pre>
+ * Las listas de objetos se codifican mediante un {@link ElementCodec}; las listas primitivas utilizan
+ * directamente 4 u 8 bytes por elemento, por lo que un archivo de {@link IntList} puede abrirse también como
+ * {@code MappedList<Integer>} con {@link ElementCodec#ints()}.
+ */
+public final class ListFiles {
+
+    /**
+     * Identificador del formato, corresponde a los caracteres "TDAL".
+     */
+    public static final int MAGIC = 0x5444414C;
+
+    /**
+     * Versión actual del formato.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * Tamaño del encabezado, los elementos inician alineados a 8 bytes.
+     */
+    public static final int HEADER_BYTES = 24;
+
+    /**
+     * Tamaño del buffer utilizado para escribir los elementos.
+     */
+    private static final int CHUNK_BYTES = 1 << 16;
+
+    /**
+     * Tamaño máximo de cada región mapeada al cargar listas primitivas.
+     */
+    private static final int REGION_BYTES = 1 << 30;
+
+    private ListFiles() { }
+
+    /**
+     * Escribe los elementos de una lista, reemplazando el archivo si existe.
+     *
+     * @param path archivo destino.
+     * @param list lista a escribir, no debe contener elementos null.
+     * @param codec codec de los elementos.
+     * @param <E> tipo de dato de la lista.
+     * @throws IOException si ocurre un error al escribir.
+     */
+    public static <E> void write(Path path, List<E> list, ElementCodec<E> codec) throws IOException {
+        int width = codec.width();
+        try (FileChannel channel = openForWrite(path)) {
+            ByteBuffer chunk = newChunk(width);
+            long count = 0;
+            for (E e : list) {
+                if (chunk.remaining() < width)
+                    drain(channel, chunk);
+                codec.write(chunk, chunk.position(), e);
+                chunk.position(chunk.position() + width);
+                count++;
+            }
+            finish(channel, chunk, width, count);
+        }
+    }
+
+    /**
+     * Escribe los elementos de una lista de enteros, reemplazando el archivo si existe.
+     *
+     * @param path archivo destino.
+     * @param list lista a escribir.
+     * @throws IOException si ocurre un error al escribir.
+     */
+    public static void writeInts(Path path, IntList list) throws IOException {
+        try (FileChannel channel = openForWrite(path)) {
+            ByteBuffer chunk = newChunk(Integer.BYTES);
+            PrimitiveIterator.OfInt it = list.iterator();
+            long count = 0;
+            while (it.hasNext()) {
+                if (chunk.remaining() < Integer.BYTES)
+                    drain(channel, chunk);
+                chunk.putInt(it.nextInt());
+                count++;
+            }
+            finish(channel, chunk, Integer.BYTES, count);
+        }
+    }
+
+    /**
+     * Escribe los elementos de una lista de long, reemplazando el archivo si existe.
+     *
+     * @param path archivo destino.
+     * @param list lista a escribir.
+     * @throws IOException si ocurre un error al escribir.
+     */
+    public static void writeLongs(Path path, LongList list) throws IOException {
+        try (FileChannel channel = openForWrite(path)) {
+            ByteBuffer chunk = newChunk(Long.BYTES);
+            PrimitiveIterator.OfLong it = list.iterator();
+            long count = 0;
+            while (it.hasNext()) {
+                if (chunk.remaining() < Long.BYTES)
+                    drain(channel, chunk);
+                chunk.putLong(it.nextLong());
+                count++;
+            }
+            finish(channel, chunk, Long.BYTES, count);
+        }
+    }
+
+    /**
+     * Escribe los elementos de una lista de double, reemplazando el archivo si existe.
+     *
+     * @param path archivo destino.
+     * @param list lista a escribir.
+     * @throws IOException si ocurre un error al escribir.
+     */
+    public static void writeDoubles(Path path, DoubleList list) throws IOException {
+        try (FileChannel channel = openForWrite(path)) {
+            ByteBuffer chunk = newChunk(Double.BYTES);
+            PrimitiveIterator.OfDouble it = list.iterator();
+            long count = 0;
+            while (it.hasNext()) {
+                if (chunk.remaining() < Double.BYTES)
+                    drain(channel, chunk);
+                chunk.putDouble(it.nextDouble());
+                count++;
+            }
+            finish(channel, chunk, Double.BYTES, count);
+        }
+    }
+
+    /**
+     * Abre un archivo en modo de solo lectura como una lista mapeada en memoria, sin leer sus elementos.
+     *
+     * @param path archivo a abrir.
+     * @param codec codec de los elementos, su ancho debe coincidir con el del archivo.
+     * @param <E> tipo de dato de la lista.
+     * @return vista de tamaño fijo sobre el archivo.
+     * @throws IOException si el archivo no puede leerse o no tiene un formato válido.
+     */
+    public static <E> MappedList<E> map(Path path, ElementCodec<E> codec) throws IOException {
+        return map(path, codec, false);
+    }
+
+    /**
+     * Abre un archivo como una lista mapeada en memoria, sin leer sus elementos.
+     *
+     * @param path archivo a abrir.
+     * @param codec codec de los elementos, su ancho debe coincidir con el del archivo.
+     * @param writable true para permitir {@link MappedList#set(int, Object)}, que escribe en el archivo.
+     * @param <E> tipo de dato de la lista.
+     * @return vista de tamaño fijo sobre el archivo.
+     * @throws IOException si el archivo no puede leerse o no tiene un formato válido.
+     */
+    public static <E> MappedList<E> map(Path path, ElementCodec<E> codec, boolean writable) throws IOException {
+        FileChannel channel = writable
+                ? FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : FileChannel.open(path, StandardOpenOption.READ);
+        try (channel) {
+            int count = readHeader(channel, codec.width());
+            return new MappedList<>(channel, HEADER_BYTES, count, codec, writable);
+        }
+    }
+
+    /**
+     * Carga los elementos de un archivo en un nuevo {@link ArrayList}.
+     *
+     * @param path archivo a leer.
+     * @param codec codec de los elementos, su ancho debe coincidir con el del archivo.
+     * @param <E> tipo de dato de la lista.
+     * @return lista con los elementos del archivo.
+     * @throws IOException si el archivo no puede leerse o no tiene un formato válido.
+     */
+    public static <E> ArrayList<E> load(Path path, ElementCodec<E> codec) throws IOException {
+        try (MappedList<E> mapped = map(path, codec)) {
+            ArrayList<E> list = new ArrayList<>(Math.max(mapped.size(), 1));
+            for (E e : mapped)
+                list.addLast(e);
+            return list;
+        }
+    }
+
+    /**
+     * Carga un archivo de enteros copiando los bytes mapeados directamente al arreglo de la lista.
+     *
+     * @param path archivo a leer.
+     * @return lista con los elementos del archivo.
+     * @throws IOException si el archivo no puede leerse o no tiene un formato válido.
+     */
+    public static IntArrayList loadInts(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            int[] array = new int[readHeader(channel, Integer.BYTES)];
+            int loaded = 0;
+            while (loaded < array.length) {
+                MappedByteBuffer region = mapRegion(channel, loaded, array.length, Integer.BYTES);
+                int n = region.capacity() / Integer.BYTES;
+                region.asIntBuffer().get(array, loaded, n);
+                DirectBuffers.free(region);
+                loaded += n;
+            }
+            return IntArrayList.wrap(array);
+        }
+    }
+
+    /**
+     * Carga un archivo de long copiando los bytes mapeados directamente al arreglo de la lista.
+     *
+     * @param path archivo a leer.
+     * @return lista con los elementos del archivo.
+     * @throws IOException si el archivo no puede leerse o no tiene un formato válido.
+     */
+    public static LongArrayList loadLongs(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long[] array = new long[readHeader(channel, Long.BYTES)];
+            int loaded = 0;
+            while (loaded < array.length) {
+                MappedByteBuffer region = mapRegion(channel, loaded, array.length, Long.BYTES);
+                int n = region.capacity() / Long.BYTES;
+                region.asLongBuffer().get(array, loaded, n);
+                DirectBuffers.free(region);
+                loaded += n;
+            }
+            return LongArrayList.wrap(array);
+        }
+    }
+
+    /**
+     * Carga un archivo de double copiando los bytes mapeados directamente al arreglo de la lista.
+     *
+     * @param path archivo a leer.
+     * @return lista con los elementos del archivo.
+     * @throws IOException si el archivo no puede leerse o no tiene un formato válido.
+     */
+    public static DoubleArrayList loadDoubles(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            double[] array = new double[readHeader(channel, Double.BYTES)];
+            int loaded = 0;
+            while (loaded < array.length) {
+                MappedByteBuffer region = mapRegion(channel, loaded, array.length, Double.BYTES);
+                int n = region.capacity() / Double.BYTES;
+                region.asDoubleBuffer().get(array, loaded, n);
+                DirectBuffers.free(region);
+                loaded += n;
+            }
+            return DoubleArrayList.wrap(array);
+        }
+    }
+
+    private static FileChannel openForWrite(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        // el encabezado se escribe al final, cuando se conoce la cantidad de elementos
+        channel.position(HEADER_BYTES);
+        return channel;
+    }
+
+    private static ByteBuffer newChunk(int width) {
+        return ByteBuffer.allocate(Math.max(CHUNK_BYTES, width)).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer chunk) throws IOException {
+        chunk.flip();
+        while (chunk.hasRemaining())
+            channel.write(chunk);
+        chunk.clear();
+    }
+
+    private static void finish(FileChannel channel, ByteBuffer chunk, int width, long count) throws IOException {
+        drain(channel, chunk);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION).putInt(width).putInt(0).putLong(count).flip();
+        while (header.hasRemaining())
+            channel.write(header, header.position());
+    }
+
+    /**
+     * Lee y valida el encabezado del archivo.
+     *
+     * @param channel canal del archivo.
+     * @param width ancho esperado de los elementos.
+     * @return cantidad de elementos del archivo.
+     * @throws IOException si el encabezado no es válido o no coincide con el ancho esperado.
+     */
+    private static int readHeader(FileChannel channel, int width) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0)
+                throw new IOException("File is too short to be a list file");
+        }
+        header.flip();
+        if (header.getInt() != MAGIC)
+            throw new IOException("Not a list file");
+        int version = header.getInt();
+        if (version != VERSION)
+            throw new IOException("Unsupported list file version: " + version);
+        int fileWidth = header.getInt();
+        if (fileWidth != width)
+            throw new IOException("Element width mismatch, file has " + fileWidth + " bytes per element");
+        header.getInt();
+        long count = header.getLong();
+        if (count < 0 || count > Integer.MAX_VALUE)
+            throw new IOException("Invalid element count: " + count);
+        if (channel.size() < HEADER_BYTES + count * width)
+            throw new IOException("File is truncated");
+        return (int) count;
+    }
+
+    /**
+     * Mapea en modo de solo lectura la siguiente región de elementos del archivo, de hasta
+     * {@value #REGION_BYTES} bytes.
+     */
+    private static MappedByteBuffer mapRegion(FileChannel channel, int first, int count, int width)
+            throws IOException {
+        long elements = Math.min(count - first, REGION_BYTES / width);
+        MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY,
+                HEADER_BYTES + (long) first * width, elements * width);
+        region.order(ByteOrder.LITTLE_ENDIAN);
+        return region;
+    }
+}
@@ -0,0 +1,356 @@
+package com.neoterux.tda.list;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+
+/**
+ * Implementación estática de {@link LongList}, equivalente a {@link ArrayList} pero almacenando los
+ * elementos en un {@code long[]}. Cada elemento ocupa 8 bytes, frente a la referencia más el objeto
+ * {@link Long} que requiere un {@code ArrayList<Long>}.
+ */
+public class LongArrayList implements LongList {
+
+    /**
+     * Array que contiene los elementos de la lista.
+     */
+    private long[] elements;
+
+    /**
+     * Cantidad real de elementos contenidos en la lista.
+     */
+    private int effectiveSize = 0;
+
+    /**
+     * Crea una nueva lista con un tamaño inicial de 10
+     */
+    public LongArrayList() {
+        this(10);
+    }
+
+    /**
+     * Crea una lista con un tamaño incial determinado.
+     *
+     * @param size capacidad inicial de la lista, debe ser mayor a 0.
+     */
+    public LongArrayList(int size) {
+        if (size <= 0)
+            throw new IllegalArgumentException("Illegal size to initialization");
+        elements = new long[size];
+    }
+
+    /**
+     * Crea una nueva lista a partir de una copia de los elementos del arreglo.
+     *
+     * @param array elementos a copiar.
+     * @return lista con los elementos del arreglo.
+     */
+    public static LongArrayList fromArray(long[] array) {
+        LongArrayList na = new LongArrayList(Math.max(array.length, 1));
+        System.arraycopy(array, 0, na.elements, 0, array.length);
+        na.effectiveSize = array.length;
+        return na;
+    }
+
+    /**
+     * Crea una lista que utiliza directamente el arreglo especificado como almacenamiento, sin copiarlo.
+     *
+     * @param array elementos de la lista, no debe modificarse externamente.
+     * @return lista con los elementos del arreglo.
+     */
+    static LongArrayList wrap(long[] array) {
+        LongArrayList na = new LongArrayList(1);
+        na.elements = array;
+        na.effectiveSize = array.length;
+        return na;
+    }
+
+    /**
+     * Añade un elemento a la primera posición de la lista, desplaza a todos los elementos en un solo movimiento.
+     *
+     * @param e elemento a añadir
+     */
+    @Override
+    public void addFirst(long e) {
+        ensureCapacity(effectiveSize + 1);
+        System.arraycopy(elements, 0, elements, 1, effectiveSize);
+        elements[0] = e;
+        effectiveSize++;
+    }
+
+    /**
+     * Añade un elemento al final de la lista.
+     *
+     * @param e elemento a añadir.
+     */
+    @Override
+    public void addLast(long e) {
+        ensureCapacity(effectiveSize + 1);
+        elements[effectiveSize++] = e;
+    }
+
+    /**
+     * Añade un elemento en un índice específico, desplaza una posición a los elementos contiguos.
+     *
+     * @param index   indice a insertar
+     * @param element Elemento a añádir
+     */
+    @Override
+    public void add(int index, long element) {
+        Objects.checkIndex(index, effectiveSize);
+        ensureCapacity(effectiveSize + 1);
+        System.arraycopy(elements, index, elements, index + 1, effectiveSize - index);
+        elements[index] = element;
+        effectiveSize++;
+    }
+
+    /**
+     * Remueve el elemento en la posición especificada, tiene una dificultad de O(n - index).
+     *
+     * @param index índice del elemento a eliminar de la lista.
+     * @return elemento descartado.
+     */
+    @Override
+    public long remove(int index) {
+        Objects.checkIndex(index, effectiveSize);
+        long old = elements[index];
+        removeRange(index, index + 1);
+        return old;
+    }
+
+    /**
+     * @return el elemento removido de la primera posición.
+     * @throws NoSuchElementException si la lista está vacía.
+     */
+    @Override
+    public long removeFirst() {
+        if (effectiveSize == 0)
+            throw new NoSuchElementException("List is empty");
+        return remove(0);
+    }
+
+    /**
+     * @return el elemento removido de la última posición.
+     * @throws NoSuchElementException si la lista está vacía.
+     */
+    @Override
+    public long removeLast() {
+        if (effectiveSize == 0)
+            throw new NoSuchElementException("List is empty");
+        return elements[--effectiveSize];
+    }
+
+    @Override
+    public long get(int index) {
+        Objects.checkIndex(index, effectiveSize);
+        return elements[index];
+    }
+
+    @Override
+    public long set(int index, long element) {
+        Objects.checkIndex(index, effectiveSize);
+        long old = elements[index];
+        elements[index] = element;
+        return old;
+    }
+
+    @Override
+    public int size() {
+        return effectiveSize;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return effectiveSize == 0;
+    }
+
+    /**
+     * Borra los elementos de la lista, la capacidad se mantiene.
+     */
+    @Override
+    public void clear() {
+        effectiveSize = 0;
+    }
+
+    /**
+     * Mantiene los elementos que se encuentren entre el rango [from, to] inclusivos. Si 'to' es mayor al index
+     * máximo, se toma como límite el índice máximo.
+     *
+     * @param from index desde donde mantener
+     * @param to index hasta donde mantener
+     */
+    @Override
+    public void keepOnly(int from, int to) {
+        checkRanges(from, to);
+        int top = Math.min(to, effectiveSize - 1);
+        effectiveSize = top + 1;
+        removeRange(0, from);
+    }
+
+    /**
+     * Elimina los elementos que se encuentren dentro del rango [from, to].
+     *
+     * @param from index desde donde eliminar
+     * @param to index hasta donde eliminar
+     */
+    @Override
+    public void detach(int from, int to) {
+        checkRanges(from, to);
+        int top = Math.min(to, effectiveSize - 1);
+        removeRange(from, top + 1);
+    }
+
+    /**
+     * Busca los elementos iguales a {@literal target}.
+     *
+     * @param target elemento a comparar.
+     * @return Lista con elementos iguales.
+     */
+    @Override
+    public LongList findAll(long target) {
+        LongArrayList tmp = new LongArrayList();
+        for (int i = 0; i < effectiveSize; i++) {
+            if (elements[i] == target)
+                tmp.addLast(elements[i]);
+        }
+        return tmp;
+    }
+
+    /**
+     * Genera una lista con los elementos de esta lista que también se encuentren en {@literal target},
+     * manteniendo el orden y las repeticiones de esta lista. Ordena una copia de {@literal target} y
+     * realiza búsquedas binarias, por lo que tiene una dificultad de O((n + m) log m) sin crear objetos
+     * por elemento.
+     *
+     * @param target lista a comparar elementos
+     * @return Lista con los elementos compartidos entre ambas listas.
+     */
+    @Override
+    public LongList intersectionWith(LongList target) {
+        LongArrayList tmp = new LongArrayList();
+        if (target == null || target.isEmpty())
+            return tmp;
+        long[] index = target.toArray();
+        Arrays.sort(index);
+        for (int i = 0; i < effectiveSize; i++) {
+            if (Arrays.binarySearch(index, elements[i]) >= 0)
+                tmp.addLast(elements[i]);
+        }
+        return tmp;
+    }
+
+    /**
+     * @param e elemento a buscar.
+     * @return el índice de la primera ocurrencia del elemento, -1 si no se encuentra.
+     */
+    @Override
+    public int indexOf(long e) {
+        for (int i = 0; i < effectiveSize; i++) {
+            if (elements[i] == e)
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * @return un spliterator que divide el rango de índices del arreglo a la mitad.
+     */
+    @Override
+    public Spliterator.OfLong spliterator() {
+        return Spliterators.spliterator(elements, 0, effectiveSize, Spliterator.ORDERED);
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new PrimitiveIterator.OfLong() {
+            int pointer = 0;
+
+            @Override
+            public boolean hasNext() {
+                return pointer < effectiveSize;
+            }
+
+            @Override
+            public long nextLong() {
+                if (pointer >= effectiveSize)
+                    throw new NoSuchElementException();
+                return elements[pointer++];
+            }
+        };
+    }
+
+    @Override
+    public void forEach(LongConsumer action) {
+        for (int i = 0; i < effectiveSize; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    @Override
+    public long[] toArray() {
+        return Arrays.copyOf(elements, effectiveSize);
+    }
+
+    /**
+     * @return la capacidad actual del arreglo de elementos.
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * Reduce la capacidad del arreglo a la cantidad de elementos de la lista.
+     */
+    public void trimToSize() {
+        if (elements.length > effectiveSize)
+            elements = Arrays.copyOf(elements, Math.max(effectiveSize, 1));
+    }
+
+    /**
+     * Asegura que el arreglo pueda contener al menos {@literal minCapacity} elementos, duplicando la capacidad
+     * cuando sea necesario.
+     *
+     * @param minCapacity capacidad mínima requerida.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length)
+            elements = Arrays.copyOf(elements, Math.max(minCapacity, elements.length << 1));
+    }
+
+    /**
+     * Elimina los elementos en el rango [from, to) con un solo desplazamiento de los elementos posteriores.
+     */
+    private void removeRange(int from, int to) {
+        System.arraycopy(elements, to, elements, from, effectiveSize - to);
+        effectiveSize -= to - from;
+    }
+
+    private void checkRanges(int from, int to) {
+        if (from > to)
+            throw new IllegalArgumentException("from value must be lower than to");
+        if (from < 0 || to < 0)
+            throw new IllegalArgumentException("Values must me greater than 0");
+        if (from >= effectiveSize)
+            throw new IllegalArgumentException("from must be inside list bounds");
+    }
+
+    /**
+     * @return Una representación de la lista en forma legible.
+     */
+    @Override
+    public String toString() {
+        StringBuilder representation = new StringBuilder("[");
+        for (int i = 0; i < effectiveSize; i++) {
+            representation.append(elements[i]);
+            if (i != effectiveSize - 1) {
+                representation.append(", ");
+            }
+        }
+        representation.append("]");
+        return representation.toString();
+    }
+}
@@ -0,0 +1,138 @@
+package com.neoterux.tda.list;
+
+import com.neoterux.tda.io.BinaryStreams;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Variante del TDA List especializada para el tipo primitivo {@code long}. Los elementos se almacenan sin
+ * envolverlos en {@link Long}, por lo que ninguna operación de lectura crea objetos.
+ * Incluye también las operaciones de {@link MutableList}.
+ */
+public interface LongList {
+
+    void addFirst(long e);
+
+    void addLast(long e);
+
+    void add(int index, long element);
+
+    long remove(int index);
+
+    long removeFirst();
+
+    long removeLast();
+
+    long get(int index);
+
+    long set(int index, long element);
+
+    int size();
+
+    boolean isEmpty();
+
+    void clear();
+
+    void keepOnly(int from, int to);
+
+    void detach(int from, int to);
+
+    LongList findAll(long target);
+
+    LongList intersectionWith(LongList target);
+
+    int indexOf(long e);
+
+    /**
+     * @return un iterador primitivo, {@code nextLong()} no crea objetos.
+     */
+    PrimitiveIterator.OfLong iterator();
+
+    /**
+     * Ejecuta la acción sobre cada elemento de la lista, en orden, sin crear un iterador.
+     *
+     * @param action acción a ejecutar.
+     */
+    void forEach(LongConsumer action);
+
+    /**
+     * @return una copia de los elementos de la lista en un arreglo del tamaño exacto.
+     */
+    long[] toArray();
+
+    /**
+     * Por defecto recorre la lista mediante su iterador y se divide copiando lotes de elementos a un arreglo.
+     *
+     * @return un spliterator que conoce el tamaño de la lista.
+     */
+    default Spliterator.OfLong spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+    /**
+     * @return un Stream secuencial sobre los elementos de la lista.
+     */
+    default LongStream stream() {
+        return StreamSupport.longStream(spliterator(), false);
+    }
+
+    /**
+     * @return un Stream paralelo sobre los elementos de la lista.
+     */
+    default LongStream parallelStream() {
+        return StreamSupport.longStream(spliterator(), true);
+    }
+
+    /**
+     * Escribe los elementos de la lista en orden en una sola pasada, en el formato de {@link BinaryStreams}. El flujo
+     * no se cierra.
+     *
+     * @param out flujo destino.
+     * @throws IOException si ocurre un error al escribir.
+     */
+    default void writeTo(OutputStream out) throws IOException {
+        BinaryStreams.writeLongs(out, iterator(), size());
+    }
+
+    /**
+     * Escribe los elementos de la lista en orden en el canal especificado, ver {@link #writeTo(OutputStream)}.
+     *
+     * @param channel canal destino.
+     * @throws IOException si ocurre un error al escribir.
+     */
+    default void writeTo(WritableByteChannel channel) throws IOException {
+        writeTo(Channels.newOutputStream(channel));
+    }
+
+    /**
+     * Lee elementos escritos mediante {@link #writeTo(OutputStream)} y los añade al final de la lista, sin consumir
+     * bytes posteriores al último elemento.
+     *
+     * @param in flujo origen.
+     * @throws IOException si ocurre un error al leer o el flujo no tiene un formato válido.
+     */
+    default void readFrom(InputStream in) throws IOException {
+        BinaryStreams.readLongs(in, this::addLast);
+    }
+
+    /**
+     * Lee elementos del canal especificado, ver {@link #readFrom(InputStream)}.
+     *
+     * @param channel canal origen.
+     * @throws IOException si ocurre un error al leer o el flujo no tiene un formato válido.
+     */
+    default void readFrom(ReadableByteChannel channel) throws IOException {
+        readFrom(Channels.newInputStream(channel));
+    }
+}
@@ -0,0 +1,280 @@
+package com.neoterux.tda.list;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+
+/**
+ * Vista de tamaño fijo sobre los elementos de un archivo generado por {@link ListFiles}, mapeado en memoria
+ * mediante {@link MappedByteBuffer}. Abrir la lista no lee los elementos: el sistema operativo carga las páginas
+ * del archivo conforme se accede a ellas, y cada elemento se decodifica al leerlo.
+ * <p>
+ * Las operaciones que modifican el tamaño de la lista lanzan {@link UnsupportedOperationException}; {@link #set}
+ * únicamente está disponible si el archivo se abrió con permisos de escritura, y escribe directamente en el
+ * archivo. {@link #close()} libera el mapeo de forma explícita.
+ *
+ * @param <E> tipo de dato que almacena la lista
+ */
+public class MappedList<E> implements List<E>, AutoCloseable {
+
+    private final ElementCodec<E> codec;
+
+    private final int width;
+
+    /**
+     * log2 de la cantidad de elementos por región mapeada.
+     */
+    private final int shift;
+
+    private final int mask;
+
+    /**
+     * Regiones mapeadas del archivo, un solo {@link MappedByteBuffer} no puede superar los 2GB.
+     */
+    private MappedByteBuffer[] regions;
+
+    private final int effectiveSize;
+
+    private final boolean writable;
+
+    /**
+     * Mapea los elementos del archivo, el canal puede cerrarse después de crear la lista.
+     *
+     * @param channel canal del archivo.
+     * @param dataOffset posición en bytes del primer elemento.
+     * @param count cantidad de elementos.
+     * @param codec codec de los elementos.
+     * @param writable true para mapear el archivo en modo lectura y escritura.
+     * @throws IOException si no se puede mapear el archivo.
+     */
+    MappedList(FileChannel channel, long dataOffset, int count, ElementCodec<E> codec, boolean writable)
+            throws IOException {
+        this.codec = codec;
+        this.width = codec.width();
+        this.writable = writable;
+        this.effectiveSize = count;
+        int regionCapacity = Integer.highestOneBit(Math.max((1 << 30) / width, 1));
+        this.shift = Integer.numberOfTrailingZeros(regionCapacity);
+        this.mask = regionCapacity - 1;
+
+        FileChannel.MapMode mode = writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY;
+        int regionCount = (int) (((long) count + mask) >>> shift);
+        regions = new MappedByteBuffer[regionCount];
+        for (int r = 0; r < regionCount; r++) {
+            long first = (long) r << shift;
+            long elements = Math.min(regionCapacity, count - first);
+            regions[r] = channel.map(mode, dataOffset + first * width, elements * width);
+            regions[r].order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    @Override
+    public boolean addFirst(E e) {
+        throw fixedSize();
+    }
+
+    @Override
+    public boolean addLast(E e) {
+        throw fixedSize();
+    }
+
+    @Override
+    public void add(int index, E element) {
+        throw fixedSize();
+    }
+
+    @Override
+    public E remove(int index) {
+        throw fixedSize();
+    }
+
+    @Override
+    public E removeFirst() {
+        throw fixedSize();
+    }
+
+    @Override
+    public E removeLast() {
+        throw fixedSize();
+    }
+
+    @Override
+    public void clear() {
+        throw fixedSize();
+    }
+
+    /**
+     * @param index índice del elemento.
+     * @return el elemento decodificado, tiene una dificultad de O(1).
+     */
+    @Override
+    public E get(int index) {
+        ensureOpen();
+        Objects.checkIndex(index, effectiveSize);
+        return codec.read(regions[index >>> shift], offset(index));
+    }
+
+    /**
+     * Reemplaza un elemento escribiendo directamente en el archivo.
+     *
+     * @param index indice a reemplazar.
+     * @param element nuevo elemento, si es null no se modifica la lista.
+     * @return el elemento que se encontraba en el índice.
+     * @throws UnsupportedOperationException si el archivo se abrió en modo de solo lectura.
+     */
+    @Override
+    public E set(int index, E element) {
+        ensureOpen();
+        if (!writable)
+            throw new UnsupportedOperationException("Mapped list is read only");
+        if (element == null)
+            return null;
+        Objects.checkIndex(index, effectiveSize);
+        ByteBuffer region = regions[index >>> shift];
+        E old = codec.read(region, offset(index));
+        codec.write(region, offset(index), element);
+        return old;
+    }
+
+    @Override
+    public int size() {
+        return effectiveSize;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return effectiveSize == 0;
+    }
+
+    /**
+     * Busca los elementos iguales a {@literal target} mediante el método equals.
+     *
+     * @param target elemento a buscar.
+     * @return lista en el heap con los elementos encontrados.
+     */
+    @Override
+    public List<E> findAll(E target) {
+        return findAll(target, (t, item) -> t.equals(item) ? 0 : 1);
+    }
+
+    @Override
+    public List<E> findAll(E target, Comparator<E> cmp) {
+        List<E> container = new ArrayList<>();
+        for (E item : this) {
+            if (cmp.compare(target, item) == 0)
+                container.addLast(item);
+        }
+        return container;
+    }
+
+    /**
+     * Genera una lista en el heap con los elementos de esta lista que tengan al menos un elemento igual en
+     * {@literal target}, con una dificultad de O(n + m).
+     *
+     * @param target lista a comparar.
+     * @return lista con los elementos en común.
+     */
+    @Override
+    public List<E> intersectionWith(List<E> target) {
+        List<E> container = new ArrayList<>();
+        if (target == null || target.isEmpty())
+            return container;
+        Intersections.semiJoin(this, target, container::addLast);
+        return container;
+    }
+
+    /**
+     * @return un spliterator que divide el rango de índices a la mitad.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        ensureOpen();
+        return new IndexSpliterator<>(i -> codec.read(regions[i >>> shift], offset(i)), 0, effectiveSize);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        ensureOpen();
+        return new Iterator<>() {
+            int pointer = 0;
+
+            @Override
+            public boolean hasNext() {
+                return regions != null && pointer < effectiveSize;
+            }
+
+            @Override
+            public E next() {
+                ensureOpen();
+                if (pointer >= effectiveSize)
+                    throw new NoSuchElementException();
+                int index = pointer++;
+                return codec.read(regions[index >>> shift], offset(index));
+            }
+        };
+    }
+
+    /**
+     * Escribe en el dispositivo de almacenamiento los cambios realizados mediante {@link #set(int, Object)}.
+     */
+    public void force() {
+        ensureOpen();
+        if (!writable)
+            return;
+        for (MappedByteBuffer region : regions) {
+            region.force();
+        }
+    }
+
+    /**
+     * Libera el mapeo del archivo, escribiendo antes los cambios pendientes. Llamar a este método más de una vez
+     * no tiene efecto.
+     */
+    @Override
+    public void close() {
+        if (regions == null)
+            return;
+        force();
+        for (MappedByteBuffer region : regions) {
+            DirectBuffers.free(region);
+        }
+        regions = null;
+    }
+
+    /**
+     * @return La representacion de la lista en formato [e1, e2, ..., en].
+     */
+    @Override
+    public String toString() {
+        if (regions == null)
+            return "[]";
+        StringBuilder str = new StringBuilder("[");
+        for (int i = 0; i < effectiveSize; i++) {
+            str.append(get(i));
+            if (i < effectiveSize - 1)
+                str.append(", ");
+        }
+        str.append("]");
+        return str.toString();
+    }
+
+    private int offset(int index) {
+        return (index & mask) * width;
+    }
+
+    private void ensureOpen() {
+        if (regions == null)
+            throw new IllegalStateException("List already closed");
+    }
+
+    private static UnsupportedOperationException fixedSize() {
+        return new UnsupportedOperationException("Mapped lists have a fixed size");
+    }
+}
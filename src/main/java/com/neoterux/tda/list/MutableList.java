@@ -1,5 +1,7 @@
 package com.neoterux.tda.list;
 
+import java.util.function.Predicate;
+
 /**
  * Representa una lista que permita reducirla a como desee el usuario,
  * mediante métodos como {@code keepOnly(int from, int to)}, permitiendo
@@ -12,4 +14,32 @@ public interface MutableList<E> extends List<E> {
     void keepOnly(int from, int to);
 
     void detach(int from, int to);
+
+    /**
+     * Por defecto compacta los elementos que se conservan hacia el inicio en un solo recorrido, y elimina los
+     * sobrantes del final con una sola llamada a {@link #detach(int, int)}.
+     */
+    @Override
+    default boolean removeIf(Predicate<? super E> filter) {
+        return Batches.compact(this, filter, size -> detach(size, size() - 1));
+    }
+
+    /**
+     * Obtiene una vista de los elementos en el rango [from, to) que comparte los elementos con esta lista, sin
+     * copiarlos. Las lecturas y reemplazos sobre la vista acceden directamente a esta lista, y las inserciones
+     * y eliminaciones sobre la vista se aplican sobre esta lista en la posición correspondiente.
+     * <p>
+     * Si esta lista se modifica estructuralmente fuera de la vista, cualquier operación posterior sobre la vista
+     * lanza {@link java.util.ConcurrentModificationException}. Por defecto únicamente se detectan las
+     * modificaciones que cambian el tamaño de la lista, las implementaciones que llevan la cuenta de sus
+     * modificaciones estructurales lo sobreescriben para detectar todas.
+     *
+     * @param from índice del primer elemento de la vista, inclusivo.
+     * @param to índice final de la vista, exclusivo.
+     * @return una vista sobre el rango.
+     * @throws IndexOutOfBoundsException si {@code from < 0}, {@code to > size()} o {@code from > to}.
+     */
+    default MutableList<E> subList(int from, int to) {
+        return new SubList<>(this, from, to, this::size);
+    }
 }
@@ -0,0 +1,77 @@
+package com.neoterux.tda.list;
+
+import com.neoterux.tda.containers.Node;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator para listas enlazadas. Recorre {@literal remaining} nodos a partir de un nodo inicial, y se divide
+ * en dos rangos de nodos del mismo tamaño recorriendo la mitad del rango, de manera que todas las divisiones
+ * conocen su tamaño exacto. Al no copiar los elementos, dividir tiene un costo de O(n/2) recorridos de nodo.
+ *
+ * @param <E> tipo de dato de la lista.
+ * @param <N> tipo de nodo de la lista.
+ */
+final class NodeSpliterator<E, N extends Node<E, N>> implements Spliterator<E> {
+
+    private N current;
+
+    private int remaining;
+
+    /**
+     * @param first primer nodo a recorrer, puede ser null si {@literal count} es 0.
+     * @param count cantidad de nodos a recorrer, en el orden de {@link Node#getNext()}.
+     */
+    NodeSpliterator(N first, int count) {
+        this.current = first;
+        this.remaining = count;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super E> action) {
+        if (remaining <= 0)
+            return false;
+        E e = current.getContent();
+        current = current.getNext();
+        remaining--;
+        action.accept(e);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+        N node = current;
+        for (int i = 0; i < remaining; i++) {
+            action.accept(node.getContent());
+            node = node.getNext();
+        }
+        current = node;
+        remaining = 0;
+    }
+
+    @Override
+    public Spliterator<E> trySplit() {
+        int half = remaining >>> 1;
+        if (half == 0)
+            return null;
+        N start = current;
+        N mid = current;
+        for (int i = 0; i < half; i++) {
+            mid = mid.getNext();
+        }
+        current = mid;
+        remaining -= half;
+        return new NodeSpliterator<>(start, half);
+    }
+
+    @Override
+    public long estimateSize() {
+        return remaining;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED;
+    }
+}
@@ -0,0 +1,507 @@
+package com.neoterux.tda.list;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+
+/**
+ * Implementación del TDA List que almacena sus elementos fuera del heap, codificados con un ancho fijo dentro de
+ * bloques de {@link ByteBuffer} directos. La lista no mantiene ningún objeto por elemento, por lo que listas de
+ * millones de elementos no aumentan el trabajo del recolector de basura; los elementos únicamente se crean al
+ * leerlos (ver {@link #get(int, Object)} para reutilizar una instancia).
+ * <p>
+ * La memoria se reserva por bloques de {@link #segmentCapacity()} elementos conforme la lista crece, y se libera
+ * explícitamente mediante {@link #close()}. Después de cerrarla, cualquier operación sobre la lista lanza
+ * {@link IllegalStateException}.
+ *
+ * @param <E> tipo de dato que almacena la lista
+ */
+public class OffHeapList<E> implements MutableList<E>, AutoCloseable {
+
+    /**
+     * Cantidad de elementos por bloque por defecto.
+     */
+    public static final int DEFAULT_SEGMENT_CAPACITY = 1 << 16;
+
+    private final ElementCodec<E> codec;
+
+    /**
+     * Bytes que ocupa cada elemento.
+     */
+    private final int width;
+
+    /**
+     * log2 de la cantidad de elementos por bloque.
+     */
+    private final int shift;
+
+    private final int mask;
+
+    /**
+     * Bloques reservados, únicamente las primeras {@link #segmentCount} posiciones son válidas.
+     */
+    private ByteBuffer[] segments = new ByteBuffer[8];
+
+    private int segmentCount = 0;
+
+    private int effectiveSize = 0;
+
+    private boolean closed = false;
+
+    /**
+     * Arreglo auxiliar para desplazar bytes entre bloques.
+     */
+    private final byte[] scratch = new byte[8192];
+
+    /**
+     * Crea una lista vacía con bloques de {@value #DEFAULT_SEGMENT_CAPACITY} elementos.
+     *
+     * @param codec codec de los elementos.
+     */
+    public OffHeapList(ElementCodec<E> codec) {
+        this(codec, DEFAULT_SEGMENT_CAPACITY);
+    }
+
+    /**
+     * Crea una lista vacía.
+     *
+     * @param codec codec de los elementos.
+     * @param segmentCapacity cantidad de elementos por bloque, se redondea a la siguiente potencia de dos.
+     */
+    public OffHeapList(ElementCodec<E> codec, int segmentCapacity) {
+        if (codec == null)
+            throw new NullPointerException("Codec must not be null");
+        if (codec.width() <= 0)
+            throw new IllegalArgumentException("Codec width must be greater than 0");
+        if (segmentCapacity <= 0)
+            throw new IllegalArgumentException("Illegal segment capacity");
+        int capacity = (segmentCapacity == 1) ? 1 : Integer.highestOneBit(segmentCapacity - 1) << 1;
+        if (capacity <= 0 || (long) capacity * codec.width() > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Segment capacity too large for the element width");
+        this.codec = codec;
+        this.width = codec.width();
+        this.shift = Integer.numberOfTrailingZeros(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Añade un elemento al inicio de la lista, desplaza todos los elementos por lo que tiene una dificultad de O(n).
+     *
+     * @param e elemento a añadir.
+     * @return true si se añadió con éxito.
+     */
+    @Override
+    public boolean addFirst(E e) {
+        if (e == null)
+            return false;
+        insert(0, e);
+        return true;
+    }
+
+    /**
+     * Añade un elemento al final de la lista, tiene una dificultad de O(1) amortizada.
+     *
+     * @param e elemento a añadir.
+     * @return true si se añadió con éxito.
+     */
+    @Override
+    public boolean addLast(E e) {
+        if (e == null)
+            return false;
+        ensureOpen();
+        ensureCapacity(effectiveSize + 1);
+        codec.write(segments[effectiveSize >>> shift], offset(effectiveSize), e);
+        effectiveSize++;
+        return true;
+    }
+
+    /**
+     * Añade un elemento en el índice especificado, desplazando los elementos posteriores.
+     *
+     * @param index indice a añadir
+     * @param element elemento a añadir
+     */
+    @Override
+    public void add(int index, E element) {
+        if (element == null)
+            return;
+        Objects.checkIndex(index, effectiveSize);
+        insert(index, element);
+    }
+
+    /**
+     * Elimina el elemento en el índice especificado, desplazando los elementos posteriores.
+     *
+     * @param index índice del elemento a eliminar.
+     * @return el elemento eliminado.
+     */
+    @Override
+    public E remove(int index) {
+        ensureOpen();
+        Objects.checkIndex(index, effectiveSize);
+        E old = read(index, null);
+        move(index + 1, index, effectiveSize - index - 1);
+        effectiveSize--;
+        return old;
+    }
+
+    @Override
+    public E removeFirst() {
+        if (isEmpty())
+            return null;
+        return remove(0);
+    }
+
+    /**
+     * Elimina el último elemento de la lista, tiene una dificultad de O(1).
+     *
+     * @return el elemento eliminado, null si la lista está vacía.
+     */
+    @Override
+    public E removeLast() {
+        ensureOpen();
+        if (effectiveSize == 0)
+            return null;
+        return read(--effectiveSize, null);
+    }
+
+    /**
+     * @param index índice del elemento.
+     * @return el elemento decodificado, null si la lista está vacía.
+     */
+    @Override
+    public E get(int index) {
+        return get(index, null);
+    }
+
+    /**
+     * Obtiene un elemento permitiendo que el codec reutilice una instancia existente en lugar de crear una nueva,
+     * ver {@link ElementCodec#read(ByteBuffer, int, Object)}.
+     *
+     * @param index índice del elemento.
+     * @param reuse instancia a reutilizar, puede ser null.
+     * @return el elemento decodificado, null si la lista está vacía.
+     */
+    public E get(int index, E reuse) {
+        ensureOpen();
+        if (isEmpty())
+            return null;
+        Objects.checkIndex(index, effectiveSize);
+        return read(index, reuse);
+    }
+
+    /**
+     * Reemplaza el elemento en el índice especificado.
+     *
+     * @param index indice a reemplazar.
+     * @param element nuevo elemento, si es null no se modifica la lista.
+     * @return el elemento que se encontraba en el índice.
+     */
+    @Override
+    public E set(int index, E element) {
+        ensureOpen();
+        if (element == null)
+            return null;
+        Objects.checkIndex(index, effectiveSize);
+        E old = read(index, null);
+        codec.write(segments[index >>> shift], offset(index), element);
+        return old;
+    }
+
+    @Override
+    public int size() {
+        return effectiveSize;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return effectiveSize == 0;
+    }
+
+    /**
+     * Elimina los elementos de la lista, los bloques reservados se conservan para reutilizarse, ver
+     * {@link #trimToSize()}.
+     */
+    @Override
+    public void clear() {
+        ensureOpen();
+        effectiveSize = 0;
+    }
+
+    /**
+     * Busca los elementos iguales a {@literal target} mediante el método equals.
+     *
+     * @param target elemento a buscar.
+     * @return lista en el heap con los elementos encontrados.
+     */
+    @Override
+    public List<E> findAll(E target) {
+        return findAll(target, (t, item) -> t.equals(item) ? 0 : 1);
+    }
+
+    /**
+     * Busca elementos de acuerdo al comparador, un elemento es 'igual' si el comparador devuelve 0.
+     *
+     * @param target objeto a comparar.
+     * @param cmp comparador con primer parametro el objeto {@literal target}.
+     * @return lista en el heap con los elementos encontrados.
+     */
+    @Override
+    public List<E> findAll(E target, Comparator<E> cmp) {
+        ensureOpen();
+        List<E> container = new ArrayList<>();
+        for (int i = 0; i < effectiveSize; i++) {
+            E item = read(i, null);
+            if (cmp.compare(target, item) == 0)
+                container.addLast(item);
+        }
+        return container;
+    }
+
+    /**
+     * Genera una lista en el heap con los elementos de esta lista que tengan al menos un elemento igual en
+     * {@literal target}, con una dificultad de O(n + m).
+     *
+     * @param target lista a comparar.
+     * @return lista con los elementos en común.
+     */
+    @Override
+    public List<E> intersectionWith(List<E> target) {
+        ensureOpen();
+        List<E> container = new ArrayList<>();
+        if (target == null || target.isEmpty())
+            return container;
+        Intersections.semiJoin(this, target, container::addLast);
+        return container;
+    }
+
+    /**
+     * Mantiene los elementos del rango [from, to], moviendo los bytes del rango al inicio de la lista.
+     *
+     * @param from index desde donde mantener.
+     * @param to index hasta donde mantener, si es mayor al último índice se toma el último índice.
+     */
+    @Override
+    public void keepOnly(int from, int to) {
+        ensureOpen();
+        checkRanges(from, to);
+        int top = Math.min(to, effectiveSize - 1);
+        move(from, 0, top - from + 1);
+        effectiveSize = top - from + 1;
+    }
+
+    /**
+     * Elimina los elementos del rango [from, to], moviendo los bytes posteriores al rango.
+     *
+     * @param from index desde donde eliminar.
+     * @param to index hasta donde eliminar, si es mayor al último índice se toma el último índice.
+     */
+    @Override
+    public void detach(int from, int to) {
+        ensureOpen();
+        checkRanges(from, to);
+        int top = Math.min(to, effectiveSize - 1);
+        move(top + 1, from, effectiveSize - top - 1);
+        effectiveSize -= top - from + 1;
+    }
+
+    /**
+     * @return un spliterator que divide el rango de índices a la mitad.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        ensureOpen();
+        return new IndexSpliterator<>(i -> read(i, null), 0, effectiveSize);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        ensureOpen();
+        return new Iterator<>() {
+            int pointer = 0;
+
+            @Override
+            public boolean hasNext() {
+                return !closed && pointer < effectiveSize;
+            }
+
+            @Override
+            public E next() {
+                ensureOpen();
+                if (pointer >= effectiveSize)
+                    throw new NoSuchElementException();
+                return read(pointer++, null);
+            }
+        };
+    }
+
+    /**
+     * @return cantidad de elementos por bloque.
+     */
+    public int segmentCapacity() {
+        return mask + 1;
+    }
+
+    /**
+     * @return cantidad de bytes reservados fuera del heap.
+     */
+    public long reservedBytes() {
+        return (long) segmentCount * (mask + 1) * width;
+    }
+
+    /**
+     * Libera los bloques que no contienen elementos.
+     */
+    public void trimToSize() {
+        ensureOpen();
+        int needed = segmentsFor(effectiveSize);
+        for (int i = needed; i < segmentCount; i++) {
+            DirectBuffers.free(segments[i]);
+            segments[i] = null;
+        }
+        segmentCount = needed;
+    }
+
+    /**
+     * Libera toda la memoria reservada por la lista. Llamar a este método más de una vez no tiene efecto.
+     */
+    @Override
+    public void close() {
+        if (closed)
+            return;
+        for (int i = 0; i < segmentCount; i++) {
+            DirectBuffers.free(segments[i]);
+        }
+        segments = null;
+        segmentCount = 0;
+        effectiveSize = 0;
+        closed = true;
+    }
+
+    /**
+     * @return true si la memoria de la lista ya fue liberada.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * @return La representacion de la lista en formato [e1, e2, ..., en].
+     */
+    @Override
+    public String toString() {
+        if (closed)
+            return "[]";
+        StringBuilder str = new StringBuilder("[");
+        for (int i = 0; i < effectiveSize; i++) {
+            str.append(read(i, null));
+            if (i < effectiveSize - 1)
+                str.append(", ");
+        }
+        str.append("]");
+        return str.toString();
+    }
+
+    private void insert(int index, E element) {
+        ensureOpen();
+        ensureCapacity(effectiveSize + 1);
+        move(index, index + 1, effectiveSize - index);
+        codec.write(segments[index >>> shift], offset(index), element);
+        effectiveSize++;
+    }
+
+    private E read(int index, E reuse) {
+        return codec.read(segments[index >>> shift], offset(index), reuse);
+    }
+
+    /**
+     * @param index índice de un elemento.
+     * @return posición en bytes del elemento dentro de su bloque.
+     */
+    private int offset(int index) {
+        return (index & mask) * width;
+    }
+
+    private int segmentsFor(int elements) {
+        return (int) (((long) elements + mask) >>> shift);
+    }
+
+    /**
+     * Reserva los bloques necesarios para almacenar {@literal minCapacity} elementos.
+     */
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity < 0)
+            throw new OutOfMemoryError("List size exceeds the maximum capacity");
+        int needed = segmentsFor(minCapacity);
+        if (needed <= segmentCount)
+            return;
+        if (needed > segments.length)
+            segments = Arrays.copyOf(segments, Math.max(needed, segments.length << 1));
+        int bytes = (mask + 1) * width;
+        while (segmentCount < needed) {
+            segments[segmentCount++] = ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+        }
+    }
+
+    /**
+     * Copia {@literal count} elementos a partir de {@literal from} hacia {@literal to}, los rangos pueden
+     * superponerse. Los bytes se copian por tramos que no cruzan el límite de un bloque.
+     */
+    private void move(int from, int to, int count) {
+        if (count <= 0 || from == to)
+            return;
+        int segmentBytes = (mask + 1) * width;
+        long src = (long) from * width;
+        long dst = (long) to * width;
+        long remaining = (long) count * width;
+        if (to < from) {
+            while (remaining > 0) {
+                int run = (int) Math.min(Math.min(remaining, scratch.length),
+                        Math.min(segmentBytes - src % segmentBytes, segmentBytes - dst % segmentBytes));
+                copyRun(src, dst, run, segmentBytes);
+                src += run;
+                dst += run;
+                remaining -= run;
+            }
+        } else {
+            long srcEnd = src + remaining;
+            long dstEnd = dst + remaining;
+            while (remaining > 0) {
+                int run = (int) Math.min(Math.min(remaining, scratch.length),
+                        Math.min((srcEnd - 1) % segmentBytes + 1, (dstEnd - 1) % segmentBytes + 1));
+                srcEnd -= run;
+                dstEnd -= run;
+                copyRun(srcEnd, dstEnd, run, segmentBytes);
+                remaining -= run;
+            }
+        }
+    }
+
+    private void copyRun(long src, long dst, int length, int segmentBytes) {
+        ByteBuffer source = segments[(int) (src / segmentBytes)].duplicate();
+        source.position((int) (src % segmentBytes));
+        source.get(scratch, 0, length);
+        ByteBuffer target = segments[(int) (dst / segmentBytes)].duplicate();
+        target.position((int) (dst % segmentBytes));
+        target.put(scratch, 0, length);
+    }
+
+    private void ensureOpen() {
+        if (closed)
+            throw new IllegalStateException("List already closed");
+    }
+
+    private void checkRanges(int from, int to) {
+        if (from > to)
+            throw new IllegalArgumentException("from value must be lower than to");
+        if (from < 0 || to < 0)
+            throw new IllegalArgumentException("Values must me greater than 0");
+        if (from >= effectiveSize)
+            throw new IllegalArgumentException("from must be inside list bounds");
+    }
+}
@@ -0,0 +1,125 @@
+package com.neoterux.tda.list;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Recorrido paralelo compartido por {@link List#parallelFindAll} y {@link List#parallelIntersectionWith}. La
+ * lista se divide mediante su {@link Spliterator} (rangos de índices en las listas estáticas, segmentos de nodos
+ * en las enlazadas), cada segmento se procesa en el {@link ForkJoinPool#commonPool()} y los resultados parciales
+ * se entregan concatenados en el orden original.
+ */
+final class ParallelSearch {
+
+    /**
+     * Tamaño mínimo de lista para utilizar el recorrido paralelo, en listas más pequeñas el costo de dividir y
+     * sincronizar las tareas supera al de recorrerlas en un solo hilo.
+     */
+    static final int THRESHOLD = 1 << 14;
+
+    /**
+     * Tamaño mínimo de un segmento procesado por una sola tarea.
+     */
+    private static final int MIN_SEGMENT = 1 << 11;
+
+    private ParallelSearch() { }
+
+    /**
+     * @param size cantidad de elementos de la lista.
+     * @return true si la lista supera {@link #THRESHOLD} y el pool común dispone de más de un hilo; con un solo
+     * hilo el recorrido paralelo únicamente añade el costo de dividir la lista.
+     */
+    static boolean worthSplitting(int size) {
+        return size >= THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1;
+    }
+
+    /**
+     * Aplica {@literal probe} a cada elemento de {@literal source} en paralelo, y entrega a {@literal sink} los
+     * elementos que emita en el orden de {@literal source}. {@literal sink} se invoca únicamente desde el hilo
+     * que llama a este método, una vez que terminaron todas las tareas.
+     *
+     * @param source lista a recorrer, no debe modificarse durante el recorrido.
+     * @param probe función que recibe cada elemento y emite cero o más resultados; se invoca desde varios hilos,
+     *              por lo que únicamente debe leer estructuras compartidas.
+     * @param sink destino de los resultados.
+     * @param <E> tipo de dato de la lista.
+     */
+    static <E> void forEachMatch(List<E> source, BiConsumer<E, Consumer<E>> probe, Consumer<E> sink) {
+        int segment = Math.max(source.size() / (ForkJoinPool.getCommonPoolParallelism() * 4), MIN_SEGMENT);
+        Segment<E> result = ForkJoinPool.commonPool().invoke(new SearchTask<>(source.spliterator(), probe, segment));
+        for (; result != null; result = result.next) {
+            for (int i = 0; i < result.count; i++)
+                sink.accept(result.items[i]);
+        }
+    }
+
+    /**
+     * Resultados de un segmento de la lista, encadenados con los de los segmentos siguientes.
+     */
+    private static final class Segment<E> {
+
+        private E[] items;
+
+        private int count;
+
+        private Segment<E> next;
+
+        private Segment<E> last = this;
+
+        @SuppressWarnings("unchecked")
+        Segment() {
+            items = (E[]) new Object[16];
+        }
+
+        void add(E e) {
+            if (count == items.length)
+                items = Arrays.copyOf(items, count << 1);
+            items[count++] = e;
+        }
+
+        /**
+         * Concatena los resultados de {@literal after} al final de esta cadena en O(1).
+         */
+        Segment<E> append(Segment<E> after) {
+            last.next = after;
+            last = after.last;
+            return this;
+        }
+    }
+
+    private static final class SearchTask<E> extends RecursiveTask<Segment<E>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Spliterator<E> split;
+
+        private final BiConsumer<E, Consumer<E>> probe;
+
+        private final int segment;
+
+        SearchTask(Spliterator<E> split, BiConsumer<E, Consumer<E>> probe, int segment) {
+            this.split = split;
+            this.probe = probe;
+            this.segment = segment;
+        }
+
+        @Override
+        protected Segment<E> compute() {
+            Spliterator<E> prefix;
+            if (split.estimateSize() > segment && (prefix = split.trySplit()) != null) {
+                SearchTask<E> left = new SearchTask<>(prefix, probe, segment);
+                left.fork();
+                Segment<E> right = new SearchTask<>(split, probe, segment).compute();
+                return left.join().append(right);
+            }
+            Segment<E> found = new Segment<>();
+            Consumer<E> emit = found::add;
+            split.forEachRemaining(e -> probe.accept(e, emit));
+            return found;
+        }
+    }
+}
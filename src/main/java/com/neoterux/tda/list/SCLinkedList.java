@@ -1,10 +1,15 @@
 package com.neoterux.tda.list;
 
+import com.neoterux.tda.containers.NodePool;
 import com.neoterux.tda.list.content.SimpleNode;
 
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Predicate;
 
 /**
  * Simple Circular implementation of LinkedList.
@@ -17,7 +22,41 @@ public class SCLinkedList<E> implements MutableList<E>{
 
     private int effectiveSize;
 
-    public SCLinkedList() { effectiveSize = 0; }
+    /**
+     * Cantidad de modificaciones estructurales, utilizada por los iteradores y las vistas de
+     * {@link #subList(int, int)} para detectar modificaciones de la lista fuera de ellos.
+     */
+    private int modCount;
+
+    /**
+     * Último nodo accedido mediante {@link #getNodeAt(int)}, null si no es válido.
+     */
+    private SimpleNode<E> finger;
+
+    /**
+     * Índice de {@link #finger} dentro de la lista.
+     */
+    private int fingerIndex;
+
+    /**
+     * Pool de nodos eliminados para reutilizarlos en las inserciones, null si la lista no recicla nodos.
+     */
+    private final NodePool<E, SimpleNode<E>> pool;
+
+    public SCLinkedList() { this(0); }
+
+    /**
+     * Crea una lista vacía que recicla los nodos eliminados, evitando reservar un nodo nuevo en cada inserción
+     * cuando la lista se utiliza como cola.
+     *
+     * @param poolSize cantidad máxima de nodos eliminados a retener para reutilizar, 0 para no reciclar nodos.
+     */
+    public SCLinkedList(int poolSize) {
+        if (poolSize < 0)
+            throw new IllegalArgumentException("Pool size cannot be negative");
+        effectiveSize = 0;
+        pool = (poolSize == 0) ? null : new NodePool<>(poolSize, () -> new SimpleNode<>(null));
+    }
 
 
     @Override
@@ -25,15 +64,14 @@ public class SCLinkedList<E> implements MutableList<E>{
         if (e == null)
             return false;
         if (last == null) {
-            last = new SimpleNode<>(e);
+            last = newNode(e);
             last.setNext(last);
         }else{
-            var header = last.getNext();
-            last.genNext(e);
-            var current = last.getNext();
-            current.setNext(header);
+            last.linkNext(newNode(e));
+            fingerIndex++; // todos los nodos se desplazan una posición
         }
         effectiveSize++;
+        modCount++;
         return true;
     }
 
@@ -44,9 +82,10 @@ public class SCLinkedList<E> implements MutableList<E>{
         if (last == null)
             return addFirst(e);
         else {
-            last = last.genNext(e);
+            last = last.linkNext(newNode(e));
         }
         effectiveSize++;
+        modCount++;
         return true;
     }
 
@@ -55,13 +94,105 @@ public class SCLinkedList<E> implements MutableList<E>{
         if (element == null)
             return;
         Objects.checkIndex(index, effectiveSize);
-        if (index == 0)
+        if (index == 0) {
             addFirst(element);
-        else if(index == effectiveSize -1)
-            addLast(element);
-        getNodeAt(index - 1).genNext(element);
+            return;
+        }
+        getNodeAt(index - 1).linkNext(newNode(element));
         effectiveSize++;
+        modCount++;
+
+    }
+
+    /**
+     * Añade los elementos al final de la lista, enlazándolos en una cadena que se une a la lista en un solo paso.
+     *
+     * @param elements elementos a añadir, los elementos null se omiten.
+     * @return true si se añadió al menos un elemento.
+     */
+    @Override
+    public boolean addAll(Iterable<? extends E> elements) {
+        return linkAll(effectiveSize, elements);
+    }
+
+    /**
+     * Inserta los elementos a partir de {@literal index}, enlazándolos en una cadena independiente que se une
+     * después del nodo previo a {@literal index} en un solo paso. Insertar al inicio o al final tiene una
+     * dificultad de O(m).
+     *
+     * @param index posición donde se inserta el primer elemento, entre 0 y {@link #size()}.
+     * @param elements elementos a insertar, los elementos null se omiten.
+     * @return true si se insertó al menos un elemento.
+     */
+    @Override
+    public boolean addAll(int index, List<? extends E> elements) {
+        Objects.checkIndex(index, effectiveSize + 1);
+        return linkAll(index, elements);
+    }
+
+    /**
+     * Mueve todos los nodos de {@literal other} al final de esta lista, sin copiar elementos ni reservar nodos
+     * nuevos, con una dificultad de O(1). {@literal other} queda vacía.
+     *
+     * @param other lista de donde se mueven los nodos.
+     * @throws IllegalArgumentException si {@literal other} es esta misma lista.
+     */
+    public void transferAll(SCLinkedList<E> other) {
+        splice(effectiveSize, other);
+    }
+
+    /**
+     * Mueve todos los nodos de {@literal other} a esta lista a partir de {@literal index}, sin copiar elementos
+     * ni reservar nodos nuevos. Únicamente se recorre esta lista hasta el nodo previo a {@literal index}, por lo
+     * que tiene una dificultad de O(index), e insertar al inicio o al final es O(1). {@literal other} queda
+     * vacía.
+     *
+     * @param index posición donde queda el primer elemento de {@literal other}, entre 0 y {@link #size()}.
+     * @param other lista de donde se mueven los nodos.
+     * @throws IllegalArgumentException si {@literal other} es esta misma lista.
+     * @throws IndexOutOfBoundsException si {@literal index} está fuera de límites.
+     */
+    public void splice(int index, SCLinkedList<E> other) {
+        if (other == this)
+            throw new IllegalArgumentException("Cannot splice a list into itself");
+        Objects.checkIndex(index, effectiveSize + 1);
+        if (other == null || other.isEmpty())
+            return;
+        SimpleNode<E> tail = other.last;
+        int count = other.effectiveSize;
+        other.clear();
+        linkChain(index, tail, count);
+    }
 
+    /**
+     * Divide la lista en {@literal index}: esta lista conserva los elementos [0, index) y los elementos
+     * [index, n) se mueven a una nueva lista, sin copiar elementos. Tiene una dificultad de O(index) para
+     * localizar el nodo previo a {@literal index}.
+     *
+     * @param index posición del primer elemento de la nueva lista, entre 0 y {@link #size()}.
+     * @return una nueva lista con los elementos a partir de {@literal index}, que no recicla nodos.
+     * @throws IndexOutOfBoundsException si {@literal index} está fuera de límites.
+     */
+    public SCLinkedList<E> splitAt(int index) {
+        Objects.checkIndex(index, effectiveSize + 1);
+        SCLinkedList<E> rest = new SCLinkedList<>();
+        if (index == effectiveSize)
+            return rest;
+        rest.last = last;
+        rest.effectiveSize = effectiveSize - index;
+        if (index == 0) {
+            clear();
+            return rest;
+        }
+        SimpleNode<E> nLast = getNodeAt(index - 1);
+        SimpleNode<E> header = last.getNext();
+        // cierra el ciclo de cada lista
+        last.setNext(nLast.getNext());
+        nLast.setNext(header);
+        last = nLast;
+        effectiveSize = index;
+        modCount++;
+        return rest;
     }
 
     @Override
@@ -69,23 +200,82 @@ public class SCLinkedList<E> implements MutableList<E>{
         if (index < 0)
             index = effectiveSize + index;
         Objects.checkIndex(index, effectiveSize);
-        var node = getNodeAt(index - 1);
-        System.out.println("index: " + index+ " node: " + node.getNext().getContent());
-        E value = null;
-        if(effectiveSize == 1)// this is to prevent that we can delete the last without keeping it
+        E value;
+        if(effectiveSize == 1) {// this is to prevent that we can delete the last without keeping it
+            value = last.getContent();
+            recycle(last);
             last = null;
-        else{
+            finger = null;
+        }else{
+            var node = getNodeAt(index - 1);
             var current = node.getNext();
             node.setNext(current.getNext());
             value = current.getContent();
-            current.clean();
+            recycle(current);
             if (index == effectiveSize - 1)
                 last = node;
+            if (fingerIndex > index) // el finger es el nodo previo, o el último si index es 0
+                fingerIndex--;
         }
         effectiveSize--;
+        modCount++;
         return value;
     }
 
+    /**
+     * Elimina los elementos que cumplan con {@literal filter} en un solo recorrido de los nodos: los nodos que
+     * se conservan se enlazan entre sí conforme se recorre, con una dificultad de O(n). Si {@literal filter}
+     * lanza una excepción, los elementos que aún no se evaluaron se conservan.
+     *
+     * @param filter condición de los elementos a eliminar.
+     * @return true si se eliminó al menos un elemento.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        if (last == null)
+            return false;
+        SimpleNode<E> node = last.getNext();
+        SimpleNode<E> first = null, kept = null; // primer y último nodo conservado
+        int n = effectiveSize, i = 0, removed = 0;
+        try {
+            for (; i < n; i++) {
+                SimpleNode<E> next = node.getNext();
+                if (filter.test(node.getContent())) {
+                    recycle(node);
+                    removed++;
+                } else {
+                    if (first == null)
+                        first = node;
+                    else
+                        kept.setNext(node);
+                    kept = node;
+                }
+                node = next;
+            }
+        } finally {
+            if (removed > 0) {
+                if (i < n) { // el filtro lanzó una excepción, se conservan los nodos desde node hasta last
+                    if (first == null)
+                        first = node;
+                    else
+                        kept.setNext(node);
+                    kept = last;
+                }
+                if (first == null) {
+                    last = null;
+                } else {
+                    kept.setNext(first);
+                    last = kept;
+                }
+                finger = null;
+                effectiveSize -= removed;
+                modCount++;
+            }
+        }
+        return removed > 0;
+    }
+
     @Override
     public E removeFirst() {
         return remove(0);
@@ -109,18 +299,11 @@ public class SCLinkedList<E> implements MutableList<E>{
         if (index < 0)
             index += effectiveSize;
         Objects.checkIndex(index, effectiveSize);
-        if (effectiveSize == 1) {
-            var old = last;
-            last = new SimpleNode<>(element);
-            last.setNext(last); // keep cyclic
-            return old.getContent();
-        }
-
-        SimpleNode<E> prev = getNodeAt(index - 1);
-        var current = prev.getNext();
-        var newNode = prev.genNext(element);
-        newNode.setNext(current.getNext());
-        return current.getContent();
+        // el contenido se reemplaza dentro del mismo nodo, sin modificar los enlaces
+        SimpleNode<E> node = getNodeAt(index);
+        E old = node.getContent();
+        node.setContent(element);
+        return old;
     }
 
     /**
@@ -145,38 +328,89 @@ public class SCLinkedList<E> implements MutableList<E>{
     @Override
     public void clear() {
         last = null;
+        finger = null;
         effectiveSize = 0;
+        modCount++;
+    }
+
+    /**
+     * @return un spliterator que se divide en dos rangos de nodos del mismo tamaño.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new NodeSpliterator<>((last == null) ? null : last.getNext(), effectiveSize);
     }
 
+    /**
+     * Vista de los elementos en el rango [from, to) que comparte los nodos con esta lista, sin copiar
+     * elementos. Si esta lista se modifica estructuralmente fuera de la vista, cualquier operación posterior
+     * sobre la vista lanza {@link ConcurrentModificationException}.
+     *
+     * @param from índice del primer elemento de la vista, inclusivo.
+     * @param to índice final de la vista, exclusivo.
+     * @return una vista sobre el rango.
+     */
+    @Override
+    public MutableList<E> subList(int from, int to) {
+        return new SubList<>(this, from, to, () -> modCount);
+    }
+
+    /**
+     * El iterador conserva el nodo previo al último elemento devuelto, por lo que {@link Iterator#remove()}
+     * desenlaza el nodo con una dificultad de O(1), y filtrar la lista con el iterador es un solo recorrido.
+     *
+     * @return un iterador que lanza {@link ConcurrentModificationException} si la lista se modifica
+     * estructuralmente fuera del iterador durante el recorrido.
+     */
     @Override
     public Iterator<E> iterator() {
         return new Iterator<>(){
-            private final SimpleNode<E> header = (last != null)? last.getNext() : null;
+            private SimpleNode<E> pointer = (last != null) ? last.getNext() : null;
+
+            /**
+             * Último nodo devuelto por {@link #next()}, null si ya se eliminó o aún no se llama a next.
+             */
+            private SimpleNode<E> lastReturned;
 
-            private SimpleNode<E> pointer = header;
+            /**
+             * Nodo previo a {@link #lastReturned}, o al nodo de {@link #pointer} si se eliminó.
+             */
+            private SimpleNode<E> previous = last;
             private int idx = 0;
+            private int expectedModCount = modCount;
 
             @Override
             public boolean hasNext() {
-                //FIXME: Handle to fix the idx if an item was removed from list before this get executed and index
-                // is not the same for the current pointer.
-                //if (idx >= effectiveSize + 1)// fix index if item removed and effective size decrease
-
-                if (last == null) // this would delete all references created before clear method
-                    pointer = null;
-                return pointer != null && idx < effectiveSize;
+                return idx < effectiveSize;
             }
 
             @Override
             public E next() {
+                checkForComodification();
                 if (idx >= effectiveSize)
-                    // get null when the iterator finish, and doesnt return the last node item.
-                    return null;
-
-                var r = pointer;
+                    throw new NoSuchElementException();
+                if (lastReturned != null)
+                    previous = lastReturned;
+                lastReturned = pointer;
                 pointer = pointer.getNext();
                 idx++;
-                return r.getContent();
+                return lastReturned.getContent();
+            }
+
+            @Override
+            public void remove() {
+                if (lastReturned == null)
+                    throw new IllegalStateException();
+                checkForComodification();
+                unlinkNext(previous, lastReturned);
+                lastReturned = null;
+                idx--;
+                expectedModCount = modCount;
+            }
+
+            private void checkForComodification() {
+                if (modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
             }
         };
     }
@@ -204,8 +438,25 @@ public class SCLinkedList<E> implements MutableList<E>{
     }
 
     /**
-     * Encuentra los elementos que sean iguales entre ambas listas. Tiene dificultad de O(n^2). Se evalua como igual
-     * a ambos objetos con el método {@code equals()}.
+     * Variante paralela de {@link #findAll(Object, Comparator)}, devuelve el mismo resultado. Las listas
+     * pequeñas se recorren en el hilo que invoca el método.
+     */
+    @Override
+    public List<E> parallelFindAll(E target, Comparator<E> cmp) {
+        if (cmp == null || target == null || !ParallelSearch.worthSplitting(effectiveSize))
+            return findAll(target, cmp);
+        List<E> container = new SCLinkedList<>();
+        ParallelSearch.forEachMatch(this, (item, emit) -> {
+            if (cmp.compare(item, target) == 0)
+                emit.accept(item);
+        }, container::addLast);
+        return container;
+    }
+
+    /**
+     * Encuentra los elementos que sean iguales entre ambas listas. Se evalua como igual a ambos objetos con el
+     * método {@code equals()}. Utiliza un índice hash sobre la lista más pequeña, por lo que tiene una dificultad
+     * de O(n + m).
      *
      * @param targetList Lista con la que se va a comparar los elementos.
      * @return Lista con los elementos de la lista de donde fue invocado el método, y hayan cumplido el criterio del
@@ -213,7 +464,22 @@ public class SCLinkedList<E> implements MutableList<E>{
      */
     @Override
     public List<E> intersectionWith(List<E> targetList) {
-        return intersectionWith(targetList, (it, t) -> it.equals(t)?0:1 );
+        List<E> container = new SCLinkedList<>();
+        Intersections.semiJoin(this, targetList, container::addLast);
+        return container;
+    }
+
+    /**
+     * Variante paralela de {@link #intersectionWith(List)}, devuelve el mismo resultado. Las listas pequeñas se
+     * recorren en el hilo que invoca el método.
+     */
+    @Override
+    public List<E> parallelIntersectionWith(List<E> target) {
+        if (target == null || target.isEmpty() || !ParallelSearch.worthSplitting(effectiveSize))
+            return intersectionWith(target);
+        List<E> container = new SCLinkedList<>();
+        Intersections.parallelSemiJoin(this, target, container::addLast);
+        return container;
     }
 
     /**
@@ -226,7 +492,31 @@ public class SCLinkedList<E> implements MutableList<E>{
      * el comparador.
      */
     public List<E> intersectionWith(List<E> targetList, Comparator<E> cmp){
+        return intersectionWith(targetList, cmp, false);
+    }
+
+    /**
+     * Busca los elementos que sean iguales entre ambas lista. Para que un elemento sea considerado igual el
+     * comparador debe devolver 0. Si el comparador define un orden total, ordena una copia de {@literal targetList}
+     * y busca cada elemento mediante búsqueda binaria, con una dificultad de O((n + m) log m); caso contrario
+     * tiene una dificultad de O(n^2).
+     *
+     * @param targetList lista con la que se van a comparar los elementos.
+     * @param cmp comparador para evaluar los objetos de ambas listas.
+     * @param totalOrder true si el comparador define un orden total entre los elementos.
+     * @return Lista con los elementos de la lista de donde fue invocado, que hayan devuelto 0 mediante
+     * el comparador.
+     */
+    public List<E> intersectionWith(List<E> targetList, Comparator<E> cmp, boolean totalOrder){
+        if(cmp == null)
+            throw new IllegalArgumentException("Comparator cannot be null");
         List<E> container = new SCLinkedList<>();
+        if(targetList == null || targetList.isEmpty())
+            return container;
+        if (totalOrder) {
+            Intersections.sortedSemiJoin(this, targetList, cmp, container::addLast);
+            return container;
+        }
         for(E item : this) inner_loop: for(E target : targetList){
             if( cmp.compare(item, target) == 0) {
                 container.addLast(item);
@@ -247,26 +537,18 @@ public class SCLinkedList<E> implements MutableList<E>{
      */
     @Override
     public void keepOnly(final int from, int to) {
-        //FIXME
         checkRange(from, to);
+        to = Math.min(to, effectiveSize-1);
         if (from == 0 && to == effectiveSize - 1)// the list keep inmutable
             return;
 
-        SimpleNode<E> head = null, trail = null, tmp = last;
-        to = Math.min(to, effectiveSize-1);
-        int original_size = effectiveSize;
-        for (int i = 0; i < original_size; i++) {
-            tmp = tmp.getNext();
-            if (i == from)
-                head = tmp;
-            else if (i == to)
-                trail = tmp;
-            if (i < from || i > to) {
-                effectiveSize--;
-            }
-        }
+        SimpleNode<E> head = getNodeAt(from);
+        SimpleNode<E> trail = getNodeAt(to); // se recorre desde head gracias al finger
         trail.setNext(head);
         last = trail;
+        finger = null;
+        effectiveSize = to - from + 1;
+        modCount++;
     }
 
     /**
@@ -280,37 +562,26 @@ public class SCLinkedList<E> implements MutableList<E>{
     @Override
     public void detach(final int from, int to) {
         checkRange(from, to);
-        if (from == 0 && to >= effectiveSize) { // clear all list if this happen
-            // this could handle error
+        to = Math.min(to, effectiveSize-1);
+        if (from == 0 && to == effectiveSize - 1) { // clear all list if this happen
             clear();
             return;
         }
-        SimpleNode<E> head = null, trail = null, tmp = last, original_head = last.getNext();
-        to = Math.min(to, effectiveSize-1);
-        int original_size = effectiveSize;
-        for (int i = 0; i < original_size; i++) {
-            tmp = tmp.getNext();
-            if (i == from - 1)
-                head = tmp;
-            else if (i == to + 1)
-                trail = tmp;
-            if (i >= from && i <= to) {
-                effectiveSize--;
-            }
-        }
-        // the next validations are needed because this is a circular implementation of linkedList
-        if (to == original_size -1) {
-            trail = original_head;
-            last = head;
-
-        } else if(from == 0)
-            head = last;
-
+        // this is a circular implementation, so the node before index 0 is the last node
+        SimpleNode<E> head = getNodeAt(from - 1);
+        SimpleNode<E> trail = getNodeAt(to).getNext();
         head.setNext(trail);
+        if (to == effectiveSize - 1)
+            last = head;
+        finger = null;
+        effectiveSize -= to - from + 1;
+        modCount++;
     }
 
     /**
      * Get a node of a specific index. Accepts negative index.
+     * The walk starts from the last accessed node when it is behind the target, so sequential index access
+     * costs O(1) per call.
      *
      * @param index index of target node.
      * @return the node at the specified index
@@ -322,12 +593,89 @@ public class SCLinkedList<E> implements MutableList<E>{
             index += effectiveSize;
 
         SimpleNode<E> node= last;
-        for (int i = 0; i <= index; i++) {
+        int moves = index + 1;
+        if (index == effectiveSize - 1) {
+            moves = 0;
+        } else if (finger != null && fingerIndex <= index && index - fingerIndex < moves) {
+            node = finger;
+            moves = index - fingerIndex;
+        }
+        for (int i = 0; i < moves; i++) {
             node = node.getNext();
         }
+        finger = node;
+        fingerIndex = index;
         return node;
     }
 
+    /**
+     * Desenlaza un nodo a partir de su nodo previo, sin recorrer la lista.
+     *
+     * @param previous nodo previo a {@literal node}, el último nodo si {@literal node} es el primero.
+     * @param node nodo a eliminar.
+     */
+    private void unlinkNext(SimpleNode<E> previous, SimpleNode<E> node) {
+        if (effectiveSize == 1) {
+            last = null;
+        } else {
+            previous.setNext(node.getNext());
+            if (node == last)
+                last = previous;
+        }
+        recycle(node);
+        finger = null;
+        effectiveSize--;
+        modCount++;
+    }
+
+    /**
+     * Enlaza los elementos en una cadena de nodos y la une a la lista mediante {@link #linkChain}.
+     */
+    private boolean linkAll(int index, Iterable<? extends E> elements) {
+        SimpleNode<E> first = null, tail = null;
+        int added = 0;
+        for (E e : elements) {
+            if (e == null)
+                continue;
+            SimpleNode<E> node = newNode(e);
+            if (first == null)
+                first = node;
+            else
+                tail.setNext(node);
+            tail = node;
+            added++;
+        }
+        if (added == 0)
+            return false;
+        tail.setNext(first);
+        linkChain(index, tail, added);
+        return true;
+    }
+
+    /**
+     * Une una cadena circular de nodos a la lista después del nodo en {@literal index - 1}.
+     *
+     * @param index posición donde queda el primer nodo de la cadena, previamente validada.
+     * @param tail último nodo de la cadena, enlazado con el primero.
+     * @param count cantidad de nodos de la cadena.
+     */
+    private void linkChain(int index, SimpleNode<E> tail, int count) {
+        if (last == null) {
+            last = tail;
+        } else {
+            SimpleNode<E> first = tail.getNext();
+            SimpleNode<E> preceding = (index == 0 || index == effectiveSize) ? last : getNodeAt(index - 1);
+            tail.setNext(preceding.getNext());
+            preceding.setNext(first);
+            if (index == effectiveSize)
+                last = tail;
+            if (fingerIndex >= index)
+                fingerIndex += count; // los nodos posteriores se desplazan
+        }
+        effectiveSize += count;
+        modCount++;
+    }
+
     /**
      * Throw an exception if the range is invalid.
      *
@@ -339,10 +687,28 @@ public class SCLinkedList<E> implements MutableList<E>{
             throw new IllegalArgumentException("Only positive values are accepted");
         if (from > to)
             throw new IllegalArgumentException("From value most be lower than to");
-        if (from > effectiveSize)
+        if (from >= effectiveSize)
             throw new IllegalArgumentException("From value is out of bounds");
     }
 
+    /**
+     * @param e contenido del nodo.
+     * @return un nodo sin enlazar, reutilizado del pool si es posible.
+     */
+    private SimpleNode<E> newNode(E e) {
+        return (pool == null) ? new SimpleNode<>(e) : pool.acquire(e);
+    }
+
+    /**
+     * Limpia un nodo que ya fue desenlazado de la lista y lo devuelve al pool, si existe.
+     */
+    private void recycle(SimpleNode<E> node) {
+        if (pool == null)
+            node.clean();
+        else
+            pool.release(node);
+    }
+
     /**
      * @return Representación de la lista con un formato [a_1, a_2, ..., a_n]
      */
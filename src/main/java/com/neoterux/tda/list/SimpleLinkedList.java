@@ -3,8 +3,12 @@ package com.neoterux.tda.list;
 import com.neoterux.tda.list.content.SimpleNode;
 
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Predicate;
 
 /**
  * Implementación de una LinkedList simple no circular.
@@ -25,6 +29,19 @@ public class SimpleLinkedList<E> implements MutableList<E>{
      * Se utiliza para no tener que recorrer la lista en caso de querer obtener el tamaño.
      */
     private int effectiveSize = 0;
+    /**
+     * Cantidad de modificaciones estructurales, utilizada por los iteradores y las vistas de
+     * {@link #subList(int, int)} para detectar modificaciones de la lista fuera de ellos.
+     */
+    private int modCount;
+    /**
+     * Último nodo accedido mediante {@link #getNodeAt(int)}, null si no es válido.
+     */
+    private SimpleNode<E> finger;
+    /**
+     * Índice de {@link #finger} dentro de la lista.
+     */
+    private int fingerIndex;
 
     /**
      * Crea un nuevo LinkedList vacío.
@@ -48,7 +65,9 @@ public class SimpleLinkedList<E> implements MutableList<E>{
             last = nfirst;
 
         header = nfirst;
+        fingerIndex++; // todos los nodos se desplazan una posición
         effectiveSize++;
+        modCount++;
         return true;
     }
 
@@ -70,7 +89,8 @@ public class SimpleLinkedList<E> implements MutableList<E>{
         }
         last = nNode;
         effectiveSize++;
-    return true;
+        modCount++;
+        return true;
     }
 
     /**
@@ -84,15 +104,106 @@ public class SimpleLinkedList<E> implements MutableList<E>{
         if(element == null)
             return;
         Objects.checkIndex(index, effectiveSize);
-        SimpleNode<E> nNode = new SimpleNode<>(element);
         if(index == 0) {
-            nNode.setNext(header);
-            header = nNode;
+            addFirst(element);
+            return;
         }else {
             SimpleNode<E> tmp = getNodeAt(index-1);
             tmp.genNext(element);
         }
         effectiveSize++;
+        modCount++;
+    }
+
+    /**
+     * Añade los elementos al final de la lista, enlazándolos en una cadena que se une al último nodo en un solo
+     * paso, con una dificultad de O(m).
+     *
+     * @param elements elementos a añadir, los elementos null se omiten.
+     * @return true si se añadió al menos un elemento.
+     */
+    @Override
+    public boolean addAll(Iterable<? extends E> elements) {
+        return linkAll(effectiveSize, elements);
+    }
+
+    /**
+     * Inserta los elementos a partir de {@literal index}, enlazándolos en una cadena independiente que se une
+     * después del nodo previo a {@literal index} en un solo paso. En el peor caso tiene una dificultad de
+     * O(n + m).
+     *
+     * @param index posición donde se inserta el primer elemento, entre 0 y {@link #size()}.
+     * @param elements elementos a insertar, los elementos null se omiten.
+     * @return true si se insertó al menos un elemento.
+     */
+    @Override
+    public boolean addAll(int index, List<? extends E> elements) {
+        Objects.checkIndex(index, effectiveSize + 1);
+        return linkAll(index, elements);
+    }
+
+    /**
+     * Mueve todos los nodos de {@literal other} al final de esta lista, sin copiar elementos ni reservar nodos
+     * nuevos, con una dificultad de O(1). {@literal other} queda vacía.
+     *
+     * @param other lista de donde se mueven los nodos.
+     * @throws IllegalArgumentException si {@literal other} es esta misma lista.
+     */
+    public void transferAll(SimpleLinkedList<E> other) {
+        splice(effectiveSize, other);
+    }
+
+    /**
+     * Mueve todos los nodos de {@literal other} a esta lista a partir de {@literal index}, sin copiar elementos
+     * ni reservar nodos nuevos. Únicamente se recorre esta lista hasta el nodo previo a {@literal index}, por lo
+     * que tiene una dificultad de O(index), e insertar al inicio o al final es O(1). {@literal other} queda
+     * vacía.
+     *
+     * @param index posición donde queda el primer elemento de {@literal other}, entre 0 y {@link #size()}.
+     * @param other lista de donde se mueven los nodos.
+     * @throws IllegalArgumentException si {@literal other} es esta misma lista.
+     * @throws IndexOutOfBoundsException si {@literal index} está fuera de límites.
+     */
+    public void splice(int index, SimpleLinkedList<E> other) {
+        if (other == this)
+            throw new IllegalArgumentException("Cannot splice a list into itself");
+        Objects.checkIndex(index, effectiveSize + 1);
+        if (other == null || other.isEmpty())
+            return;
+        SimpleNode<E> first = other.header, tail = other.last;
+        int count = other.effectiveSize;
+        other.clear();
+        linkChain(index, first, tail, count);
+    }
+
+    /**
+     * Divide la lista en {@literal index}: esta lista conserva los elementos [0, index) y los elementos
+     * [index, n) se mueven a una nueva lista, sin copiar elementos. Tiene una dificultad de O(index) para
+     * localizar el nodo previo a {@literal index}.
+     *
+     * @param index posición del primer elemento de la nueva lista, entre 0 y {@link #size()}.
+     * @return una nueva lista con los elementos a partir de {@literal index}.
+     * @throws IndexOutOfBoundsException si {@literal index} está fuera de límites.
+     */
+    public SimpleLinkedList<E> splitAt(int index) {
+        Objects.checkIndex(index, effectiveSize + 1);
+        SimpleLinkedList<E> rest = new SimpleLinkedList<>();
+        if (index == effectiveSize)
+            return rest;
+        rest.last = last;
+        rest.effectiveSize = effectiveSize - index;
+        if (index == 0) {
+            rest.header = header;
+            clear();
+            return rest;
+        }
+        SimpleNode<E> nLast = getNodeAt(index - 1);
+        rest.header = nLast.getNext();
+        nLast.setNext(null);
+        last = nLast;
+        effectiveSize = index;
+        modCount++;
+        return rest;
     }
 
     /**
@@ -113,12 +224,64 @@ public class SimpleLinkedList<E> implements MutableList<E>{
             tmp.setNext(nxt.getNext());
             if(index == effectiveSize -1)
                 last = tmp;
+            nxt.clean();
         }
         effectiveSize--;
+        modCount++;
         return removed;
 
     }
 
+    /**
+     * Elimina los elementos que cumplan con {@literal filter} en un solo recorrido de los nodos: los nodos que
+     * se conservan se enlazan entre sí conforme se recorre, con una dificultad de O(n). Si {@literal filter}
+     * lanza una excepción, los elementos que aún no se evaluaron se conservan.
+     *
+     * @param filter condición de los elementos a eliminar.
+     * @return true si se eliminó al menos un elemento.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        SimpleNode<E> node = header;
+        SimpleNode<E> first = null, kept = null; // primer y último nodo conservado
+        int n = effectiveSize, i = 0, removed = 0;
+        try {
+            for (; i < n; i++) {
+                SimpleNode<E> next = node.getNext();
+                if (filter.test(node.getContent())) {
+                    node.clean();
+                    removed++;
+                } else {
+                    if (first == null)
+                        first = node;
+                    else
+                        kept.setNext(node);
+                    kept = node;
+                }
+                node = next;
+            }
+        } finally {
+            if (removed > 0) {
+                if (i < n) { // el filtro lanzó una excepción, se conservan los nodos desde node hasta last
+                    if (first == null)
+                        first = node;
+                    else
+                        kept.setNext(node);
+                    kept = last;
+                }
+                header = first;
+                last = kept;
+                if (kept != null)
+                    kept.setNext(null);
+                finger = null;
+                effectiveSize -= removed;
+                modCount++;
+            }
+        }
+        return removed > 0;
+    }
+
     @Override
     public E removeFirst() {
         if(isEmpty())
@@ -131,7 +294,12 @@ public class SimpleLinkedList<E> implements MutableList<E>{
         }else {
             header = header.getNext();
         }
+        old.clean();
+        if (fingerIndex == 0)
+            finger = null;
+        fingerIndex--;
         effectiveSize--;
+        modCount++;
 
         return old.getContent();
     }
@@ -176,22 +344,11 @@ public class SimpleLinkedList<E> implements MutableList<E>{
         if(element == null)
             return null;
         Objects.checkIndex(index, effectiveSize);
-        var nNode = new SimpleNode<>(element);
-        E detached = null;
-        if(index == 0){
-            nNode.setNext(header.getNext());
-            detached = header.getContent();
-            header = nNode;
-        }else if (index == effectiveSize -1){
-            last.setNext(nNode);
-            last = nNode;
-        }else {
-            var node = getNodeAt(index-1);
-            detached = node.getNext().getContent();
-            nNode.setNext(node.getNext().getNext());
-            node.setNext(nNode);
-        }
-        return detached;
+        // el contenido se reemplaza dentro del mismo nodo, sin modificar los enlaces
+        SimpleNode<E> node = getNodeAt(index);
+        E old = node.getContent();
+        node.setContent(element);
+        return old;
     }
 
     /**
@@ -220,6 +377,9 @@ public class SimpleLinkedList<E> implements MutableList<E>{
         // tipo nodo son package-private. y nadie más tiene referencia a estos.
         header = null;
         last = null;
+        finger = null;
+        effectiveSize = 0;
+        modCount++;
         // System.gc();
     }
 
@@ -260,7 +420,25 @@ public class SimpleLinkedList<E> implements MutableList<E>{
     }
 
     /**
-     * Genera una nueva lista con elementos que contengan en común ambas listas.
+     * Variante paralela de {@link #findAll(Object, Comparator)}, devuelve el mismo resultado. Las listas
+     * pequeñas se recorren en el hilo que invoca el método.
+     */
+    @Override
+    public List<E> parallelFindAll(E target, Comparator<E> cmp) {
+        if (cmp == null || target == null || !ParallelSearch.worthSplitting(effectiveSize))
+            return findAll(target, cmp);
+        List<E> container = new SimpleLinkedList<>();
+        ParallelSearch.forEachMatch(this, (item, emit) -> {
+            if (cmp.compare(target, item) == 0)
+                emit.accept(item);
+        }, container::addLast);
+        return container;
+    }
+
+    /**
+     * Genera una nueva lista con elementos que contengan en común ambas listas. Cada elemento de esta lista se
+     * añade una vez por cada elemento igual en {@literal target}. Utiliza un índice hash sobre la lista más
+     * pequeña, por lo que tiene una dificultad de O(n + m).
      *
      * @param target lista a buscar
      * @return lista con los objetos en común.
@@ -271,29 +449,121 @@ public class SimpleLinkedList<E> implements MutableList<E>{
         if (target == null)
             throw new NullPointerException("Target must not be null");
         List<E> itr = new SimpleLinkedList<>();
-        forEach((item)->{
-            for (E e : target) {
-                if (e.equals(item))
-                    itr.addLast(item);
-            }
-        });
+        Intersections.join(this, target, false, itr::addLast);
         return itr;
     }
 
+    /**
+     * Variante paralela de {@link #intersectionWith(List)}, devuelve el mismo resultado. Las listas pequeñas se
+     * recorren en el hilo que invoca el método.
+     */
+    @Override
+    public List<E> parallelIntersectionWith(List<E> target) {
+        if (target == null || target.isEmpty() || !ParallelSearch.worthSplitting(effectiveSize))
+            return intersectionWith(target);
+        List<E> container = new SimpleLinkedList<>();
+        Intersections.parallelJoin(this, target, false, container::addLast);
+        return container;
+    }
+
+    /**
+     * Obtiene el nodo en el índice especificado. El recorrido inicia desde el último nodo accedido si se
+     * encuentra antes del índice, por lo que un recorrido secuencial por índices tiene un costo O(1) por acceso.
+     *
+     * @param index índice del nodo.
+     * @return el nodo en el índice especificado.
+     */
     private SimpleNode<E> getNodeAt(int index) {
         Objects.checkIndex(index, effectiveSize);
-        if(index == 0){
-            return header;
-        }else if (index == effectiveSize -1){
-            return last;
-        }
         SimpleNode<E> tmp = header;
-        for (int i = 0; i < index; i++) {
+        int moves = index;
+        if (index == effectiveSize - 1) {
+            tmp = last;
+            moves = 0;
+        } else if (finger != null && fingerIndex <= index) {
+            tmp = finger;
+            moves = index - fingerIndex;
+        }
+        for (int i = 0; i < moves; i++) {
             tmp = tmp.getNext();
         }
+        finger = tmp;
+        fingerIndex = index;
         return tmp;
     }
 
+    /**
+     * Enlaza los elementos en una cadena de nodos y la une a la lista mediante {@link #linkChain}.
+     */
+    private boolean linkAll(int index, Iterable<? extends E> elements) {
+        SimpleNode<E> first = null, tail = null;
+        int added = 0;
+        for (E e : elements) {
+            if (e == null)
+                continue;
+            SimpleNode<E> node = new SimpleNode<>(e);
+            if (first == null)
+                first = node;
+            else
+                tail.setNext(node);
+            tail = node;
+            added++;
+        }
+        if (added == 0)
+            return false;
+        linkChain(index, first, tail, added);
+        return true;
+    }
+
+    /**
+     * Une una cadena de nodos a la lista antes del nodo en {@literal index}, o al final si {@literal index} es
+     * igual al tamaño de la lista.
+     *
+     * @param index posición donde queda el primer nodo de la cadena, previamente validada.
+     * @param first primer nodo de la cadena.
+     * @param tail último nodo de la cadena.
+     * @param count cantidad de nodos de la cadena.
+     */
+    private void linkChain(int index, SimpleNode<E> first, SimpleNode<E> tail, int count) {
+        if (header == null) {
+            header = first;
+            last = tail;
+        } else if (index == 0) {
+            tail.setNext(header);
+            header = first;
+        } else if (index == effectiveSize) {
+            last.setNext(first);
+            last = tail;
+        } else {
+            SimpleNode<E> preceding = getNodeAt(index - 1);
+            tail.setNext(preceding.getNext());
+            preceding.setNext(first);
+        }
+        if (fingerIndex >= index)
+            fingerIndex += count; // los nodos posteriores se desplazan
+        effectiveSize += count;
+        modCount++;
+    }
+
+    /**
+     * Desenlaza un nodo a partir de su nodo previo, sin recorrer la lista.
+     *
+     * @param previous nodo previo a {@literal node}, null si {@literal node} es el primero.
+     * @param node nodo a eliminar.
+     */
+    private void unlinkNext(SimpleNode<E> previous, SimpleNode<E> node) {
+        if (previous == null)
+            header = node.getNext();
+        else
+            previous.setNext(node.getNext());
+        if (node == last)
+            last = previous;
+        node.clean();
+        finger = null;
+        effectiveSize--;
+        modCount++;
+    }
+
     /**
      * @return La representacion de la lista en formato [e1, e2, ..., en].
      */
@@ -324,23 +594,14 @@ public class SimpleLinkedList<E> implements MutableList<E>{
             return;
         checkRange(from, to);
         to = Math.min(to, effectiveSize-1);
-        int oldSize = effectiveSize;
-        SimpleNode<E> first = header, end = header, detch = header;
-        for (int i = 0; i < oldSize; i++) {
-            if(i < from)
-                first = first.getNext();
-            if(i < to)
-                end = end.getNext();
-            if(i < from || i > to){
-                SimpleNode<E> tmp = detch.getNext();
-                detch.clean();
-                detch = tmp;
-                effectiveSize--;
-            }
-        }
+        SimpleNode<E> first = getNodeAt(from);
+        SimpleNode<E> end = getNodeAt(to);
         header = first;
         last = end;
         end.setNext(null);
+        finger = null;
+        effectiveSize = to - from + 1;
+        modCount++;
     }
 
     @Override
@@ -353,28 +614,20 @@ public class SimpleLinkedList<E> implements MutableList<E>{
             clear();
             return;
         }
-        SimpleNode<E> first = null, end = null, tmp = header;
-        int osize = effectiveSize;
         int moves = (to - from) +1;
-        for (int i = 0; i < osize; i++) {
-            if(i < from)
-                first = tmp;
-            if ( i <= to)
-                end = tmp;
-            tmp = tmp.getNext();
-        }
+        SimpleNode<E> first = (from == 0) ? null : getNodeAt(from - 1);
+        SimpleNode<E> end = getNodeAt(to);
         if (first == null) // this is that the from index is 0
             header = end.getNext();
-        else if (end == null || end.getNext() == null){ // that means that we reached the end.
-            last = first;
-            first.setNext(null);
-        }else{
+        else {
             first.setNext(end.getNext());
-            if(to == effectiveSize -1)
-                last = end.getNext();
+            if (to == effectiveSize - 1) // that means that we reached the end.
+                last = first;
         }
+        finger = null;
 
         effectiveSize -= moves;
+        modCount++;
     }
 
     private void checkRange(int from, int to) {
@@ -382,25 +635,88 @@ public class SimpleLinkedList<E> implements MutableList<E>{
             throw new IllegalArgumentException("from must be lower than to");
         if (from < 0)
             throw new IndexOutOfBoundsException("from must be >= 0");
+        if (from >= effectiveSize)
+            throw new IllegalArgumentException("from must be inside list bounds");
     }
 
     /**
-     * @return un objeto Iterator.
+     * @return un spliterator que se divide en dos rangos de nodos del mismo tamaño.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new NodeSpliterator<>(header, effectiveSize);
+    }
+
+    /**
+     * Vista de los elementos en el rango [from, to) que comparte los nodos con esta lista, sin copiar
+     * elementos. Si esta lista se modifica estructuralmente fuera de la vista, cualquier operación posterior
+     * sobre la vista lanza {@link ConcurrentModificationException}.
+     *
+     * @param from índice del primer elemento de la vista, inclusivo.
+     * @param to índice final de la vista, exclusivo.
+     * @return una vista sobre el rango.
+     */
+    @Override
+    public MutableList<E> subList(int from, int to) {
+        return new SubList<>(this, from, to, () -> modCount);
+    }
+
+    /**
+     * El iterador conserva el nodo previo al último elemento devuelto, por lo que {@link Iterator#remove()}
+     * desenlaza el nodo con una dificultad de O(1).
+     *
+     * @return un iterador que lanza {@link ConcurrentModificationException} si la lista se modifica
+     * estructuralmente fuera del iterador durante el recorrido.
      */
     @Override
     public Iterator<E> iterator() {
         return new Iterator<>() {
             private SimpleNode<E> pointer = header;
+
+            /**
+             * Último nodo devuelto por {@link #next()}, null si ya se eliminó o aún no se llama a next.
+             */
+            private SimpleNode<E> lastReturned;
+
+            /**
+             * Nodo previo a {@link #lastReturned}, null si es el primer nodo de la lista.
+             */
+            private SimpleNode<E> previous;
+            private int idx = 0;
+            private int expectedModCount = modCount;
+
             @Override
             public boolean hasNext() {
-                return pointer != null;
+                return idx < effectiveSize;
             }
 
             @Override
             public E next() {
-                var old = pointer;
+                checkForComodification();
+                if (idx >= effectiveSize)
+                    throw new NoSuchElementException();
+                if (lastReturned != null)
+                    previous = lastReturned;
+                lastReturned = pointer;
                 pointer = pointer.getNext();
-                return old.getContent();
+                idx++;
+                return lastReturned.getContent();
+            }
+
+            @Override
+            public void remove() {
+                if (lastReturned == null)
+                    throw new IllegalStateException();
+                checkForComodification();
+                unlinkNext(previous, lastReturned);
+                lastReturned = null;
+                idx--;
+                expectedModCount = modCount;
+            }
+
+            private void checkForComodification() {
+                if (modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
             }
         };
     }
@@ -0,0 +1,288 @@
+package com.neoterux.tda.list;
+
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.IntSupplier;
+
+/**
+ * Vista sobre el rango [offset, offset + size) de una {@link MutableList}, ver
+ * {@link MutableList#subList(int, int)}. Cada operación se traduce a la operación equivalente de la lista
+ * original desplazando el índice, por lo que la vista no copia ni almacena elementos.
+ * <p>
+ * La vista guarda el contador de modificaciones de la lista original al crearse y después de cada modificación
+ * estructural propia; si el contador cambia por una modificación hecha fuera de la vista, la siguiente operación
+ * lanza {@link ConcurrentModificationException}.
+ *
+ * @param <E> tipo de dato que almacena la lista
+ */
+final class SubList<E> implements MutableList<E> {
+
+    private final MutableList<E> parent;
+
+    /**
+     * Contador de modificaciones estructurales de {@link #parent}.
+     */
+    private final IntSupplier parentModCount;
+
+    private final int offset;
+
+    private int size;
+
+    /**
+     * Valor de {@link #parentModCount} que corresponde al estado conocido por la vista.
+     */
+    private int expectedModCount;
+
+    /**
+     * Cantidad de modificaciones estructurales hechas mediante esta vista, para las vistas anidadas.
+     */
+    private int modCount;
+
+    SubList(MutableList<E> parent, int from, int to, IntSupplier parentModCount) {
+        Objects.checkFromToIndex(from, to, parent.size());
+        this.parent = parent;
+        this.parentModCount = parentModCount;
+        this.offset = from;
+        this.size = to - from;
+        this.expectedModCount = parentModCount.getAsInt();
+    }
+
+    @Override
+    public boolean addFirst(E e) {
+        checkForComodification();
+        if (e == null)
+            return false;
+        insert(offset, e);
+        return true;
+    }
+
+    @Override
+    public boolean addLast(E e) {
+        checkForComodification();
+        if (e == null)
+            return false;
+        insert(offset + size, e);
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        checkForComodification();
+        if (element == null)
+            return;
+        Objects.checkIndex(index, size);
+        insert(offset + index, element);
+    }
+
+    @Override
+    public boolean addAll(Iterable<? extends E> elements) {
+        if (elements instanceof List)
+            return addAll(size, (List<? extends E>) elements);
+        return addAll(size, Batches.snapshot(elements));
+    }
+
+    @Override
+    public boolean addAll(int index, List<? extends E> elements) {
+        checkForComodification();
+        Objects.checkIndex(index, size + 1);
+        int before = parent.size();
+        boolean changed = parent.addAll(offset + index, (elements == this) ? Batches.snapshot(elements) : elements);
+        updateSize(parent.size() - before);
+        return changed;
+    }
+
+    @Override
+    public E remove(int index) {
+        checkForComodification();
+        Objects.checkIndex(index, size);
+        E removed = parent.remove(offset + index);
+        updateSize(-1);
+        return removed;
+    }
+
+    @Override
+    public E removeFirst() {
+        checkForComodification();
+        return (size == 0) ? null : remove(0);
+    }
+
+    @Override
+    public E removeLast() {
+        checkForComodification();
+        return (size == 0) ? null : remove(size - 1);
+    }
+
+    @Override
+    public E get(int index) {
+        checkForComodification();
+        Objects.checkIndex(index, size);
+        return parent.get(offset + index);
+    }
+
+    @Override
+    public E set(int index, E element) {
+        checkForComodification();
+        Objects.checkIndex(index, size);
+        return parent.set(offset + index, element);
+    }
+
+    @Override
+    public int size() {
+        checkForComodification();
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Elimina de la lista original los elementos de la vista.
+     */
+    @Override
+    public void clear() {
+        checkForComodification();
+        if (size == 0)
+            return;
+        parent.detach(offset, offset + size - 1);
+        updateSize(-size);
+    }
+
+    @Override
+    public void keepOnly(int from, int to) {
+        checkRanges(from, to);
+        int top = Math.min(to, size - 1);
+        if (top < size - 1)
+            parent.detach(offset + top + 1, offset + size - 1);
+        if (from > 0)
+            parent.detach(offset, offset + from - 1);
+        updateSize(top - from + 1 - size);
+    }
+
+    @Override
+    public void detach(int from, int to) {
+        checkRanges(from, to);
+        int top = Math.min(to, size - 1);
+        parent.detach(offset + from, offset + top);
+        updateSize(from - top - 1);
+    }
+
+    @Override
+    public MutableList<E> subList(int from, int to) {
+        checkForComodification();
+        return new SubList<>(this, from, to, () -> modCount);
+    }
+
+    @Override
+    public List<E> findAll(E target) {
+        return findAll(target, (t, item) -> t.equals(item) ? 0 : 1);
+    }
+
+    /**
+     * @param cmp comparador con el {@literal target} como primer argumento.
+     */
+    @Override
+    public List<E> findAll(E target, Comparator<E> cmp) {
+        if (cmp == null)
+            throw new IllegalArgumentException("Comparator cannot be null");
+        List<E> container = new ArrayList<>();
+        if (target == null)
+            return container;
+        for (E item : this) {
+            if (cmp.compare(target, item) == 0)
+                container.addLast(item);
+        }
+        return container;
+    }
+
+    @Override
+    public List<E> intersectionWith(List<E> target) {
+        List<E> container = new ArrayList<>();
+        if (target == null || target.isEmpty())
+            return container;
+        Intersections.semiJoin(this, target, container::addLast);
+        return container;
+    }
+
+    /**
+     * @return un iterador que lanza {@link ConcurrentModificationException} si la lista original se modifica
+     * estructuralmente durante el recorrido.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        checkForComodification();
+        return new Iterator<>() {
+            private int cursor = 0;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public E next() {
+                checkForComodification();
+                if (cursor >= size)
+                    throw new NoSuchElementException();
+                return parent.get(offset + cursor++);
+            }
+        };
+    }
+
+    /**
+     * @return Una representación de la vista en forma legible.
+     */
+    @Override
+    public String toString() {
+        StringBuilder representation = new StringBuilder("[");
+        Iterator<E> it = iterator();
+        while (it.hasNext()) {
+            representation.append(it.next());
+            if (it.hasNext())
+                representation.append(", ");
+        }
+        representation.append("]");
+        return representation.toString();
+    }
+
+    /**
+     * Inserta un elemento en la lista original, al final de ella si {@literal parentIndex} es su tamaño.
+     */
+    private void insert(int parentIndex, E e) {
+        if (parentIndex == parent.size())
+            parent.addLast(e);
+        else
+            parent.add(parentIndex, e);
+        updateSize(1);
+    }
+
+    /**
+     * Registra una modificación estructural hecha mediante la vista.
+     *
+     * @param delta cambio en la cantidad de elementos de la vista.
+     */
+    private void updateSize(int delta) {
+        size += delta;
+        expectedModCount = parentModCount.getAsInt();
+        modCount++;
+    }
+
+    private void checkForComodification() {
+        if (parentModCount.getAsInt() != expectedModCount)
+            throw new ConcurrentModificationException();
+    }
+
+    private void checkRanges(int from, int to) {
+        checkForComodification();
+        if (from > to)
+            throw new IllegalArgumentException("from value must be lower than to");
+        if (from < 0 || to < 0)
+            throw new IllegalArgumentException("Values must me greater than 0");
+        if (from >= size)
+            throw new IllegalArgumentException("from must be inside list bounds");
+    }
+}
@@ -0,0 +1,598 @@
+package com.neoterux.tda.list;
+
+import com.neoterux.tda.list.content.ChunkNode;
+
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+
+/**
+ * Implementación de una LinkedList "desenrollada" (unrolled): cada nodo almacena un bloque de hasta
+ * {@link #chunkCapacity} elementos contiguos, por lo que el recorrido se acerca a la velocidad de un arreglo y
+ * se reserva un nodo por bloque en lugar de uno por elemento. Las inserciones y eliminaciones en el centro
+ * únicamente desplazan los elementos de un bloque.
+ *
+ * @param <E> tipo de dato que almacena la lista
+ */
+public class UnrolledLinkedList<E> implements MutableList<E> {
+
+    /**
+     * Capacidad por defecto de cada bloque.
+     */
+    public static final int DEFAULT_CHUNK_CAPACITY = 64;
+
+    /**
+     * Primer bloque de la lista.
+     */
+    private ChunkNode<E> head;
+
+    /**
+     * Último bloque de la lista.
+     */
+    private ChunkNode<E> tail;
+
+    /**
+     * Cantidad máxima de elementos por bloque.
+     */
+    private final int chunkCapacity;
+
+    private int effectiveSize = 0;
+
+    /**
+     * Cantidad de modificaciones estructurales (inserciones y eliminaciones), utilizada por los iteradores y las
+     * vistas de {@link #subList(int, int)} para detectar modificaciones de la lista fuera de ellos.
+     */
+    private int modCount = 0;
+
+    /**
+     * Posición dentro del bloque encontrado por la última llamada a {@link #locate(int)}.
+     */
+    private int offset;
+
+    /**
+     * Crea una nueva lista vacía con bloques de {@value #DEFAULT_CHUNK_CAPACITY} elementos.
+     */
+    public UnrolledLinkedList() {
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    /**
+     * Crea una nueva lista vacía.
+     *
+     * @param chunkCapacity cantidad máxima de elementos por bloque, debe ser mayor a 1.
+     */
+    public UnrolledLinkedList(int chunkCapacity) {
+        if (chunkCapacity <= 1)
+            throw new IllegalArgumentException("Illegal chunk capacity");
+        this.chunkCapacity = chunkCapacity;
+    }
+
+    /**
+     * Añade un nuevo elemento al inicio de la lista, en el peor caso desplaza los elementos del primer bloque.
+     *
+     * @param e elemento a añadir.
+     * @return true si se añadió con éxito.
+     */
+    @Override
+    public boolean addFirst(E e) {
+        if (e == null)
+            return false;
+        if (head == null)
+            head = tail = new ChunkNode<>(chunkCapacity);
+        else if (head.isFull())
+            head = head.genPrevius(newBlock());
+        head.insert(0, e);
+        effectiveSize++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Añade un nuevo elemento al final de la lista, tiene una dificultad de O(1).
+     *
+     * @param e elemento a añadir.
+     * @return true si se añadió con éxito.
+     */
+    @Override
+    public boolean addLast(E e) {
+        if (e == null)
+            return false;
+        if (tail == null)
+            head = tail = new ChunkNode<>(chunkCapacity);
+        else if (tail.isFull())
+            tail = tail.genNext(newBlock());
+        tail.insert(tail.count(), e);
+        effectiveSize++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Añade un elemento en el índice especificado, desplazando los elementos posteriores. Si el bloque está
+     * lleno se divide en dos bloques a la mitad.
+     *
+     * @param index indice a añadir
+     * @param element elemento a añadir
+     */
+    @Override
+    public void add(int index, E element) {
+        if (element == null)
+            return;
+        Objects.checkIndex(index, effectiveSize);
+        ChunkNode<E> node = locate(index);
+        int off = offset;
+        if (node.isFull()) {
+            int half = chunkCapacity >> 1;
+            ChunkNode<E> split = node.genNext(newBlock());
+            node.moveTailTo(half, split);
+            if (node == tail)
+                tail = split;
+            if (off > half) {
+                node = split;
+                off -= half;
+            }
+        }
+        node.insert(off, element);
+        effectiveSize++;
+        modCount++;
+    }
+
+    /**
+     * Elimina el elemento en el índice especificado.
+     *
+     * @param index indice del elemento a eliminar.
+     * @return el elemento eliminado.
+     */
+    @Override
+    public E remove(int index) {
+        Objects.checkIndex(index, effectiveSize);
+        ChunkNode<E> node = locate(index);
+        E removed = node.delete(offset);
+        effectiveSize--;
+        modCount++;
+        rebalance(node);
+        return removed;
+    }
+
+    @Override
+    public E removeFirst() {
+        if (isEmpty())
+            return null;
+        return remove(0);
+    }
+
+    @Override
+    public E removeLast() {
+        if (isEmpty())
+            return null;
+        E removed = tail.delete(tail.count() - 1);
+        effectiveSize--;
+        modCount++;
+        rebalance(tail);
+        return removed;
+    }
+
+    /**
+     * Elimina los elementos que cumplan con {@literal filter} en un solo recorrido: los elementos que se
+     * conservan se compactan hacia el inicio de su propio bloque, y al final se desenlazan los bloques vacíos y
+     * se unen los bloques con poca ocupación, con una dificultad de O(n). Si {@literal filter} lanza una
+     * excepción, los elementos que aún no se evaluaron se conservan.
+     *
+     * @param filter condición de los elementos a eliminar.
+     * @return true si se eliminó al menos un elemento.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        int before = effectiveSize;
+        try {
+            for (ChunkNode<E> node = head; node != null; node = node.getNext()) {
+                int read = 0, write = 0;
+                try {
+                    for (; read < node.count(); read++) {
+                        E e = node.get(read);
+                        if (!filter.test(e))
+                            node.set(write++, e);
+                    }
+                } finally {
+                    // read < count únicamente si el filtro lanzó una excepción
+                    if (write != read) {
+                        node.removeRange(write, read);
+                        effectiveSize -= read - write;
+                    }
+                }
+            }
+        } finally {
+            if (effectiveSize != before) {
+                modCount++;
+                compactBlocks();
+            }
+        }
+        return effectiveSize != before;
+    }
+
+    /**
+     * Obtiene el elemento en el índice especificado, tiene una dificultad de O(n / chunkCapacity).
+     *
+     * @param index índice del elemento.
+     * @return el elemento, null si la lista está vacía.
+     */
+    @Override
+    public E get(int index) {
+        if (isEmpty())
+            return null;
+        Objects.checkIndex(index, effectiveSize);
+        return locate(index).get(offset);
+    }
+
+    @Override
+    public E set(int index, E element) {
+        Objects.checkIndex(index, effectiveSize);
+        return locate(index).set(offset, element);
+    }
+
+    @Override
+    public int size() {
+        return effectiveSize;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return effectiveSize == 0;
+    }
+
+    @Override
+    public void clear() {
+        head = null;
+        tail = null;
+        effectiveSize = 0;
+        modCount++;
+    }
+
+    /**
+     * Busca los elementos iguales a {@literal target} mediante el método equals.
+     *
+     * @param target elemento a buscar.
+     * @return lista con los elementos encontrados.
+     */
+    @Override
+    public List<E> findAll(E target) {
+        return findAll(target, (t, item) -> t.equals(item) ? 0 : 1);
+    }
+
+    /**
+     * Busca elementos a traves de la lista de acuerdo al comparador, para que un objeto sea identificado como
+     * 'igual', el comparador debe devolver 0.
+     *
+     * @param target objeto a comparar
+     * @param cmp comparador con primer parametro el objeto {@literal target}.
+     * @return lista con los elementos encontrados.
+     */
+    @Override
+    public List<E> findAll(E target, Comparator<E> cmp) {
+        List<E> container = new UnrolledLinkedList<>(chunkCapacity);
+        for (ChunkNode<E> node = head; node != null; node = node.getNext()) {
+            for (int i = 0; i < node.count(); i++) {
+                E item = node.get(i);
+                if (cmp.compare(target, item) == 0)
+                    container.addLast(item);
+            }
+        }
+        return container;
+    }
+
+    /**
+     * Variante paralela de {@link #findAll(Object, Comparator)}, devuelve el mismo resultado. Las listas
+     * pequeñas se recorren en el hilo que invoca el método.
+     */
+    @Override
+    public List<E> parallelFindAll(E target, Comparator<E> cmp) {
+        if (cmp == null || target == null || !ParallelSearch.worthSplitting(effectiveSize))
+            return findAll(target, cmp);
+        List<E> container = new UnrolledLinkedList<>(chunkCapacity);
+        ParallelSearch.forEachMatch(this, (item, emit) -> {
+            if (cmp.compare(target, item) == 0)
+                emit.accept(item);
+        }, container::addLast);
+        return container;
+    }
+
+    /**
+     * Genera una lista con los elementos de esta lista que tengan al menos un elemento igual en
+     * {@literal target}, con una dificultad de O(n + m).
+     *
+     * @param target lista a comparar.
+     * @return lista con los elementos en común.
+     */
+    @Override
+    public List<E> intersectionWith(List<E> target) {
+        List<E> container = new UnrolledLinkedList<>(chunkCapacity);
+        if (target == null || target.isEmpty())
+            return container;
+        Intersections.semiJoin(this, target, container::addLast);
+        return container;
+    }
+
+    /**
+     * Variante paralela de {@link #intersectionWith(List)}, devuelve el mismo resultado. Las listas pequeñas se
+     * recorren en el hilo que invoca el método.
+     */
+    @Override
+    public List<E> parallelIntersectionWith(List<E> target) {
+        if (target == null || target.isEmpty() || !ParallelSearch.worthSplitting(effectiveSize))
+            return intersectionWith(target);
+        List<E> container = new UnrolledLinkedList<>(chunkCapacity);
+        Intersections.parallelSemiJoin(this, target, container::addLast);
+        return container;
+    }
+
+    /**
+     * Mantiene los elementos del rango [from, to], descartando bloques completos en O(n / chunkCapacity).
+     *
+     * @param from index desde donde mantener.
+     * @param to index hasta donde mantener, si es mayor al último índice se toma el último índice.
+     */
+    @Override
+    public void keepOnly(int from, int to) {
+        checkRanges(from, to);
+        int top = Math.min(to, effectiveSize - 1);
+        removeRange(top + 1, effectiveSize);
+        removeRange(0, from);
+    }
+
+    /**
+     * Elimina los elementos del rango [from, to], descartando bloques completos en O(n / chunkCapacity).
+     *
+     * @param from index desde donde eliminar.
+     * @param to index hasta donde eliminar, si es mayor al último índice se toma el último índice.
+     */
+    @Override
+    public void detach(int from, int to) {
+        checkRanges(from, to);
+        int top = Math.min(to, effectiveSize - 1);
+        removeRange(from, top + 1);
+    }
+
+    /**
+     * Vista de los elementos en el rango [from, to) sin copiar elementos. {@code get} y {@code set} sobre la
+     * vista tienen la misma dificultad que sobre esta lista, y las inserciones y eliminaciones sobre la vista se
+     * aplican sobre esta lista. Si esta lista se modifica estructuralmente fuera de la vista, cualquier operación
+     * posterior sobre la vista lanza {@link ConcurrentModificationException}.
+     *
+     * @param from índice del primer elemento de la vista, inclusivo.
+     * @param to índice final de la vista, exclusivo.
+     * @return una vista sobre el rango.
+     */
+    @Override
+    public MutableList<E> subList(int from, int to) {
+        return new SubList<>(this, from, to, () -> modCount);
+    }
+
+    /**
+     * Genera un iterador que recorre los bloques en orden. El iterador falla rápido: si la lista se modifica
+     * estructuralmente fuera de él, lanza {@link ConcurrentModificationException}. {@link Iterator#remove()}
+     * elimina el elemento dentro de su propio bloque, desplazando únicamente los elementos de ese bloque.
+     *
+     * @return un objeto Iterator que recorre los bloques en orden.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private ChunkNode<E> node = head;
+
+            /**
+             * Posición del siguiente elemento dentro de {@link #node}.
+             */
+            private int pointer = 0;
+
+            /**
+             * Cantidad de elementos devueltos, descontando los eliminados.
+             */
+            private int index = 0;
+
+            /**
+             * true si el último elemento devuelto por {@link #next()} puede eliminarse.
+             */
+            private boolean canRemove = false;
+            private int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return index < effectiveSize;
+            }
+
+            @Override
+            public E next() {
+                checkForComodification();
+                if (index >= effectiveSize)
+                    throw new NoSuchElementException();
+                while (pointer >= node.count()) {
+                    node = node.getNext();
+                    pointer = 0;
+                }
+                index++;
+                canRemove = true;
+                return node.get(pointer++);
+            }
+
+            @Override
+            public void remove() {
+                if (!canRemove)
+                    throw new IllegalStateException();
+                checkForComodification();
+                // next() no cambia de bloque después de devolver un elemento, por lo que sigue en node
+                node.delete(--pointer);
+                index--;
+                effectiveSize--;
+                modCount++;
+                if (node.count() == 0) {
+                    ChunkNode<E> next = node.getNext();
+                    unlink(node);
+                    node = next;
+                    pointer = 0;
+                } else {
+                    // si absorbe al siguiente bloque, sus elementos quedan después de pointer
+                    rebalance(node);
+                }
+                canRemove = false;
+                expectedModCount = modCount;
+            }
+
+            private void checkForComodification() {
+                if (modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+            }
+        };
+    }
+
+    /**
+     * @return un spliterator que se divide en el límite de bloque más cercano a la mitad de su rango.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new ChunkSpliterator<>(head, 0, effectiveSize);
+    }
+
+    /**
+     * @return La representacion de la lista en formato [e1, e2, ..., en].
+     */
+    @Override
+    public String toString() {
+        StringBuilder str = new StringBuilder("[");
+        for (ChunkNode<E> node = head; node != null; node = node.getNext()) {
+            for (int i = 0; i < node.count(); i++) {
+                str.append(node.get(i));
+                if (node != tail || i < node.count() - 1)
+                    str.append(", ");
+            }
+        }
+        str.append("]");
+        return str.toString();
+    }
+
+    /**
+     * Elimina los elementos del rango [from, to). Los bloques que quedan completamente dentro del rango se
+     * desenlazan sin recorrer sus elementos, y únicamente se desplazan los elementos de los bloques de los
+     * extremos.
+     *
+     * @param from índice inicial, inclusivo.
+     * @param to índice final, exclusivo.
+     */
+    private void removeRange(int from, int to) {
+        if (from >= to)
+            return;
+        ChunkNode<E> first = locate(from);
+        int firstOffset = offset;
+        ChunkNode<E> end = locate(to - 1);
+        int endOffset = offset;
+        effectiveSize -= to - from;
+        modCount++;
+
+        if (first == end) {
+            first.removeRange(firstOffset, endOffset + 1);
+            rebalance(first);
+            return;
+        }
+        // los bloques intermedios quedan sin referencias y son candidatos para el GC
+        first.setNext(end);
+        end.setPrevious(first);
+        first.removeRange(firstOffset, first.count());
+        end.removeRange(0, endOffset + 1);
+        rebalance(end);
+        rebalance(first);
+    }
+
+    /**
+     * Desenlaza el bloque si quedó vacío, o lo une con el siguiente si ambos caben en un solo bloque y este
+     * ocupa menos de la mitad de su capacidad.
+     *
+     * @param node bloque a revisar.
+     */
+    private void rebalance(ChunkNode<E> node) {
+        if (node.count() == 0) {
+            unlink(node);
+            return;
+        }
+        ChunkNode<E> next = node.getNext();
+        if (next != null && node.count() < chunkCapacity >> 1 && node.count() + next.count() <= chunkCapacity) {
+            node.absorb(next);
+            unlink(next);
+        }
+    }
+
+    /**
+     * Recorre los bloques desenlazando los vacíos y uniendo cada bloque con el siguiente mientras ambos quepan en
+     * un solo bloque y este ocupe menos de la mitad de su capacidad, ver {@link #rebalance(ChunkNode)}.
+     */
+    private void compactBlocks() {
+        ChunkNode<E> node = head;
+        while (node != null) {
+            ChunkNode<E> next = node.getNext();
+            if (node.count() == 0) {
+                unlink(node);
+                node = next;
+            } else if (next != null && (next.count() == 0
+                    || (node.count() < chunkCapacity >> 1 && node.count() + next.count() <= chunkCapacity))) {
+                // el bloque se revisa de nuevo con su nuevo siguiente
+                node.absorb(next);
+                unlink(next);
+            } else {
+                node = next;
+            }
+        }
+    }
+
+    private void unlink(ChunkNode<E> node) {
+        if (node == head)
+            head = node.getNext();
+        if (node == tail)
+            tail = node.getPrevious();
+        node.unlink();
+    }
+
+    /**
+     * Encuentra el bloque que contiene el índice especificado, recorriendo desde el extremo más cercano.
+     * La posición dentro del bloque queda en {@link #offset}.
+     *
+     * @param index índice válido de la lista.
+     * @return bloque que contiene el índice.
+     */
+    private ChunkNode<E> locate(int index) {
+        ChunkNode<E> node;
+        if (index < effectiveSize >> 1) {
+            node = head;
+            while (index >= node.count()) {
+                index -= node.count();
+                node = node.getNext();
+            }
+            offset = index;
+        } else {
+            node = tail;
+            int start = effectiveSize - node.count();
+            while (index < start) {
+                node = node.getPrevious();
+                start -= node.count();
+            }
+            offset = index - start;
+        }
+        return node;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E[] newBlock() {
+        return (E[]) new Object[chunkCapacity];
+    }
+
+    private void checkRanges(int from, int to) {
+        if (from > to)
+            throw new IllegalArgumentException("from value must be lower than to");
+        if (from < 0 || to < 0)
+            throw new IllegalArgumentException("Values must me greater than 0");
+        if (from >= effectiveSize)
+            throw new IllegalArgumentException("from must be inside list bounds");
+    }
+}
@@ -0,0 +1,211 @@
+package com.neoterux.tda.list.content;
+
+import com.neoterux.tda.containers.Node;
+
+/**
+ * Nodo doblemente enlazado que almacena un bloque (chunk) de elementos en lugar de uno solo. Su contenido es
+ * un arreglo de capacidad fija del cual únicamente las primeras {@link #count()} posiciones son válidas.
+ *
+ * @param <E> tipo de dato de los elementos del bloque.
+ */
+public class ChunkNode<E> extends Node<E[], ChunkNode<E>> {
+
+    private ChunkNode<E> previous;
+
+    /**
+     * Cantidad de posiciones ocupadas en el arreglo.
+     */
+    private int count;
+
+    /**
+     * Crea un nodo vacío con un bloque de la capacidad especificada.
+     *
+     * @param capacity cantidad máxima de elementos del bloque.
+     */
+    @SuppressWarnings("unchecked")
+    public ChunkNode(int capacity) {
+        this((E[]) new Object[capacity]);
+    }
+
+    /**
+     * Crea un nodo vacío que utiliza el arreglo especificado como bloque.
+     *
+     * @param block arreglo a utilizar, se asume vacío.
+     */
+    public ChunkNode(E[] block) {
+        this.content = block;
+    }
+
+    /**
+     * Genera un nuevo nodo a continuación de este con el bloque especificado, enlazándolo con el nodo que
+     * se encontraba a continuación.
+     *
+     * @param block arreglo del nuevo nodo.
+     * @return nuevo nodo creado.
+     */
+    @Override
+    public ChunkNode<E> genNext(E[] block) {
+        ChunkNode<E> nNode = new ChunkNode<>(block);
+        nNode.previous = this;
+        nNode.next = this.next;
+        if (this.next != null)
+            this.next.previous = nNode;
+        this.next = nNode;
+        return nNode;
+    }
+
+    /**
+     * Genera un nuevo nodo previo a este con el bloque especificado, enlazándolo con el nodo que se encontraba
+     * antes.
+     *
+     * @param block arreglo del nuevo nodo.
+     * @return nuevo nodo creado.
+     */
+    @Override
+    public ChunkNode<E> genPrevius(E[] block) {
+        ChunkNode<E> nNode = new ChunkNode<>(block);
+        nNode.next = this;
+        nNode.previous = this.previous;
+        if (this.previous != null)
+            this.previous.next = nNode;
+        this.previous = nNode;
+        return nNode;
+    }
+
+    /**
+     * Desenlaza el nodo de sus vecinos, enlazándolos entre sí.
+     */
+    public void unlink() {
+        if (previous != null)
+            previous.next = next;
+        if (next != null)
+            next.previous = previous;
+        clean();
+    }
+
+    /**
+     * Elimina las referencias a los nodos vecinos y a los elementos del bloque.
+     */
+    @Override
+    public void clean() {
+        for (int i = 0; i < count; i++) {
+            content[i] = null;
+        }
+        count = 0;
+        next = null;
+        previous = null;
+    }
+
+    public ChunkNode<E> getPrevious() {
+        return previous;
+    }
+
+    public void setPrevious(ChunkNode<E> previous) {
+        this.previous = previous;
+    }
+
+    /**
+     * @return cantidad de elementos en el bloque.
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * @return true si el bloque no tiene espacio disponible.
+     */
+    public boolean isFull() {
+        return count == content.length;
+    }
+
+    /**
+     * @param offset posición dentro del bloque.
+     * @return el elemento en la posición.
+     */
+    public E get(int offset) {
+        return content[offset];
+    }
+
+    /**
+     * Reemplaza el elemento en la posición especificada.
+     *
+     * @param offset posición dentro del bloque.
+     * @param element nuevo elemento.
+     * @return elemento reemplazado.
+     */
+    public E set(int offset, E element) {
+        E old = content[offset];
+        content[offset] = element;
+        return old;
+    }
+
+    /**
+     * Inserta un elemento desplazando los posteriores dentro del bloque, el bloque no debe estar lleno.
+     *
+     * @param offset posición donde insertar.
+     * @param element elemento a insertar.
+     */
+    public void insert(int offset, E element) {
+        System.arraycopy(content, offset, content, offset + 1, count - offset);
+        content[offset] = element;
+        count++;
+    }
+
+    /**
+     * Elimina el elemento de la posición especificada desplazando los posteriores dentro del bloque.
+     *
+     * @param offset posición a eliminar.
+     * @return elemento eliminado.
+     */
+    public E delete(int offset) {
+        E old = content[offset];
+        removeRange(offset, offset + 1);
+        return old;
+    }
+
+    /**
+     * Elimina los elementos del rango [from, to) del bloque con un solo desplazamiento.
+     *
+     * @param from posición inicial, inclusiva.
+     * @param to posición final, exclusiva.
+     */
+    public void removeRange(int from, int to) {
+        System.arraycopy(content, to, content, from, count - to);
+        int nCount = count - (to - from);
+        for (int i = nCount; i < count; i++) {
+            content[i] = null;
+        }
+        count = nCount;
+    }
+
+    /**
+     * Mueve los elementos a partir de {@literal offset} al inicio del bloque de {@literal target}, que debe
+     * estar vacío.
+     *
+     * @param offset primera posición a mover.
+     * @param target nodo que recibe los elementos.
+     */
+    public void moveTailTo(int offset, ChunkNode<E> target) {
+        int moved = count - offset;
+        System.arraycopy(content, offset, target.content, 0, moved);
+        target.count = moved;
+        for (int i = offset; i < count; i++) {
+            content[i] = null;
+        }
+        count = offset;
+    }
+
+    /**
+     * Añade al final de este bloque todos los elementos de {@literal other}, que queda vacío.
+     *
+     * @param other nodo del cual se toman los elementos, deben caber en este bloque.
+     */
+    public void absorb(ChunkNode<E> other) {
+        System.arraycopy(other.content, 0, content, count, other.count);
+        count += other.count;
+        for (int i = 0; i < other.count; i++) {
+            other.content[i] = null;
+        }
+        other.count = 0;
+    }
+}
@@ -2,7 +2,28 @@ package com.neoterux.tda.list.content;
 
 import com.neoterux.tda.containers.Node;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
 public class DoubleNode<E> extends Node<E, DoubleNode<E>> {
+
+    private static final VarHandle NEXT;
+
+    private static final VarHandle PREVIOUS;
+
+    private static final VarHandle CONTENT;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            NEXT = lookup.findVarHandle(DoubleNode.class, "next", Node.class);
+            PREVIOUS = lookup.findVarHandle(DoubleNode.class, "previous", DoubleNode.class);
+            CONTENT = lookup.findVarHandle(DoubleNode.class, "content", Object.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     private DoubleNode<E> previous;
 
     public DoubleNode(E element) { this(element, null); }
@@ -17,8 +38,19 @@ public class DoubleNode<E> extends Node<E, DoubleNode<E>> {
 
     @Override
     public DoubleNode<E> genNext(E element) {
-        DoubleNode<E> nNode = new DoubleNode<>(element, this, this.next);
+        return linkNext(new DoubleNode<>(element));
+    }
 
+    /**
+     * Enlaza un nodo existente en la posición siguiente a este, en caso de existir algun nodo consiguiente a
+     * este, el nodo enlazado se coloca entre ambos.
+     *
+     * @param nNode nodo a enlazar, no debe estar enlazado con otros nodos.
+     * @return el nodo enlazado.
+     */
+    public DoubleNode<E> linkNext(DoubleNode<E> nNode) {
+        nNode.previous = this;
+        nNode.next = this.next;
         if(this.next != null){
             this.next.setPrevious(nNode);
         }
@@ -36,7 +68,18 @@ public class DoubleNode<E> extends Node<E, DoubleNode<E>> {
      */
     @Override
     public DoubleNode<E> genPrevius(E element) {
-        var nNode = new DoubleNode<>(element, this.previous, this);
+        return linkPrevious(new DoubleNode<>(element));
+    }
+
+    /**
+     * Enlaza un nodo existente en la posición previa a este.
+     *
+     * @param nNode nodo a enlazar, no debe estar enlazado con otros nodos.
+     * @return el nodo enlazado.
+     */
+    public DoubleNode<E> linkPrevious(DoubleNode<E> nNode) {
+        nNode.previous = this.previous;
+        nNode.next = this;
         if (this.previous != null)
             this.previous.setNext(nNode);
         setPrevious(nNode);
@@ -95,4 +138,36 @@ public class DoubleNode<E> extends Node<E, DoubleNode<E>> {
     public DoubleNode<E> getPrevious() {
         return previous;
     }
+
+    /*
+     * Accesos con semántica volátil, para listas concurrentes que recorren los nodos sin bloqueos mientras otros
+     * hilos los enlazan.
+     */
+
+    @SuppressWarnings("unchecked")
+    public DoubleNode<E> getNextVolatile() {
+        return (DoubleNode<E>) NEXT.getVolatile(this);
+    }
+
+    public void setNextVolatile(DoubleNode<E> next) {
+        NEXT.setVolatile(this, next);
+    }
+
+    @SuppressWarnings("unchecked")
+    public DoubleNode<E> getPreviousVolatile() {
+        return (DoubleNode<E>) PREVIOUS.getVolatile(this);
+    }
+
+    public void setPreviousVolatile(DoubleNode<E> previous) {
+        PREVIOUS.setVolatile(this, previous);
+    }
+
+    @SuppressWarnings("unchecked")
+    public E getContentVolatile() {
+        return (E) CONTENT.getVolatile(this);
+    }
+
+    public void setContentVolatile(E content) {
+        CONTENT.setVolatile(this, content);
+    }
 }
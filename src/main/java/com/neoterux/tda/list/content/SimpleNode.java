@@ -14,9 +14,18 @@ public class SimpleNode<E> extends Node<E, SimpleNode<E>> {
 
     @Override
     public SimpleNode<E> genNext(E element) {
-        var nNode = new SimpleNode<>(element);
-        if(this.next != null)
-            nNode.next = this.next;
+        return linkNext(new SimpleNode<>(element));
+    }
+
+    /**
+     * Enlaza un nodo existente a continuación de este, el nodo que se encontraba a continuación pasa a ser el
+     * siguiente del nodo enlazado.
+     *
+     * @param nNode nodo a enlazar.
+     * @return el nodo enlazado.
+     */
+    public SimpleNode<E> linkNext(SimpleNode<E> nNode) {
+        nNode.next = this.next;
         this.next = nNode;
         return nNode;
     }
@@ -0,0 +1,476 @@
+package com.neoterux.tda.queue;
+
+import com.neoterux.tda.list.List;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <h2>Array Blocking Queue</h2>
+ * Cola acotada sobre un arreglo circular, pensada para comunicar hilos productores y consumidores. Además de
+ * las operaciones de {@link Queue}, que nunca bloquean, ofrece {@link #put(Object)} y {@link #take()}, que
+ * esperan a que haya espacio o elementos disponibles, sus variantes con tiempo límite, y operaciones por lotes
+ * ({@link #putAll(Iterable)} y {@link #drainTo(List)}) que añaden o retiran varios elementos con una sola
+ * adquisición del candado.
+ * <p>
+ * Los productores y los consumidores utilizan candados distintos: los productores escriben únicamente en la
+ * posición {@literal putIndex} y los consumidores leen únicamente de {@literal takeIndex}, mientras que la
+ * cantidad de elementos se mantiene en un contador atómico que ambos consultan. Escribir un elemento e
+ * incrementar el contador publica el elemento a los consumidores, y retirarlo y decrementar el contador libera
+ * la posición para los productores, por lo que un productor y un consumidor nunca se bloquean entre sí. Añadir
+ * y retirar tienen una dificultad de O(1), sin desplazar elementos.
+ *
+ * @param <E> tipo de dato que almacena
+ */
+public class ArrayBlockingQueue<E> implements Queue<E> {
+
+    private final Object[] items;
+
+    /**
+     * Posición del primer elemento, protegida por {@link #takeLock}.
+     */
+    private int takeIndex;
+
+    /**
+     * Posición donde se añade el siguiente elemento, protegida por {@link #putLock}.
+     */
+    private int putIndex;
+
+    private final AtomicInteger count = new AtomicInteger();
+
+    private final ReentrantLock takeLock = new ReentrantLock();
+
+    private final Condition notEmpty = takeLock.newCondition();
+
+    private final ReentrantLock putLock = new ReentrantLock();
+
+    private final Condition notFull = putLock.newCondition();
+
+    /**
+     * Crea una cola vacía con espacio para {@literal capacity} elementos.
+     *
+     * @param capacity cantidad máxima de elementos, debe ser mayor a 0.
+     */
+    public ArrayBlockingQueue(int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Illegal capacity: " + capacity);
+        items = new Object[capacity];
+    }
+
+    /**
+     * Añade un elemento al final de la cola sin esperar.
+     *
+     * @param e elemento a añadir.
+     * @return true si se añadió, false si es null o la cola está llena.
+     */
+    @Override
+    public boolean addLast(E e) {
+        if (e == null || count.get() == items.length)
+            return false;
+        int c;
+        putLock.lock();
+        try {
+            if (count.get() == items.length)
+                return false;
+            c = enqueue(e);
+        } finally {
+            putLock.unlock();
+        }
+        if (c == 0)
+            signalNotEmpty();
+        return true;
+    }
+
+    /**
+     * Añade un elemento al final de la cola, esperando a que haya espacio disponible.
+     *
+     * @param e elemento a añadir.
+     * @return true si se añadió, false si es null.
+     * @throws InterruptedException si el hilo se interrumpe mientras espera.
+     */
+    public boolean put(E e) throws InterruptedException {
+        if (e == null)
+            return false;
+        int c;
+        putLock.lockInterruptibly();
+        try {
+            while (count.get() == items.length)
+                notFull.await();
+            c = enqueue(e);
+        } finally {
+            putLock.unlock();
+        }
+        if (c == 0)
+            signalNotEmpty();
+        return true;
+    }
+
+    /**
+     * Añade un elemento al final de la cola, esperando como máximo {@literal timeout} a que haya espacio.
+     *
+     * @param e elemento a añadir.
+     * @param timeout tiempo máximo de espera.
+     * @param unit unidad de {@literal timeout}.
+     * @return true si se añadió, false si es null o se agotó el tiempo de espera.
+     * @throws InterruptedException si el hilo se interrumpe mientras espera.
+     */
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        if (e == null)
+            return false;
+        long nanos = unit.toNanos(timeout);
+        int c;
+        putLock.lockInterruptibly();
+        try {
+            while (count.get() == items.length) {
+                if (nanos <= 0L)
+                    return false;
+                nanos = notFull.awaitNanos(nanos);
+            }
+            c = enqueue(e);
+        } finally {
+            putLock.unlock();
+        }
+        if (c == 0)
+            signalNotEmpty();
+        return true;
+    }
+
+    /**
+     * Añade todos los elementos de {@literal elements} al final de la cola, en orden, esperando cuando la cola
+     * se llena. Los elementos se añaden con una sola adquisición del candado de los productores, y los
+     * consumidores se despiertan una sola vez por lote, o antes de esperar a que se libere espacio. Los
+     * elementos null se omiten.
+     *
+     * @param elements elementos a añadir.
+     * @return la cantidad de elementos añadidos.
+     * @throws InterruptedException si el hilo se interrumpe mientras espera, los elementos añadidos hasta ese
+     * momento permanecen en la cola.
+     */
+    public int putAll(Iterable<? extends E> elements) throws InterruptedException {
+        int added = 0;
+        boolean wasEmpty = false;
+        putLock.lockInterruptibly();
+        try {
+            for (E e : elements) {
+                if (e == null)
+                    continue;
+                while (count.get() == items.length) {
+                    if (wasEmpty) {
+                        // los consumidores deben vaciar la cola antes de que el lote pueda continuar
+                        signalNotEmpty();
+                        wasEmpty = false;
+                    }
+                    notFull.await();
+                }
+                if (enqueue(e) == 0)
+                    wasEmpty = true;
+                added++;
+            }
+        } finally {
+            putLock.unlock();
+            if (wasEmpty)
+                signalNotEmpty();
+        }
+        return added;
+    }
+
+    /**
+     * Retira el primer elemento de la cola sin esperar.
+     *
+     * @return el primer elemento, o null si la cola está vacía.
+     */
+    @Override
+    public E removeFirst() {
+        if (count.get() == 0)
+            return null;
+        E e;
+        int c;
+        takeLock.lock();
+        try {
+            if (count.get() == 0)
+                return null;
+            e = dequeue();
+            c = count.getAndDecrement();
+            if (c > 1)
+                notEmpty.signal();
+        } finally {
+            takeLock.unlock();
+        }
+        if (c == items.length)
+            signalNotFull();
+        return e;
+    }
+
+    /**
+     * Retira el primer elemento de la cola, esperando a que haya alguno disponible.
+     *
+     * @return el primer elemento.
+     * @throws InterruptedException si el hilo se interrumpe mientras espera.
+     */
+    public E take() throws InterruptedException {
+        E e;
+        int c;
+        takeLock.lockInterruptibly();
+        try {
+            while (count.get() == 0)
+                notEmpty.await();
+            e = dequeue();
+            c = count.getAndDecrement();
+            if (c > 1)
+                notEmpty.signal();
+        } finally {
+            takeLock.unlock();
+        }
+        if (c == items.length)
+            signalNotFull();
+        return e;
+    }
+
+    /**
+     * Retira el primer elemento de la cola, esperando como máximo {@literal timeout} a que haya alguno.
+     *
+     * @param timeout tiempo máximo de espera.
+     * @param unit unidad de {@literal timeout}.
+     * @return el primer elemento, o null si se agotó el tiempo de espera.
+     * @throws InterruptedException si el hilo se interrumpe mientras espera.
+     */
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        E e;
+        int c;
+        takeLock.lockInterruptibly();
+        try {
+            while (count.get() == 0) {
+                if (nanos <= 0L)
+                    return null;
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            e = dequeue();
+            c = count.getAndDecrement();
+            if (c > 1)
+                notEmpty.signal();
+        } finally {
+            takeLock.unlock();
+        }
+        if (c == items.length)
+            signalNotFull();
+        return e;
+    }
+
+    /**
+     * Retira todos los elementos disponibles y los añade al final de {@literal target}, sin esperar.
+     *
+     * @param target lista donde se añaden los elementos.
+     * @return la cantidad de elementos retirados.
+     */
+    public int drainTo(List<? super E> target) {
+        return drainTo(target, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Retira como máximo {@literal maxElements} elementos y los añade al final de {@literal target}, sin
+     * esperar. Los elementos se retiran con una sola adquisición del candado de los consumidores, y la
+     * cantidad de elementos se actualiza una sola vez al terminar.
+     *
+     * @param target lista donde se añaden los elementos.
+     * @param maxElements cantidad máxima de elementos a retirar.
+     * @return la cantidad de elementos retirados.
+     */
+    public int drainTo(List<? super E> target, int maxElements) {
+        if (maxElements <= 0 || count.get() == 0)
+            return 0;
+        int drained = 0, c = 0;
+        takeLock.lock();
+        try {
+            int n = Math.min(maxElements, count.get());
+            try {
+                while (drained < n) {
+                    target.addLast(dequeue());
+                    drained++;
+                }
+            } finally {
+                // si target lanza una excepción, los elementos retirados hasta ese momento ya no están en la cola
+                if (drained > 0) {
+                    c = count.getAndAdd(-drained);
+                    if (c > drained)
+                        notEmpty.signal();
+                }
+            }
+        } finally {
+            takeLock.unlock();
+        }
+        if (c == items.length)
+            signalNotFull();
+        return drained;
+    }
+
+    @Override
+    public E peekFirst() {
+        if (count.get() == 0)
+            return null;
+        takeLock.lock();
+        try {
+            return count.get() > 0 ? itemAt(takeIndex) : null;
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        return count.get();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count.get() == 0;
+    }
+
+    /**
+     * @return la cantidad máxima de elementos que admite la cola.
+     */
+    public int capacity() {
+        return items.length;
+    }
+
+    /**
+     * @return la cantidad de elementos que pueden añadirse sin esperar.
+     */
+    public int remainingCapacity() {
+        return items.length - count.get();
+    }
+
+    /**
+     * Retira todos los elementos de la cola.
+     */
+    public void clear() {
+        fullyLock();
+        try {
+            for (int i = 0, n = count.get(); i < n; i++)
+                dequeue();
+            takeIndex = putIndex = 0;
+            if (count.getAndSet(0) == items.length)
+                notFull.signal();
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    /**
+     * @return un iterador sobre una copia de los elementos de la cola al momento de invocarlo, no observa las
+     * modificaciones posteriores.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        Object[] snapshot;
+        fullyLock();
+        try {
+            snapshot = new Object[count.get()];
+            for (int i = 0, j = takeIndex; i < snapshot.length; i++, j = inc(j))
+                snapshot[i] = items[j];
+        } finally {
+            fullyUnlock();
+        }
+        return new Iterator<>() {
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < snapshot.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (cursor >= snapshot.length)
+                    throw new NoSuchElementException();
+                return (E) snapshot[cursor++];
+            }
+        };
+    }
+
+    /**
+     * @return La representacion de la cola en formato [e1, e2, ..., en].
+     */
+    @Override
+    public String toString() {
+        StringBuilder str = new StringBuilder("[");
+        Iterator<E> it = iterator();
+        while (it.hasNext()) {
+            str.append(it.next());
+            if (it.hasNext())
+                str.append(", ");
+        }
+        str.append("]");
+        return str.toString();
+    }
+
+    /**
+     * Escribe el elemento en {@literal putIndex} y lo publica, se invoca con {@link #putLock} adquirido.
+     *
+     * @return la cantidad de elementos antes de añadirlo.
+     */
+    private int enqueue(E e) {
+        items[putIndex] = e;
+        putIndex = inc(putIndex);
+        int c = count.getAndIncrement();
+        if (c + 1 < items.length)
+            notFull.signal();
+        return c;
+    }
+
+    /**
+     * Retira el elemento en {@literal takeIndex} sin actualizar la cantidad de elementos, se invoca con
+     * {@link #takeLock} adquirido.
+     */
+    private E dequeue() {
+        E e = itemAt(takeIndex);
+        items[takeIndex] = null;
+        takeIndex = inc(takeIndex);
+        return e;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E itemAt(int index) {
+        return (E) items[index];
+    }
+
+    private int inc(int index) {
+        return index + 1 == items.length ? 0 : index + 1;
+    }
+
+    private void signalNotEmpty() {
+        takeLock.lock();
+        try {
+            notEmpty.signal();
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    private void signalNotFull() {
+        putLock.lock();
+        try {
+            notFull.signal();
+        } finally {
+            putLock.unlock();
+        }
+    }
+
+    /**
+     * Adquiere ambos candados, siempre en el mismo orden.
+     */
+    private void fullyLock() {
+        putLock.lock();
+        takeLock.lock();
+    }
+
+    private void fullyUnlock() {
+        takeLock.unlock();
+        putLock.unlock();
+    }
+}
@@ -0,0 +1,179 @@
+package com.neoterux.tda.queue;
+
+import com.neoterux.tda.containers.AtomicNode;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <h2>Concurrent Linked Queue</h2>
+ * Cola enlazada sin bloqueos (algoritmo de Michael y Scott) sobre {@link AtomicNode}, que admite
+ * {@link #addLast(Object)} y {@link #removeFirst()} desde varios hilos a la vez sin sincronización externa.
+ * <p>
+ * La cola inicia con un nodo centinela: {@literal head} apunta siempre al centinela, cuyo siguiente nodo es el
+ * primer elemento, y {@literal tail} apunta al último nodo o a uno de sus predecesores. Añadir un elemento
+ * enlaza el nodo al último mediante compare-and-set y después avanza {@literal tail}; si un hilo encuentra
+ * {@literal tail} rezagado, lo avanza antes de continuar, por lo que ningún hilo espera a que otro termine su
+ * operación. Retirar un elemento avanza {@literal head}, y el nodo del elemento retirado pasa a ser el nuevo
+ * centinela.
+ * <p>
+ * {@link #size()} recorre la cola con una dificultad de O(n), y tanto el tamaño como el iterador reflejan el
+ * estado de la cola en algún momento durante el recorrido, sin lanzar excepciones si otros hilos la modifican.
+ *
+ * @param <E> tipo de dato que almacena
+ */
+public class ConcurrentLinkedQueue<E> implements Queue<E> {
+
+    private final AtomicReference<AtomicNode<E>> head;
+
+    private final AtomicReference<AtomicNode<E>> tail;
+
+    public ConcurrentLinkedQueue() {
+        AtomicNode<E> sentinel = new AtomicNode<>(null);
+        head = new AtomicReference<>(sentinel);
+        tail = new AtomicReference<>(sentinel);
+    }
+
+    /**
+     * Añade un elemento al final de la cola, sin bloqueos.
+     *
+     * @param e elemento a añadir.
+     * @return true si se añadió el elemento, false si es null.
+     */
+    @Override
+    public boolean addLast(E e) {
+        if (e == null)
+            return false;
+        AtomicNode<E> node = new AtomicNode<>(e);
+        while (true) {
+            AtomicNode<E> last = tail.get();
+            AtomicNode<E> next = last.getNext();
+            if (last != tail.get())
+                continue;
+            if (next == null) {
+                if (last.casNext(null, node)) {
+                    // si falla, otro hilo ya avanzó tail hasta el nodo
+                    tail.compareAndSet(last, node);
+                    return true;
+                }
+            } else {
+                tail.compareAndSet(last, next);
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Retira el primer elemento de la cola, sin bloqueos.
+     *
+     * @return el primer elemento, o null si la cola está vacía.
+     */
+    @Override
+    public E removeFirst() {
+        while (true) {
+            AtomicNode<E> sentinel = head.get();
+            AtomicNode<E> last = tail.get();
+            AtomicNode<E> first = sentinel.getNext();
+            if (sentinel != head.get())
+                continue;
+            if (first == null)
+                return null;
+            if (sentinel == last) {
+                // tail quedó rezagado detrás del primer elemento
+                tail.compareAndSet(last, first);
+                continue;
+            }
+            E element = first.getContent();
+            if (head.compareAndSet(sentinel, first)) {
+                first.setContent(null);
+                return element;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    @Override
+    public E peekFirst() {
+        while (true) {
+            AtomicNode<E> sentinel = head.get();
+            AtomicNode<E> first = sentinel.getNext();
+            if (first == null)
+                return null;
+            E element = first.getContent();
+            if (sentinel == head.get())
+                return element;
+        }
+    }
+
+    /**
+     * @return la cantidad de elementos de la cola, con una dificultad de O(n).
+     */
+    @Override
+    public int size() {
+        int count = 0;
+        for (AtomicNode<E> node = head.get().getNext(); node != null && count < Integer.MAX_VALUE;
+             node = node.getNext()) {
+            if (node.getContent() != null)
+                count++;
+        }
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return peekFirst() == null;
+    }
+
+    /**
+     * @return un iterador desde el primer elemento hasta el último, que omite los elementos retirados durante
+     * el recorrido.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private AtomicNode<E> node = head.get();
+            private E nextElement = advance();
+
+            private E advance() {
+                E element = null;
+                while (element == null && node != null) {
+                    node = node.getNext();
+                    if (node != null)
+                        element = node.getContent();
+                }
+                return element;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return nextElement != null;
+            }
+
+            @Override
+            public E next() {
+                if (nextElement == null)
+                    throw new NoSuchElementException();
+                E element = nextElement;
+                nextElement = advance();
+                return element;
+            }
+        };
+    }
+
+    /**
+     * @return La representacion de la cola en formato [e1, e2, ..., en].
+     */
+    @Override
+    public String toString() {
+        StringBuilder str = new StringBuilder("[");
+        Iterator<E> it = iterator();
+        while (it.hasNext()) {
+            str.append(it.next());
+            if (it.hasNext())
+                str.append(", ");
+        }
+        str.append("]");
+        return str.toString();
+    }
+}
@@ -0,0 +1,41 @@
+package com.neoterux.tda.queue;
+
+/**
+ * <h2>Queue</h2>
+ * Define una estructura base para el TDA Queue (cola), los elementos se añaden al final y se retiran del
+ * inicio en el mismo orden en que fueron añadidos.
+ *
+ * @param <E> tipo de elemento que va a almacenar
+ */
+public interface Queue<E> extends Iterable<E> {
+
+    /**
+     * Añade un elemento al final de la cola.
+     *
+     * @param e elemento a añadir.
+     * @return true si se añadió el elemento, false si es null o la cola no admite más elementos.
+     */
+    boolean addLast(E e);
+
+    /**
+     * Retira el elemento que se encuentra al inicio de la cola.
+     *
+     * @return el primer elemento, o null si la cola está vacía.
+     */
+    E removeFirst();
+
+    /**
+     * @return el primer elemento de la cola sin retirarlo, o null si la cola está vacía.
+     */
+    E peekFirst();
+
+    /**
+     * @return la cantidad de elementos que contiene la cola.
+     */
+    int size();
+
+    /**
+     * @return true si la cola no tiene ningún elemento.
+     */
+    boolean isEmpty();
+}
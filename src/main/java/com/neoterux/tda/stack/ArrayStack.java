@@ -1,11 +1,16 @@
 package com.neoterux.tda.stack;
 
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
 import java.util.EmptyStackException;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 /**
  * <h2>Array Stack</h2>
- * Implementación de un Stack a base de arreglos fijos.
+ * Implementación de un Stack a base de arreglos. Por defecto el arreglo es fijo; si se especifica una
+ * {@link GrowthPolicy} el stack crece al llenarse y, opcionalmente, reduce su capacidad a la mitad cuando
+ * la cantidad de elementos cae por debajo de un cuarto de la capacidad (sin bajar de la capacidad inicial).
  *
  * @param <E> tipo de dato que almacena
  */
@@ -14,12 +19,60 @@ public class ArrayStack<E>  implements Stack<E>{
     private E[] elements;
     private int effectiveSize;
 
+    /**
+     * Cantidad de operaciones push y pop, utilizada por los iteradores para detectar modificaciones del stack
+     * durante el recorrido.
+     */
+    private int modCount;
+
+    /**
+     * Política de crecimiento, null si el stack es de capacidad fija.
+     */
+    private final GrowthPolicy growth;
+
+    /**
+     * Indica si el arreglo se reduce al hacer pop.
+     */
+    private final boolean shrinkOnPop;
+
+    /**
+     * Capacidad con la que se creó el stack, límite inferior al reducir el arreglo.
+     */
+    private final int initialCapacity;
+
     /**
      * Crea un nuevo Stack con un tamaño fijo.
      * @param size cantidad máxima de elementos a almacenar.
      */
     public ArrayStack(int size) {
+        this(size, null, false);
+    }
+
+    /**
+     * Crea un nuevo Stack creciente.
+     *
+     * @param size capacidad inicial del stack.
+     * @param growth política con la que crece el arreglo al llenarse.
+     */
+    public ArrayStack(int size, GrowthPolicy growth) {
+        this(size, growth, false);
+    }
+
+    /**
+     * Crea un nuevo Stack.
+     *
+     * @param size capacidad inicial del stack.
+     * @param growth política con la que crece el arreglo al llenarse, null para un stack de capacidad fija.
+     * @param shrinkOnPop true si el arreglo se debe reducir a la mitad cuando el stack ocupe menos de un
+     *                    cuarto de su capacidad. Solo aplica a stacks crecientes.
+     */
+    public ArrayStack(int size, GrowthPolicy growth, boolean shrinkOnPop) {
+        if (size < 0 || (growth != null && size == 0))
+            throw new IllegalArgumentException("Illegal size to initialization");
         this.elements = (E[]) new Object[size];
+        this.growth = growth;
+        this.shrinkOnPop = shrinkOnPop && growth != null;
+        this.initialCapacity = size;
         effectiveSize = 0;
     }
 
@@ -28,20 +81,29 @@ public class ArrayStack<E>  implements Stack<E>{
         if(isEmpty())
             throw new EmptyStackException();
 
-        return elements[--effectiveSize];
+        E top = elements[--effectiveSize];
+        elements[effectiveSize] = null;
+        modCount++;
+        if (shrinkOnPop)
+            shrinkIfSparse();
+        return top;
     }
 
     @Override
     public void push(E element) {
-        if (effectiveSize == capacity())
-            throw new StackOverflowError();
+        if (effectiveSize == capacity()) {
+            if (growth == null)
+                throw new StackOverflowError();
+            elements = Arrays.copyOf(elements, growth.newCapacity(elements.length, effectiveSize + 1));
+        }
 
         elements[effectiveSize++] = element;
+        modCount++;
     }
 
     @Override
     public boolean isEmpty() {
-        return effectiveSize > 0;
+        return effectiveSize == 0;
     }
 
     @Override
@@ -54,6 +116,22 @@ public class ArrayStack<E>  implements Stack<E>{
         return elements.length;
     }
 
+    /**
+     * @return true si el stack crece al llenarse.
+     */
+    public boolean isGrowable() {
+        return growth != null;
+    }
+
+    /**
+     * Reduce la capacidad del arreglo a la cantidad de elementos del stack. No tiene efecto en un stack de
+     * capacidad fija, ya que reduciría la cantidad máxima de elementos que puede almacenar.
+     */
+    public void trimToSize() {
+        if (growth != null && elements.length > effectiveSize)
+            elements = Arrays.copyOf(elements, Math.max(effectiveSize, 1));
+    }
+
     @Override
     public E peek() {
         if (isEmpty())
@@ -61,10 +139,25 @@ public class ArrayStack<E>  implements Stack<E>{
         return elements[effectiveSize-1];
     }
 
+    /**
+     * Reduce el arreglo a la mitad si el stack ocupa menos de un cuarto de su capacidad. La diferencia entre
+     * ambos umbrales evita que una secuencia alternada de push y pop redimensione el arreglo cada vez.
+     */
+    private void shrinkIfSparse() {
+        int half = elements.length >> 1;
+        if (effectiveSize < elements.length >> 2 && half >= initialCapacity)
+            elements = Arrays.copyOf(elements, half);
+    }
+
+    /**
+     * @return un iterador que recorre el stack desde la base hasta el tope, y lanza
+     * {@link ConcurrentModificationException} si el stack se modifica durante el recorrido.
+     */
     @Override
     public Iterator<E> iterator() {
         return new Iterator<>() {
             private int pointer = 0;
+            private final int expectedModCount = modCount;
 
             @Override
             public boolean hasNext() {
@@ -73,6 +166,10 @@ public class ArrayStack<E>  implements Stack<E>{
 
             @Override
             public E next() {
+                if (modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+                if (pointer >= effectiveSize)
+                    throw new NoSuchElementException();
                 return elements[pointer++];
             }
         };
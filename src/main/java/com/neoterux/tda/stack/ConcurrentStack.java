@@ -0,0 +1,163 @@
+package com.neoterux.tda.stack;
+
+import com.neoterux.tda.io.BinaryStreams;
+import com.neoterux.tda.io.StreamCodec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.EmptyStackException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <h2>Concurrent Stack</h2>
+ * Stack enlazado sin bloqueos (algoritmo de Treiber) que puede utilizarse desde varios hilos a la vez sin
+ * sincronización externa. {@link #push(Object)} y {@link #pop()} reemplazan el tope mediante una operación
+ * compare-and-set, y reintentan si otro hilo lo modificó primero, de manera que ningún hilo espera a que otro
+ * libere un monitor.
+ * <p>
+ * Cada nodo guarda la cantidad de elementos que hay debajo de él, por lo que {@link #size()} tiene una
+ * dificultad de O(1) y corresponde exactamente al tope observado. El iterador y {@link #writeTo} recorren una
+ * instantánea del stack, tomada al invocarlos, desde el fondo hasta el tope.
+ *
+ * @param <E> tipo de dato que almacena
+ */
+public class ConcurrentStack<E> implements Stack<E> {
+
+    private final AtomicReference<Cell<E>> top = new AtomicReference<>();
+
+    @Override
+    public E pop() {
+        Cell<E> popped = unlinkTop();
+        if (popped == null)
+            throw new EmptyStackException();
+        return popped.element;
+    }
+
+    @Override
+    public void push(E element) {
+        Cell<E> current = top.get();
+        while (!top.compareAndSet(current, new Cell<>(element, current))) {
+            Thread.onSpinWait();
+            current = top.get();
+        }
+    }
+
+    /**
+     * Extrae el elemento del tope únicamente si el stack no está vacío.
+     *
+     * @return el elemento del tope, o null si el stack está vacío.
+     */
+    public E tryPop() {
+        Cell<E> popped = unlinkTop();
+        return (popped == null) ? null : popped.element;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return top.get() == null;
+    }
+
+    @Override
+    public int size() {
+        Cell<E> current = top.get();
+        return (current == null) ? 0 : current.depth;
+    }
+
+    /**
+     * @return {@link Integer#MAX_VALUE}, el stack no tiene una capacidad fija.
+     */
+    @Override
+    public int capacity() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public E peek() {
+        Cell<E> current = top.get();
+        return (current == null) ? null : current.element;
+    }
+
+    /**
+     * Vacía el stack en una sola operación.
+     */
+    public void clear() {
+        top.set(null);
+    }
+
+    /**
+     * Escribe una instantánea del stack, desde el fondo hasta el tope, de manera que otros hilos pueden
+     * modificarlo durante la escritura.
+     */
+    @Override
+    public void writeTo(OutputStream out, StreamCodec<E> codec) throws IOException {
+        E[] snapshot = snapshot();
+        BinaryStreams.write(out, Arrays.asList(snapshot), snapshot.length, codec);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        E[] snapshot = snapshot();
+        return new Iterator<>() {
+            private int pointer = 0;
+
+            @Override
+            public boolean hasNext() {
+                return pointer < snapshot.length;
+            }
+
+            @Override
+            public E next() {
+                if (pointer >= snapshot.length)
+                    throw new NoSuchElementException();
+                return snapshot[pointer++];
+            }
+        };
+    }
+
+    /**
+     * @return los elementos del tope observado, desde el fondo hasta el tope.
+     */
+    @SuppressWarnings("unchecked")
+    private E[] snapshot() {
+        Cell<E> current = top.get();
+        E[] items = (E[]) new Object[(current == null) ? 0 : current.depth];
+        for (int i = items.length - 1; i >= 0; i--, current = current.next)
+            items[i] = current.element;
+        return items;
+    }
+
+    /**
+     * @return el nodo que se retiró del tope, o null si el stack está vacío.
+     */
+    private Cell<E> unlinkTop() {
+        Cell<E> current;
+        while ((current = top.get()) != null) {
+            if (top.compareAndSet(current, current.next))
+                return current;
+            Thread.onSpinWait();
+        }
+        return null;
+    }
+
+    /**
+     * Nodo inmutable del stack, un nodo publicado nunca se modifica, por lo que su lectura no requiere
+     * sincronización adicional a la del tope.
+     */
+    private static final class Cell<E> {
+
+        private final E element;
+
+        private final Cell<E> next;
+
+        private final int depth;
+
+        Cell(E element, Cell<E> next) {
+            this.element = element;
+            this.next = next;
+            this.depth = (next == null) ? 1 : next.depth + 1;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.neoterux.tda.stack;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * <h2>Double Array Stack</h2>
+ * Implementación de {@link DoubleStack} a base de un arreglo {@code double[]}, sin envolver los elementos.
+ * Por defecto tiene capacidad fija como {@link ArrayStack}; en modo creciente amplía su capacidad
+ * según una {@link GrowthPolicy} cuando se llena en lugar de lanzar {@link StackOverflowError}.
+ */
+public class DoubleArrayStack implements DoubleStack {
+
+    private double[] elements;
+    private int effectiveSize;
+
+    /**
+     * Política de crecimiento, null si el stack es de capacidad fija.
+     */
+    private final GrowthPolicy growth;
+
+    /**
+     * Crea un nuevo Stack con un tamaño fijo.
+     * @param size cantidad máxima de elementos a almacenar.
+     */
+    public DoubleArrayStack(int size) {
+        this(size, false);
+    }
+
+    /**
+     * Crea un nuevo Stack.
+     *
+     * @param size capacidad inicial del stack.
+     * @param growable true si el stack debe duplicar su capacidad al llenarse, false para mantener la
+     *                 capacidad fija.
+     */
+    public DoubleArrayStack(int size, boolean growable) {
+        this(size, growable ? GrowthPolicy.doubling() : null);
+    }
+
+    /**
+     * Crea un nuevo Stack.
+     *
+     * @param size capacidad inicial del stack.
+     * @param growth política con la que crece el arreglo al llenarse, null para un stack de capacidad fija.
+     */
+    public DoubleArrayStack(int size, GrowthPolicy growth) {
+        if (size < 0 || (growth != null && size == 0))
+            throw new IllegalArgumentException("Illegal size to initialization");
+        this.elements = new double[size];
+        this.growth = growth;
+        effectiveSize = 0;
+    }
+
+    @Override
+    public double pop() {
+        if (isEmpty())
+            throw new EmptyStackException();
+
+        return elements[--effectiveSize];
+    }
+
+    @Override
+    public void push(double element) {
+        if (effectiveSize == elements.length) {
+            if (growth == null)
+                throw new StackOverflowError();
+            elements = Arrays.copyOf(elements, growth.newCapacity(elements.length, effectiveSize + 1));
+        }
+
+        elements[effectiveSize++] = element;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return effectiveSize == 0;
+    }
+
+    @Override
+    public int size() {
+        return effectiveSize;
+    }
+
+    @Override
+    public int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * @return true si el stack crece al llenarse.
+     */
+    public boolean isGrowable() {
+        return growth != null;
+    }
+
+    /**
+     * Reduce la capacidad del arreglo a la cantidad de elementos del stack. No tiene efecto en un stack de
+     * capacidad fija.
+     */
+    public void trimToSize() {
+        if (growth != null && elements.length > effectiveSize)
+            elements = Arrays.copyOf(elements, Math.max(effectiveSize, 1));
+    }
+
+    @Override
+    public double peek() {
+        if (isEmpty())
+            throw new EmptyStackException();
+        return elements[effectiveSize - 1];
+    }
+
+    @Override
+    public PrimitiveIterator.OfDouble iterator() {
+        return new PrimitiveIterator.OfDouble() {
+            private int pointer = 0;
+
+            @Override
+            public boolean hasNext() {
+                return pointer < effectiveSize;
+            }
+
+            @Override
+            public double nextDouble() {
+                if (pointer >= effectiveSize)
+                    throw new NoSuchElementException();
+                return elements[pointer++];
+            }
+        };
+    }
+
+}
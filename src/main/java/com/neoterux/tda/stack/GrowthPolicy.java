@@ -0,0 +1,65 @@
+package com.neoterux.tda.stack;
+
+/**
+ * <h2>Growth Policy</h2>
+ * Define cómo crece el arreglo de un stack creciente cuando se llena.
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+
+    /**
+     * Capacidad máxima que puede tener un arreglo.
+     */
+    int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * Calcula la nueva capacidad del arreglo.
+     *
+     * @param capacity capacidad actual del arreglo.
+     * @return la nueva capacidad, debe ser mayor a {@literal capacity}.
+     */
+    int grow(int capacity);
+
+    /**
+     * Calcula la nueva capacidad asegurando que sea al menos {@literal minCapacity} y que no
+     * exceda {@link #MAX_CAPACITY}.
+     *
+     * @param capacity capacidad actual del arreglo.
+     * @param minCapacity capacidad mínima requerida.
+     * @return la nueva capacidad.
+     * @throws StackOverflowError si {@literal minCapacity} supera {@link #MAX_CAPACITY}.
+     */
+    default int newCapacity(int capacity, int minCapacity) {
+        if (minCapacity < 0 || minCapacity > MAX_CAPACITY)
+            throw new StackOverflowError();
+        long grown = grow(capacity);
+        return (int) Math.min(Math.max(grown, minCapacity), MAX_CAPACITY);
+    }
+
+    /**
+     * @return una política que duplica la capacidad.
+     */
+    static GrowthPolicy doubling() {
+        return capacity -> (int) Math.min((long) capacity << 1, MAX_CAPACITY);
+    }
+
+    /**
+     * @param factor factor de crecimiento, debe ser mayor a 1.
+     * @return una política que multiplica la capacidad por {@literal factor}.
+     */
+    static GrowthPolicy factor(double factor) {
+        if (!(factor > 1))
+            throw new IllegalArgumentException("Factor must be greater than 1");
+        return capacity -> (int) Math.min((long) Math.ceil(capacity * factor), MAX_CAPACITY);
+    }
+
+    /**
+     * @param increment cantidad de espacios a añadir, debe ser mayor a 0.
+     * @return una política que añade una cantidad fija de espacios.
+     */
+    static GrowthPolicy fixedIncrement(int increment) {
+        if (increment <= 0)
+            throw new IllegalArgumentException("Increment must be greater than 0");
+        return capacity -> (int) Math.min((long) capacity + increment, MAX_CAPACITY);
+    }
+}
@@ -0,0 +1,101 @@
+package com.neoterux.tda.stack;
+
+import com.neoterux.tda.io.BinaryStreams;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.PrimitiveIterator;
+
+/**
+ * <h2>Long Stack</h2>
+ * Variante del TDA {@link Stack} especializada para el tipo primitivo {@code long}.
+ */
+public interface LongStack {
+
+    /**
+     * Remueve el elemento que se encuentra en el tope del stack.
+     * @return el elemento del tope
+     * @throws java.util.EmptyStackException si no hay elementos en el stack
+     */
+    long pop();
+
+    /**
+     * Añade un nuevo elemento al stack
+     *
+     * @throws StackOverflowError si el stack no puede añadir más elementos.
+     */
+    void push(long element);
+
+    /**
+     * @return true si el stack no tiene ningún elemento.
+     */
+    boolean isEmpty();
+
+    /**
+     * @return la cantidad de elementos que contiene el stack
+     */
+    int size();
+
+    /**
+     * @return la capacidad total que puede almacenar el stack
+     */
+    int capacity();
+
+    /**
+     * @return el elemento que se encuentre en el tope del stack.
+     * @throws java.util.EmptyStackException si no hay elementos en el stack
+     */
+    long peek();
+
+    /**
+     * @return un iterador primitivo desde la base hasta el tope del stack.
+     */
+    PrimitiveIterator.OfLong iterator();
+
+    /**
+     * Escribe los elementos del stack, desde el fondo hasta el tope, en una sola pasada, en el formato de
+     * {@link BinaryStreams}. El flujo no se cierra.
+     *
+     * @param out flujo destino.
+     * @throws IOException si ocurre un error al escribir.
+     */
+    default void writeTo(OutputStream out) throws IOException {
+        BinaryStreams.writeLongs(out, iterator(), size());
+    }
+
+    /**
+     * Escribe los elementos del stack, desde el fondo hasta el tope, en el canal especificado, ver
+     * {@link #writeTo(OutputStream)}.
+     *
+     * @param channel canal destino.
+     * @throws IOException si ocurre un error al escribir.
+     */
+    default void writeTo(WritableByteChannel channel) throws IOException {
+        writeTo(Channels.newOutputStream(channel));
+    }
+
+    /**
+     * Lee elementos escritos mediante {@link #writeTo(OutputStream)} y los añade al stack mediante {@link #push}, sin
+     * consumir bytes posteriores al último elemento.
+     *
+     * @param in flujo origen.
+     * @throws IOException si ocurre un error al leer o el flujo no tiene un formato válido.
+     */
+    default void readFrom(InputStream in) throws IOException {
+        BinaryStreams.readLongs(in, this::push);
+    }
+
+    /**
+     * Lee elementos del canal especificado, ver {@link #readFrom(InputStream)}.
+     *
+     * @param channel canal origen.
+     * @throws IOException si ocurre un error al leer o el flujo no tiene un formato válido.
+     */
+    default void readFrom(ReadableByteChannel channel) throws IOException {
+        readFrom(Channels.newInputStream(channel));
+    }
+}
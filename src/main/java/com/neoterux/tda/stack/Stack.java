@@ -1,5 +1,15 @@
 package com.neoterux.tda.stack;
 
+import com.neoterux.tda.io.BinaryStreams;
+import com.neoterux.tda.io.StreamCodec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
 /**
  * <h2>Stack</h2>
  * Define una estructura base para el TDA Stack
@@ -42,4 +52,50 @@ public interface Stack<E> extends Iterable<E> {
      */
     E peek();
 
+    /**
+     * Escribe los elementos del stack, desde el fondo hasta el tope, en una sola pasada, en el formato de
+     * {@link BinaryStreams}. El flujo no se cierra.
+     *
+     * @param out flujo destino.
+     * @param codec codec de los elementos.
+     * @throws IOException si ocurre un error al escribir.
+     */
+    default void writeTo(OutputStream out, StreamCodec<E> codec) throws IOException {
+        BinaryStreams.write(out, this, size(), codec);
+    }
+
+    /**
+     * Escribe los elementos del stack, desde el fondo hasta el tope, en el canal especificado, ver
+     * {@link #writeTo(OutputStream, StreamCodec)}.
+     *
+     * @param channel canal destino.
+     * @param codec codec de los elementos.
+     * @throws IOException si ocurre un error al escribir.
+     */
+    default void writeTo(WritableByteChannel channel, StreamCodec<E> codec) throws IOException {
+        writeTo(Channels.newOutputStream(channel), codec);
+    }
+
+    /**
+     * Lee elementos escritos mediante {@link #writeTo(OutputStream, StreamCodec)} y los añade al stack mediante
+     * {@link #push(Object)}, sin consumir bytes posteriores al último elemento.
+     *
+     * @param in flujo origen.
+     * @param codec codec de los elementos.
+     * @throws IOException si ocurre un error al leer o el flujo no tiene un formato válido.
+     */
+    default void readFrom(InputStream in, StreamCodec<E> codec) throws IOException {
+        BinaryStreams.read(in, codec, this::push);
+    }
+
+    /**
+     * Lee elementos del canal especificado, ver {@link #readFrom(InputStream, StreamCodec)}.
+     *
+     * @param channel canal origen.
+     * @param codec codec de los elementos.
+     * @throws IOException si ocurre un error al leer o el flujo no tiene un formato válido.
+     */
+    default void readFrom(ReadableByteChannel channel, StreamCodec<E> codec) throws IOException {
+        readFrom(Channels.newInputStream(channel), codec);
+    }
 }
@@ -0,0 +1,185 @@
+import com.neoterux.tda.io.StreamCodec;
+import com.neoterux.tda.list.*;
+import com.neoterux.tda.stack.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("A collection of tests for the binary stream serialization")
+public class BinaryStreamsTests {
+
+    @TempDir
+    Path dir;
+
+    @ParameterizedTest
+    @MethodSource("ListFixtures#lists")
+    @DisplayName("Test round trip for every List implementation")
+    public void testLists(Supplier<List<Integer>> factory) throws IOException {
+        List<Integer> lst = ListFixtures.filled(factory, 100);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        lst.writeTo(out, StreamCodec.ints());
+
+        List<Integer> copy = new ArrayList<>();
+        copy.addLast(-1);
+        copy.readFrom(new ByteArrayInputStream(out.toByteArray()), StreamCodec.ints());
+        assertEquals(101, copy.size());
+        assertEquals(-1, copy.get(0));
+        assertEquals(lst.get(99), copy.get(100));
+        copy.removeFirst();
+        assertEquals(lst.toString(), copy.toString());
+    }
+
+    @Test
+    @DisplayName("Test variable width codecs and channels")
+    public void testChannels() throws IOException {
+        LinkedList<String> lst = new LinkedList<>();
+        lst.addLast("uno");
+        lst.addLast("");
+        lst.addLast("ñandú");
+        Path file = dir.resolve("strings.bin");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            lst.writeTo(channel, StreamCodec.strings());
+        }
+        SCLinkedList<String> copy = new SCLinkedList<>();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            copy.readFrom(channel, StreamCodec.strings());
+        }
+        assertEquals("[uno, , ñandú]", copy.toString());
+    }
+
+    @Test
+    @DisplayName("Test reading structures written back to back to one channel")
+    public void testConsecutiveStructures() throws IOException {
+        LinkedList<String> first = new LinkedList<>();
+        ArrayList<String> second = new ArrayList<>();
+        // el primer bloque supera BUFFER_BYTES para que la lista se escriba en varios bloques
+        for (int i = 0; i < 20000; i++)
+            first.addLast("a" + i);
+        second.addLast("ñandú");
+        second.addLast("");
+        Stack<String> stack = new ArrayStack<>(2, GrowthPolicy.doubling());
+        stack.push("tope");
+        Path file = dir.resolve("consecutive.bin");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            first.writeTo(channel, StreamCodec.strings());
+            new ArrayList<String>().writeTo(channel, StreamCodec.strings());
+            second.writeTo(channel, StreamCodec.strings());
+            stack.writeTo(channel, StreamCodec.strings());
+        }
+        SCLinkedList<String> firstCopy = new SCLinkedList<>();
+        ArrayList<String> emptyCopy = new ArrayList<>();
+        ArrayList<String> secondCopy = new ArrayList<>();
+        Stack<String> stackCopy = new ArrayStack<>(1);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            firstCopy.readFrom(channel, StreamCodec.strings());
+            emptyCopy.readFrom(channel, StreamCodec.strings());
+            secondCopy.readFrom(channel, StreamCodec.strings());
+            stackCopy.readFrom(channel, StreamCodec.strings());
+            assertEquals(channel.size(), channel.position());
+        }
+        assertEquals(first.toString(), firstCopy.toString());
+        assertTrue(emptyCopy.isEmpty());
+        assertEquals("[ñandú, ]", secondCopy.toString());
+        assertEquals("tope", stackCopy.pop());
+    }
+
+    @Test
+    @DisplayName("Test round trip for stacks")
+    public void testStacks() throws IOException {
+        Stack<Long> stack = new ArrayStack<>(4, GrowthPolicy.doubling());
+        for (long i = 0; i < 10; i++) {
+            stack.push(i);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        stack.writeTo(out, StreamCodec.longs());
+        Stack<Long> copy = new ArrayStack<>(10);
+        copy.readFrom(new ByteArrayInputStream(out.toByteArray()), StreamCodec.longs());
+        assertEquals(10, copy.size());
+        assertEquals(9L, copy.pop());
+
+        // un stack de capacidad fija no puede recibir más elementos de los que admite
+        Stack<Long> small = new ArrayStack<>(5);
+        assertThrows(StackOverflowError.class,
+                () -> small.readFrom(new ByteArrayInputStream(out.toByteArray()), StreamCodec.longs()));
+
+        IntStack ints = new IntArrayStack(2, true);
+        LongStack longs = new LongArrayStack(2, true);
+        DoubleStack doubles = new DoubleArrayStack(2, true);
+        for (int i = 0; i < 1000; i++) {
+            ints.push(i);
+            longs.push(-i);
+            doubles.push(i / 2.0);
+        }
+        out.reset();
+        ints.writeTo(out);
+        longs.writeTo(out);
+        doubles.writeTo(out);
+        // los formatos de ancho fijo no consumen bytes de la siguiente estructura
+        InputStream in = new ByteArrayInputStream(out.toByteArray());
+        IntStack intCopy = new IntArrayStack(1000);
+        LongStack longCopy = new LongArrayStack(1000);
+        DoubleStack doubleCopy = new DoubleArrayStack(1000);
+        intCopy.readFrom(in);
+        longCopy.readFrom(in);
+        doubleCopy.readFrom(in);
+        assertEquals(999, intCopy.pop());
+        assertEquals(-999L, longCopy.pop());
+        assertEquals(499.5, doubleCopy.pop());
+        assertEquals(-1, in.read());
+    }
+
+    @Test
+    @DisplayName("Test round trip for primitive lists")
+    public void testPrimitiveLists() throws IOException {
+        IntList ints = new IntArrayList();
+        LongList longs = new LongArrayList();
+        DoubleList doubles = new DoubleArrayList();
+        for (int i = 0; i < 50000; i++) {
+            ints.addLast(i);
+            longs.addLast((long) i << 40);
+            doubles.addLast(-i / 3.0);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ints.writeTo(out);
+        longs.writeTo(out);
+        doubles.writeTo(out);
+
+        InputStream in = new ByteArrayInputStream(out.toByteArray());
+        IntList intCopy = new IntArrayList();
+        LongList longCopy = new LongArrayList();
+        DoubleList doubleCopy = new DoubleArrayList();
+        intCopy.readFrom(in);
+        longCopy.readFrom(in);
+        doubleCopy.readFrom(in);
+        assertArrayEquals(ints.toArray(), intCopy.toArray());
+        assertArrayEquals(longs.toArray(), longCopy.toArray());
+        assertArrayEquals(doubles.toArray(), doubleCopy.toArray());
+    }
+
+    @Test
+    @DisplayName("Test invalid streams")
+    public void testInvalidStreams() throws IOException {
+        List<Integer> lst = new ArrayList<>();
+        assertThrows(IOException.class,
+                () -> lst.readFrom(new ByteArrayInputStream(new byte[]{1, 2, 3, 4}), StreamCodec.ints()));
+
+        IntList ints = new IntArrayList();
+        ints.addLast(1);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ints.writeTo(out);
+        assertThrows(IOException.class, () -> new LongArrayList().readFrom(new ByteArrayInputStream(out.toByteArray())));
+        assertThrows(IOException.class, () -> lst.readFrom(new ByteArrayInputStream(out.toByteArray()), StreamCodec.ints()));
+
+        byte[] truncated = java.util.Arrays.copyOf(out.toByteArray(), out.size() - 1);
+        assertThrows(EOFException.class, () -> new IntArrayList().readFrom(new ByteArrayInputStream(truncated)));
+    }
+}
@@ -0,0 +1,136 @@
+import com.neoterux.tda.list.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("A collection of tests for the bulk insertions of the lists")
+public class BulkInsertTests {
+
+    private static java.util.List<Integer> contents(List<Integer> lst) {
+        java.util.List<Integer> out = new java.util.ArrayList<>();
+        for (Integer e : lst)
+            out.add(e);
+        return out;
+    }
+
+    private static ArrayList<Integer> range(int from, int to) {
+        ArrayList<Integer> range = new ArrayList<>();
+        for (int i = from; i < to; i++)
+            range.addLast(i);
+        return range;
+    }
+
+    /**
+     * Compara la lista con el modelo mediante el iterador y mediante {@code get}, en ambos sentidos para
+     * validar los nodos de acceso rápido de las listas enlazadas.
+     */
+    private static void assertMatches(java.util.List<Integer> model, List<Integer> lst) {
+        assertEquals(model, contents(lst));
+        assertEquals(model.size(), lst.size());
+        for (int i = 0; i < model.size(); i++)
+            assertEquals(model.get(i), lst.get(i), "at " + i);
+        for (int i = model.size() - 1; i >= 0; i--)
+            assertEquals(model.get(i), lst.get(i), "at " + i);
+    }
+
+    @ParameterizedTest
+    @MethodSource("ListFixtures#lists")
+    @DisplayName("Test addAll, addAll at an index and addAllFirst on every List implementation")
+    public void testBulkInsertions(Supplier<List<Integer>> factory) {
+        List<Integer> lst = factory.get();
+        java.util.List<Integer> model = new java.util.ArrayList<>();
+
+        assertFalse(lst.addAll(new ArrayList<>()));
+        assertTrue(lst.addAll(range(0, 10)));
+        model.addAll(range(0, 10).stream().collect(java.util.stream.Collectors.toList()));
+        assertMatches(model, lst);
+
+        // acceso previo para que las listas enlazadas guarden un nodo de acceso rápido
+        lst.get(7);
+        assertTrue(lst.addAll(4, range(100, 105)));
+        model.addAll(4, Arrays.asList(100, 101, 102, 103, 104));
+        assertMatches(model, lst);
+
+        lst.get(12);
+        assertTrue(lst.addAllFirst(range(200, 203)));
+        model.addAll(0, Arrays.asList(200, 201, 202));
+        assertMatches(model, lst);
+
+        assertTrue(lst.addAll(lst.size(), range(300, 302)));
+        model.addAll(Arrays.asList(300, 301));
+        assertMatches(model, lst);
+
+        // los elementos null se omiten, también desde iterables sin tamaño conocido
+        assertTrue(lst.addAll(Arrays.asList(400, null, 401)));
+        assertTrue(lst.addAll(new ArrayDeque<>(Arrays.asList(402, 403))));
+        model.addAll(Arrays.asList(400, 401, 402, 403));
+        assertMatches(model, lst);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> lst.addAll(-1, range(0, 1)));
+        assertThrows(IndexOutOfBoundsException.class, () -> lst.addAll(lst.size() + 1, range(0, 1)));
+        assertMatches(model, lst);
+    }
+
+    @ParameterizedTest
+    @MethodSource("ListFixtures#lists")
+    @DisplayName("Test that a list can insert its own elements")
+    public void testSelfInsertion(Supplier<List<Integer>> factory) {
+        List<Integer> lst = factory.get();
+        lst.addAll(range(0, 4));
+        assertTrue(lst.addAll(2, lst));
+        assertEquals(Arrays.asList(0, 1, 0, 1, 2, 3, 2, 3), contents(lst));
+        assertTrue(lst.addAll(lst));
+        assertEquals(16, lst.size());
+        assertEquals(Arrays.asList(0, 1, 0, 1, 2, 3, 2, 3, 0, 1, 0, 1, 2, 3, 2, 3), contents(lst));
+    }
+
+    @ParameterizedTest
+    @MethodSource("ListFixtures#mutableLists")
+    @DisplayName("Test that a list can insert a view of itself")
+    public void testViewInsertion(Supplier<MutableList<Integer>> factory) {
+        MutableList<Integer> lst = ListFixtures.filled(factory, 4);
+        assertTrue(lst.addAll(1, lst.subList(2, 4)));
+        assertEquals(Arrays.asList(0, 2, 3, 1, 2, 3), contents(lst));
+        assertTrue(lst.addAll(lst.subList(0, 2)));
+        assertEquals(Arrays.asList(0, 2, 3, 1, 2, 3, 0, 2), contents(lst));
+    }
+
+    @Test
+    @DisplayName("Test bulk insertions after the array lists wrap around or reach their capacity")
+    public void testArrayGrowth() {
+        CircularArrayList<Integer> circular = new CircularArrayList<>(8);
+        java.util.List<Integer> model = new java.util.ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            circular.addFirst(-1 - i);
+            model.add(0, -1 - i);
+            circular.addLast(i);
+            model.add(i);
+        }
+        // sin ampliar el arreglo, desplazando el lado izquierdo y después el derecho
+        circular.addAll(1, range(10, 11));
+        model.add(1, 10);
+        circular.addAll(6, range(20, 21));
+        model.add(6, 20);
+        assertMatches(model, circular);
+        // ampliando el arreglo una sola vez
+        circular.addAll(3, range(30, 60));
+        model.addAll(3, range(30, 60).stream().collect(java.util.stream.Collectors.toList()));
+        assertMatches(model, circular);
+
+        ArrayList<Integer> array = new ArrayList<>(2);
+        assertTrue(array.addAll(range(0, 1000)));
+        assertTrue(array.addAll(500, range(0, 3)));
+        assertEquals(1003, array.size());
+        assertEquals(499, array.get(499));
+        assertEquals(0, array.get(500));
+        assertEquals(2, array.get(502));
+        assertEquals(500, array.get(503));
+        assertEquals(999, array.get(1002));
+    }
+}
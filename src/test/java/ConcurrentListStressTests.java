@@ -0,0 +1,222 @@
+import com.neoterux.tda.list.ConcurrentLinkedList;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pruebas de estrés de {@link ConcurrentLinkedList}. Además de comprobar que ningún elemento se pierde ni se
+ * duplica bajo carga, registra historiales cortos de operaciones concurrentes y verifica que sean
+ * linealizables: que exista un orden secuencial de las operaciones, compatible con el orden en tiempo real en
+ * que se invocaron y terminaron, que produzca los mismos resultados en una cola doble secuencial.
+ */
+@DisplayName("Stress tests for ConcurrentLinkedList")
+public class ConcurrentListStressTests {
+
+    private static final int THREADS = 4;
+
+    private enum Kind { ADD_FIRST, ADD_LAST, REMOVE_FIRST, REMOVE_LAST }
+
+    /**
+     * Operación registrada en un historial, con los instantes de invocación y respuesta.
+     */
+    private static final class Operation {
+        final Kind kind;
+        final Integer argument;
+        Integer result;
+        long invoked;
+        long responded;
+
+        Operation(Kind kind, Integer argument) {
+            this.kind = kind;
+            this.argument = argument;
+        }
+
+        void run(ConcurrentLinkedList<Integer> list) {
+            invoked = System.nanoTime();
+            switch (kind) {
+                case ADD_FIRST: list.addFirst(argument); break;
+                case ADD_LAST: list.addLast(argument); break;
+                case REMOVE_FIRST: result = list.removeFirst(); break;
+                default: result = list.removeLast(); break;
+            }
+            responded = System.nanoTime();
+        }
+
+        /**
+         * Aplica la operación sobre el modelo secuencial.
+         *
+         * @return true si el resultado coincide con el observado.
+         */
+        boolean applyTo(ArrayDeque<Integer> model) {
+            switch (kind) {
+                case ADD_FIRST: model.addFirst(argument); return true;
+                case ADD_LAST: model.addLast(argument); return true;
+                case REMOVE_FIRST: return Objects.equals(result, model.pollFirst());
+                default: return Objects.equals(result, model.pollLast());
+            }
+        }
+
+        @Override
+        public String toString() {
+            return kind + "(" + (argument == null ? "" : argument) + ")=" + result;
+        }
+    }
+
+    @Test
+    @DisplayName("Test that no element is lost or duplicated under load")
+    public void testConservationUnderLoad() throws Exception {
+        ConcurrentLinkedList<Integer> list = new ConcurrentLinkedList<>();
+        int perThread = 50000;
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CyclicBarrier start = new CyclicBarrier(THREADS);
+        List<Future<Set<Integer>>> removed = new ArrayList<>(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            int id = t;
+            removed.add(pool.submit(() -> {
+                Random random = new Random(id);
+                Set<Integer> taken = new HashSet<>();
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    int value = id * perThread + i;
+                    Integer e = null;
+                    switch (random.nextInt(4)) {
+                        case 0: list.addFirst(value); break;
+                        case 1: list.addLast(value); break;
+                        case 2: e = list.removeFirst(); break;
+                        default: e = list.removeLast(); break;
+                    }
+                    if (e != null && !taken.add(e))
+                        throw new AssertionError("Element removed twice: " + e);
+                }
+                return taken;
+            }));
+        }
+        Set<Integer> taken = new HashSet<>();
+        for (Future<Set<Integer>> f : removed) {
+            for (Integer e : f.get(60, TimeUnit.SECONDS))
+                assertTrue(taken.add(e), "Element removed by two threads: " + e);
+        }
+        pool.shutdown();
+
+        // los enlaces hacia adelante y hacia atrás deben describir la misma lista
+        List<Integer> forward = new ArrayList<>();
+        list.forEach(forward::add);
+        assertEquals(list.size(), forward.size());
+        List<Integer> backward = new ArrayList<>();
+        Integer e;
+        while ((e = list.removeLast()) != null)
+            backward.add(0, e);
+        assertEquals(forward, backward);
+
+        // cada valor añadido se retiró o permanece en la lista, exactamente una vez
+        for (Integer remaining : forward)
+            assertTrue(taken.add(remaining), "Element removed and still present: " + remaining);
+        Random[] randoms = new Random[THREADS];
+        int added = 0;
+        for (int t = 0; t < THREADS; t++) {
+            randoms[t] = new Random(t);
+            for (int i = 0; i < perThread; i++) {
+                if (randoms[t].nextInt(4) < 2) {
+                    added++;
+                    assertTrue(taken.contains(t * perThread + i));
+                }
+            }
+        }
+        assertEquals(added, taken.size());
+    }
+
+    @Test
+    @DisplayName("Test that short concurrent histories are linearizable")
+    public void testLinearizability() throws Exception {
+        int rounds = 3000, opsPerThread = 3;
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CyclicBarrier start = new CyclicBarrier(THREADS);
+        Random random = new Random(17);
+        try {
+            for (int round = 0; round < rounds; round++) {
+                ConcurrentLinkedList<Integer> list = new ConcurrentLinkedList<>();
+                ArrayDeque<Integer> initial = new ArrayDeque<>();
+                // listas pequeñas, donde ambos extremos comparten nodos
+                for (int i = 0, n = random.nextInt(4); i < n; i++) {
+                    list.addLast(-1 - i);
+                    initial.addLast(-1 - i);
+                }
+                Operation[][] history = new Operation[THREADS][opsPerThread];
+                int value = 0;
+                for (Operation[] thread : history) {
+                    for (int i = 0; i < opsPerThread; i++) {
+                        Kind kind = Kind.values()[random.nextInt(4)];
+                        boolean add = kind == Kind.ADD_FIRST || kind == Kind.ADD_LAST;
+                        thread[i] = new Operation(kind, add ? value++ : null);
+                    }
+                }
+                Future<?>[] running = new Future<?>[THREADS];
+                for (int t = 0; t < THREADS; t++) {
+                    Operation[] ops = history[t];
+                    running[t] = pool.submit(() -> {
+                        start.await();
+                        for (Operation op : ops)
+                            op.run(list);
+                        return null;
+                    });
+                }
+                for (Future<?> f : running)
+                    f.get(10, TimeUnit.SECONDS);
+
+                List<Operation> all = new ArrayList<>();
+                for (Operation[] thread : history)
+                    all.addAll(Arrays.asList(thread));
+                List<Integer> actual = new ArrayList<>();
+                list.forEach(actual::add);
+                assertTrue(linearizable(all, initial, actual), "Non linearizable history: " + all + " -> " + actual);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Busca un orden secuencial de las operaciones pendientes compatible con el orden en tiempo real, probando
+     * como siguiente operación cada una que no haya sido precedida por completo por otra operación pendiente.
+     *
+     * @param pending operaciones que faltan por ordenar.
+     * @param model estado del modelo secuencial tras las operaciones ya ordenadas.
+     * @param actual estado final observado en la lista.
+     * @return true si existe un orden que reproduce todos los resultados y el estado final.
+     */
+    private static boolean linearizable(List<Operation> pending, ArrayDeque<Integer> model,
+                                        List<Integer> actual) {
+        if (pending.isEmpty())
+            return new ArrayList<>(model).equals(actual);
+        long firstResponse = Long.MAX_VALUE;
+        for (Operation op : pending)
+            firstResponse = Math.min(firstResponse, op.responded);
+        for (int i = 0; i < pending.size(); i++) {
+            Operation op = pending.get(i);
+            if (op.invoked > firstResponse)
+                continue;
+            ArrayDeque<Integer> next = model.clone();
+            if (!op.applyTo(next))
+                continue;
+            List<Operation> rest = new ArrayList<>(pending);
+            rest.remove(i);
+            if (linearizable(rest, next, actual))
+                return true;
+        }
+        return false;
+    }
+}
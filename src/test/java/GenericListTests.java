@@ -1,6 +1,8 @@
 import com.neoterux.tda.list.*;
 import org.junit.jupiter.api.*;
 
+import java.util.Arrays;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -30,7 +32,7 @@ public class GenericListTests {
     @Order(1)
     public void testArrayList() {
         genericTest(new ArrayList<>());
-//        genericMutableTest(new ArrayList<>());
+        genericMutableTest(new ArrayList<>());
     }
 
     @Test
@@ -57,6 +59,221 @@ public class GenericListTests {
         genericMutableTest(new LinkedList<>());
     }
 
+    @Test
+    @DisplayName("Test for Circular ArrayList")
+    @Order(5)
+    public void testCircularArrayList() {
+        genericTest(new CircularArrayList<>());
+        genericMutableTest(new CircularArrayList<>());
+    }
+
+    @Test
+    @DisplayName("Test for Unrolled LinkedList")
+    @Order(6)
+    public void testUnrolledLinkedList() {
+        genericTest(new UnrolledLinkedList<>(4));
+        genericMutableTest(new UnrolledLinkedList<>(4));
+    }
+
+    @Test
+    @DisplayName("Test for Indexed List")
+    @Order(7)
+    public void testIndexedList() {
+        genericTest(new IndexedList<>(new ArrayList<>()));
+        genericMutableTest(new IndexedList<>(new CircularArrayList<>()));
+
+        IndexedList<Integer> indexed = new IndexedList<>(new CircularArrayList<>());
+        for (int i = 0; i < 10; i++) {
+            indexed.addLast(i % 3);
+        }
+        indexed.addFirst(2);
+        indexed.removeLast();
+        indexed.set(1, 1);
+        assertEquals("[2, 1, 1, 2, 0, 1, 2, 0, 1, 2]", indexed.toString());
+        assertEquals(4, indexed.indexOf(0));
+        assertEquals("[1, 1, 1, 1]", indexed.findAll(1).toString());
+        assertEquals(0, indexed.rebuildCount());
+        indexed.add(1, 0);
+        assertEquals(1, indexed.indexOf(0));
+        assertEquals(1, indexed.rebuildCount());
+
+        // las operaciones de MutableList se delegan a la lista envuelta y reconstruyen el índice
+        indexed.detach(0, 1);
+        assertEquals(0, indexed.indexOf(1));
+        indexed.subList(0, 3).removeIf(e -> e == 1);
+        assertEquals("[2, 0, 1, 2, 0, 1, 2]", indexed.toString());
+        assertEquals(1, indexed.indexOf(0));
+        indexed.keepOnly(1, 3);
+        assertEquals("[0, 1, 2]", indexed.toString());
+        assertEquals(2, indexed.indexOf(2));
+    }
+
+    @Test
+    @DisplayName("Test for intersection with a total order comparator")
+    @Order(8)
+    public void testOrderedIntersection() {
+        LinkedList<Integer> linked = new LinkedList<>();
+        SCLinkedList<Integer> circular = new SCLinkedList<>();
+        List<Integer> target = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            linked.addLast(9 - i);
+            circular.addLast(9 - i);
+            target.addLast(i * 3);
+        }
+        assertEquals("[9, 6, 3, 0]", linked.intersectionWith(target, Integer::compareTo, true).toString());
+        assertEquals("[9, 6, 3, 0]", circular.intersectionWith(target, Integer::compareTo, true).toString());
+        assertEquals("[9, 6, 3, 0]", circular.intersectionWith(target).toString());
+        assertTrue(linked.intersectionWith(null, Integer::compareTo, true).isEmpty());
+        assertTrue(circular.intersectionWith(new ArrayList<>(), Integer::compareTo, true).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> linked.intersectionWith(target, null, true));
+        assertThrows(IllegalArgumentException.class, () -> circular.intersectionWith(target, null, true));
+    }
+
+    @Test
+    @DisplayName("Test for sequential index access on linked lists")
+    @Order(9)
+    public void testSequentialIndexAccess() {
+        for (List<Integer> lst : Arrays.<List<Integer>>asList(new LinkedList<>(), new SCLinkedList<>(), new SimpleLinkedList<>())) {
+            for (int i = 0; i < 100; i++) {
+                lst.addLast(i);
+            }
+            int sum = 0;
+            for (int i = 0; i < lst.size(); i++) {
+                sum += lst.get(i);
+            }
+            assertEquals(4950, sum);
+            // elimina los pares mientras recorre por índice, y añade al inicio para desplazar los índices
+            for (int i = 0; i < lst.size(); i++) {
+                lst.remove(i);
+            }
+            lst.addFirst(-1);
+            assertEquals(-1, lst.get(0));
+            assertEquals(1, lst.get(1));
+            assertEquals(99, lst.get(50));
+            assertEquals(51, lst.size());
+        }
+    }
+
+    @Test
+    @DisplayName("Test for linked lists with node pooling")
+    @Order(10)
+    public void testPooledLinkedLists() {
+        genericTest(new LinkedList<>(4));
+        genericMutableTest(new LinkedList<>(4));
+        genericTest(new SCLinkedList<>(4));
+        genericMutableTest(new SCLinkedList<>(4));
+
+        for (List<Integer> lst : Arrays.<List<Integer>>asList(new LinkedList<>(2), new SCLinkedList<>(2))) {
+            // uso como cola: los nodos eliminados se reutilizan en las siguientes inserciones
+            for (int i = 0; i < 10; i++) {
+                lst.addLast(i);
+            }
+            for (int i = 10; i < 110; i++) {
+                lst.addLast(i);
+                assertEquals(i - 10, lst.removeFirst());
+            }
+            assertEquals("[100, 101, 102, 103, 104, 105, 106, 107, 108, 109]", lst.toString());
+            assertEquals(109, lst.set(9, -1));
+            assertEquals(-1, lst.removeLast());
+            assertEquals(108, lst.get(8));
+        }
+    }
+
+    @Test
+    @DisplayName("Test for OffHeapList")
+    @Order(11)
+    public void testOffHeapList() {
+        try (OffHeapList<Integer> lst = new OffHeapList<>(ElementCodec.ints(), 4)) {
+            genericTest(lst);
+            genericMutableTest(lst);
+        }
+
+        OffHeapList<Long> lst = new OffHeapList<>(ElementCodec.longs(), 4);
+        for (long i = 0; i < 20; i++) {
+            lst.addLast(i);
+        }
+        // los desplazamientos cruzan varios bloques
+        lst.add(3, -3L);
+        assertEquals(-3L, lst.get(3));
+        assertEquals(19L, lst.get(20));
+        assertEquals(-3L, lst.remove(3));
+        lst.detach(2, 9);
+        assertEquals("[0, 1, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19]", lst.toString());
+        lst.keepOnly(5, 100);
+        assertEquals("[13, 14, 15, 16, 17, 18, 19]", lst.toString());
+        assertEquals(19L, lst.removeLast());
+        assertEquals(24 * Long.BYTES, lst.reservedBytes());
+        lst.trimToSize();
+        assertEquals(8 * Long.BYTES, lst.reservedBytes());
+
+        lst.close();
+        assertTrue(lst.isClosed());
+        assertThrows(IllegalStateException.class, () -> lst.addLast(1L));
+        lst.close();
+    }
+
+    @Test
+    @DisplayName("Test for CopyOnWriteArrayList")
+    @Order(12)
+    public void testCopyOnWriteArrayList() throws InterruptedException {
+        genericTest(new CopyOnWriteArrayList<>());
+        genericMutableTest(new CopyOnWriteArrayList<>());
+
+        CopyOnWriteArrayList<Integer> lst = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            lst.addLast(i);
+        }
+        // el iterador recorre la versión de la lista que existía al crearlo
+        var iterator = lst.iterator();
+        lst.set(0, -1);
+        lst.removeLast();
+        assertEquals(0, iterator.next());
+        int count = 1;
+        while (iterator.hasNext()) {
+            iterator.next();
+            count++;
+        }
+        assertEquals(5, count);
+        assertEquals("[-1, 1, 2, 3]", lst.toString());
+
+        lst.update(2, batch -> {
+            batch.addLast(10);
+            batch.addLast(11);
+            batch.removeFirst();
+        });
+        assertEquals("[1, 2, 3, 10, 11]", lst.toString());
+        // un lote que falla no publica ningún cambio
+        assertThrows(IllegalArgumentException.class, () -> lst.update(batch -> {
+            batch.clear();
+            batch.detach(4, 3);
+        }));
+        assertEquals(5, lst.size());
+
+        // los lectores nunca observan una versión con cambios parciales
+        CopyOnWriteArrayList<Integer> pairs = new CopyOnWriteArrayList<>();
+        java.util.concurrent.atomic.AtomicInteger torn = new java.util.concurrent.atomic.AtomicInteger();
+        Thread reader = new Thread(() -> {
+            for (int i = 0; i < 20000; i++) {
+                int sum = 0;
+                for (int e : pairs)
+                    sum += e;
+                if (sum != 0)
+                    torn.incrementAndGet();
+            }
+        });
+        reader.start();
+        for (int i = 1; i <= 500; i++) {
+            int value = i;
+            pairs.update(batch -> {
+                batch.addLast(value);
+                batch.addLast(-value);
+            });
+        }
+        reader.join();
+        assertEquals(0, torn.get());
+        assertEquals(1000, pairs.size());
+    }
+
     @Test
     @DisplayName("Test for List class with most of the methods.")
     private static void genericTest(List<Integer> lst) {
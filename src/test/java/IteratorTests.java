@@ -0,0 +1,164 @@
+import com.neoterux.tda.list.*;
+import com.neoterux.tda.stack.ArrayStack;
+import com.neoterux.tda.stack.GrowthPolicy;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("A collection of tests for fail-fast iterators and iterator removal")
+public class IteratorTests {
+
+    @ParameterizedTest
+    @MethodSource("ListFixtures#removableIteratorLists")
+    @DisplayName("Test filtering a list in place with Iterator.remove")
+    public void testIteratorRemove(Supplier<MutableList<Integer>> factory) {
+        MutableList<Integer> lst = ListFixtures.filled(factory, 10);
+        Iterator<Integer> it = lst.iterator();
+        assertThrows(IllegalStateException.class, it::remove);
+        assertEquals(0, it.next());
+        it.remove();
+        assertThrows(IllegalStateException.class, it::remove);
+        while (it.hasNext()) {
+            if (it.next() % 2 == 0)
+                it.remove();
+        }
+        assertThrows(NoSuchElementException.class, it::next);
+        assertEquals("[1, 3, 5, 7, 9]", lst.toString());
+        assertEquals(5, lst.size());
+        assertEquals(7, lst.get(3));
+
+        // elimina el último elemento y comprueba que el final de la lista siga enlazado
+        it = lst.iterator();
+        while (it.hasNext()) {
+            if (it.next() == 9)
+                it.remove();
+        }
+        assertTrue(lst.addLast(11));
+        assertTrue(lst.addFirst(-1));
+        assertEquals("[-1, 1, 3, 5, 7, 11]", lst.toString());
+        assertEquals(11, lst.removeLast());
+
+        it = lst.iterator();
+        while (it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+        assertTrue(lst.isEmpty());
+        assertEquals("[]", lst.toString());
+        assertTrue(lst.addLast(4));
+        assertEquals("[4]", lst.toString());
+    }
+
+    @ParameterizedTest
+    @MethodSource("ListFixtures#removableIteratorLists")
+    @DisplayName("Test that iterators fail fast after a structural change outside them")
+    public void testFailFast(Supplier<MutableList<Integer>> factory) {
+        MutableList<Integer> lst = ListFixtures.filled(factory, 10);
+        Iterator<Integer> it = lst.iterator();
+        assertEquals(0, it.next());
+        lst.addLast(10);
+        assertThrows(ConcurrentModificationException.class, it::next);
+        assertThrows(ConcurrentModificationException.class, it::remove);
+
+        Iterator<Integer> first = lst.iterator();
+        Iterator<Integer> second = lst.iterator();
+        first.next();
+        second.next();
+        first.remove();
+        assertThrows(ConcurrentModificationException.class, second::next);
+        // los reemplazos no son modificaciones estructurales
+        Iterator<Integer> third = lst.iterator();
+        third.next();
+        lst.set(2, 20);
+        assertEquals(2, third.next());
+        assertEquals(20, third.next());
+    }
+
+    @ParameterizedTest
+    @MethodSource("ListFixtures#lists")
+    @DisplayName("Test that every iterator throws NoSuchElementException past the end")
+    public void testExhausted(Supplier<List<Integer>> factory) {
+        List<Integer> lst = ListFixtures.filled(factory, 10);
+        Iterator<Integer> it = lst.iterator();
+        for (int i = 0; i < 10; i++) {
+            assertTrue(it.hasNext());
+            assertEquals(i, it.next());
+        }
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, it::next);
+        assertThrows(NoSuchElementException.class, () -> factory.get().iterator().next());
+    }
+
+    @Test
+    @DisplayName("Test the fail-fast iterator of ArrayStack")
+    public void testStackIterator() {
+        ArrayStack<Integer> stack = new ArrayStack<>(2, GrowthPolicy.doubling());
+        stack.push(1);
+        stack.push(2);
+        Iterator<Integer> it = stack.iterator();
+        assertEquals(1, it.next());
+        stack.push(3);
+        assertThrows(ConcurrentModificationException.class, it::next);
+        it = stack.iterator();
+        it.next();
+        it.next();
+        it.next();
+        assertThrows(NoSuchElementException.class, it::next);
+    }
+
+    @Test
+    @DisplayName("Test iterator removal through wrappers that cannot expose it directly")
+    public void testWrappedIterators() {
+        CopyOnWriteArrayList<Integer> cow = new CopyOnWriteArrayList<>();
+        IndexedList<Integer> indexed = new IndexedList<>(new LinkedList<>());
+        for (int i = 0; i < 5; i++) {
+            cow.addLast(i % 2);
+            indexed.addLast(i % 2);
+        }
+        Iterator<Integer> it = cow.iterator();
+        it.next();
+        assertThrows(UnsupportedOperationException.class, it::remove);
+        assertEquals(5, cow.size());
+
+        assertEquals(3, indexed.findAll(0).size());
+        it = indexed.iterator();
+        while (it.hasNext()) {
+            if (it.next() == 0)
+                it.remove();
+        }
+        assertEquals("[1, 1]", indexed.toString());
+        assertEquals(0, indexed.findAll(0).size());
+        assertEquals(2, indexed.findAll(1).size());
+    }
+
+    @Test
+    @DisplayName("Test removeIf compacting the ArrayList in a single pass")
+    public void testRemoveIf() {
+        ArrayList<Integer> lst = new ArrayList<>();
+        for (int i = 0; i < 20; i++)
+            lst.addLast(i);
+        assertFalse(lst.removeIf(e -> e > 100));
+        assertTrue(lst.removeIf(e -> e % 3 != 0));
+        assertEquals("[0, 3, 6, 9, 12, 15, 18]", lst.toString());
+        assertEquals(7, lst.size());
+
+        // si el filtro falla, los elementos que no se evaluaron se conservan
+        assertThrows(IllegalStateException.class, () -> lst.removeIf(e -> {
+            if (e == 12)
+                throw new IllegalStateException();
+            return e < 6;
+        }));
+        assertEquals("[6, 9, 12, 15, 18]", lst.toString());
+        assertTrue(lst.removeIf(e -> true));
+        assertTrue(lst.isEmpty());
+        assertTrue(lst.addLast(1));
+        assertEquals("[1]", lst.toString());
+    }
+}
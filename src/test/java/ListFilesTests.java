@@ -0,0 +1,107 @@
+import com.neoterux.tda.list.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("A collection of tests for the list file persistence")
+public class ListFilesTests {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Test for ArrayList persistence with a codec")
+    public void testObjectList() throws IOException {
+        Path file = dir.resolve("longs.tdal");
+        ArrayList<Long> lst = new ArrayList<>();
+        for (long i = 0; i < 1000; i++) {
+            lst.addLast(i * 3);
+        }
+        ListFiles.write(file, lst, ElementCodec.longs());
+        assertEquals(ListFiles.HEADER_BYTES + 1000 * Long.BYTES, Files.size(file));
+
+        try (MappedList<Long> mapped = ListFiles.map(file, ElementCodec.longs())) {
+            assertEquals(1000, mapped.size());
+            assertEquals(0L, mapped.get(0));
+            assertEquals(2997L, mapped.get(999));
+            assertEquals(lst.toString(), mapped.toString());
+            assertEquals(1, mapped.findAll(300L).size());
+            assertThrows(UnsupportedOperationException.class, () -> mapped.addLast(1L));
+            assertThrows(UnsupportedOperationException.class, () -> mapped.set(0, 1L));
+            java.util.Iterator<Long> it = mapped.iterator();
+            for (int i = 0; i < 1000; i++)
+                it.next();
+            assertThrows(java.util.NoSuchElementException.class, it::next);
+        }
+
+        ArrayList<Long> loaded = ListFiles.load(file, ElementCodec.longs());
+        assertEquals(lst.toString(), loaded.toString());
+        loaded.addLast(-1L);
+        assertEquals(1001, loaded.size());
+    }
+
+    @Test
+    @DisplayName("Test for writable mapped lists")
+    public void testWritableMapping() throws IOException {
+        Path file = dir.resolve("ints.tdal");
+        ArrayList<Integer> lst = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            lst.addLast(i);
+        }
+        ListFiles.write(file, lst, ElementCodec.ints());
+        try (MappedList<Integer> mapped = ListFiles.map(file, ElementCodec.ints(), true)) {
+            assertEquals(4, mapped.set(4, 44));
+        }
+        assertEquals("[0, 1, 2, 3, 44, 5, 6, 7, 8, 9]", ListFiles.load(file, ElementCodec.ints()).toString());
+        // un archivo de objetos con el mismo ancho puede cargarse como lista primitiva
+        assertEquals(44, ListFiles.loadInts(file).get(4));
+    }
+
+    @Test
+    @DisplayName("Test for primitive list persistence")
+    public void testPrimitiveLists() throws IOException {
+        IntArrayList ints = new IntArrayList();
+        LongArrayList longs = new LongArrayList();
+        DoubleArrayList doubles = new DoubleArrayList();
+        for (int i = 0; i < 50000; i++) {
+            ints.addLast(-i);
+            longs.addLast((long) i << 33);
+            doubles.addLast(i / 4.0);
+        }
+        ListFiles.writeInts(dir.resolve("i"), ints);
+        ListFiles.writeLongs(dir.resolve("l"), longs);
+        ListFiles.writeDoubles(dir.resolve("d"), doubles);
+
+        assertArrayEquals(ints.toArray(), ListFiles.loadInts(dir.resolve("i")).toArray());
+        assertArrayEquals(longs.toArray(), ListFiles.loadLongs(dir.resolve("l")).toArray());
+        assertArrayEquals(doubles.toArray(), ListFiles.loadDoubles(dir.resolve("d")).toArray());
+
+        IntArrayList empty = new IntArrayList();
+        ListFiles.writeInts(dir.resolve("e"), empty);
+        IntArrayList loaded = ListFiles.loadInts(dir.resolve("e"));
+        assertTrue(loaded.isEmpty());
+        loaded.addLast(1);
+        assertEquals(1, loaded.get(0));
+    }
+
+    @Test
+    @DisplayName("Test for invalid list files")
+    public void testInvalidFiles() throws IOException {
+        Path file = dir.resolve("bad");
+        Files.write(file, new byte[]{1, 2, 3});
+        assertThrows(IOException.class, () -> ListFiles.loadInts(file));
+        Files.write(file, new byte[ListFiles.HEADER_BYTES]);
+        assertThrows(IOException.class, () -> ListFiles.loadInts(file));
+
+        LongArrayList longs = new LongArrayList();
+        longs.addLast(1);
+        ListFiles.writeLongs(file, longs);
+        assertThrows(IOException.class, () -> ListFiles.loadInts(file));
+        assertThrows(IOException.class, () -> ListFiles.map(file, ElementCodec.ints()));
+    }
+}
@@ -0,0 +1,74 @@
+import com.neoterux.tda.list.*;
+import org.junit.jupiter.api.Named;
+
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Fábricas de listas vacías compartidas por las pruebas parametrizadas, para usarse mediante
+ * {@code @MethodSource("ListFixtures#lists")}. Cada fábrica crea una lista nueva por invocación, y su nombre
+ * identifica la implementación en los resultados de las pruebas. Las capacidades iniciales son pequeñas para
+ * que las pruebas recorran las ampliaciones de los arreglos, los bloques y los nodos reciclados.
+ */
+final class ListFixtures {
+
+    private ListFixtures() { }
+
+    /**
+     * @return las implementaciones de {@link MutableList} cuyos iteradores soportan
+     * {@link java.util.Iterator#remove()}.
+     */
+    static Stream<Named<Supplier<MutableList<Integer>>>> removableIteratorLists() {
+        return Stream.of(
+                named("ArrayList", () -> new ArrayList<>(1)),
+                named("CircularArrayList", () -> new CircularArrayList<>(4)),
+                named("LinkedList", LinkedList::new),
+                named("LinkedList(pool)", () -> new LinkedList<>(4)),
+                named("SCLinkedList", SCLinkedList::new),
+                named("SCLinkedList(pool)", () -> new SCLinkedList<>(4)),
+                named("SimpleLinkedList", SimpleLinkedList::new),
+                named("UnrolledLinkedList", () -> new UnrolledLinkedList<>(4)),
+                named("IndexedList", () -> new IndexedList<>(new LinkedList<>())));
+    }
+
+    /**
+     * @return todas las implementaciones de {@link MutableList}.
+     */
+    static Stream<Named<Supplier<MutableList<Integer>>>> mutableLists() {
+        return Stream.concat(removableIteratorLists(), Stream.of(
+                named("CopyOnWriteArrayList", CopyOnWriteArrayList::new),
+                named("OffHeapList", () -> new OffHeapList<>(ElementCodec.ints(), 8))));
+    }
+
+    /**
+     * @return todas las implementaciones de {@link List}.
+     */
+    static Stream<Named<Supplier<List<Integer>>>> lists() {
+        return Stream.concat(mutableLists().map(ListFixtures::widen),
+                Stream.of(named("ConcurrentLinkedList", ConcurrentLinkedList::new)));
+    }
+
+    /**
+     * Añade los enteros [0, size) al final de una lista nueva.
+     *
+     * @param factory fábrica de la lista.
+     * @param size cantidad de elementos.
+     * @param <L> tipo de la lista.
+     * @return la lista creada.
+     */
+    static <L extends List<Integer>> L filled(Supplier<L> factory, int size) {
+        L lst = factory.get();
+        for (int i = 0; i < size; i++)
+            lst.addLast(i);
+        return lst;
+    }
+
+    private static <L extends List<Integer>> Named<Supplier<L>> named(String name, Supplier<L> factory) {
+        return Named.of(name, factory);
+    }
+
+    private static Named<Supplier<List<Integer>>> widen(Named<Supplier<MutableList<Integer>>> fixture) {
+        Supplier<MutableList<Integer>> factory = fixture.getPayload();
+        return Named.of(fixture.getName(), factory::get);
+    }
+}
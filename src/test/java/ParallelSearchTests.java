@@ -0,0 +1,72 @@
+import com.neoterux.tda.list.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("A collection of tests for the parallel findAll and intersectionWith")
+public class ParallelSearchTests {
+
+    private static final int SIZE = 50000;
+
+    private static List<Integer> populated(Supplier<List<Integer>> factory, int size) {
+        List<Integer> lst = factory.get();
+        for (int i = 0; i < size; i++) {
+            lst.addLast(i % 1000);
+        }
+        return lst;
+    }
+
+    @Test
+    @DisplayName("Test that the common pool can split the searches")
+    public void testParallelism() {
+        // surefire fija el paralelismo del pool común, de lo contrario un host de un solo núcleo omitiría el
+        // recorrido paralelo
+        assertTrue(ForkJoinPool.getCommonPoolParallelism() > 1);
+    }
+
+    @ParameterizedTest
+    @MethodSource("ListFixtures#lists")
+    @DisplayName("Test that parallel findAll returns the same list as the sequential one")
+    public void testFindAll(Supplier<List<Integer>> factory) {
+        List<Integer> lst = populated(factory, SIZE);
+        Comparator<Integer> sameTens = (a, b) -> Integer.compare(a / 10, b / 10);
+        List<Integer> expected = lst.findAll(123, sameTens);
+        List<Integer> found = lst.parallelFindAll(123, sameTens);
+        assertEquals(SIZE / 100, found.size());
+        assertEquals(expected.toString(), found.toString());
+        assertEquals(expected.getClass(), found.getClass());
+    }
+
+    @ParameterizedTest
+    @MethodSource("ListFixtures#lists")
+    @DisplayName("Test that parallel intersectionWith returns the same list as the sequential one")
+    public void testIntersection(Supplier<List<Integer>> factory) {
+        List<Integer> lst = populated(factory, SIZE);
+        List<Integer> target = new ArrayList<>();
+        for (int i = 0; i < 200; i += 3) {
+            target.addLast(i);
+            target.addLast(i);
+        }
+        List<Integer> expected = lst.intersectionWith(target);
+        List<Integer> found = lst.parallelIntersectionWith(target);
+        assertFalse(found.isEmpty());
+        assertEquals(expected.toString(), found.toString());
+        assertEquals(expected.getClass(), found.getClass());
+        assertTrue(lst.parallelIntersectionWith(new ArrayList<>()).isEmpty());
+    }
+
+    @ParameterizedTest
+    @MethodSource("ListFixtures#lists")
+    @DisplayName("Test that small lists keep the sequential path")
+    public void testSmallLists(Supplier<List<Integer>> factory) {
+        List<Integer> lst = populated(factory, 100);
+        assertEquals(lst.findAll(7, Integer::compare).toString(), lst.parallelFindAll(7, Integer::compare).toString());
+        assertEquals(lst.intersectionWith(lst).toString(), lst.parallelIntersectionWith(lst).toString());
+    }
+}
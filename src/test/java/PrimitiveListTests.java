@@ -0,0 +1,77 @@
+import com.neoterux.tda.list.*;
+import org.junit.jupiter.api.*;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("A collection of tests for the primitive List implementations")
+public class PrimitiveListTests {
+
+    @Test
+    @DisplayName("Test for IntArrayList")
+    public void testIntArrayList() {
+        IntList lst = new IntArrayList(2);
+        for (int i = 0; i < 10; i++) {
+            lst.addLast(i);
+        }
+        assertEquals(0, lst.removeFirst());
+        assertEquals(9, lst.removeLast());
+        assertEquals(5, lst.remove(4));
+        assertEquals("[1, 2, 3, 4, 6, 7, 8]", lst.toString());
+
+        lst.addFirst(0);
+        lst.add(5, 5);
+        assertEquals("[0, 1, 2, 3, 4, 5, 6, 7, 8]", lst.toString());
+        assertEquals(6, lst.set(6, 33));
+        assertEquals(33, lst.get(6));
+        assertEquals(6, lst.indexOf(33));
+        assertEquals(-1, lst.indexOf(6));
+
+        assertEquals("[33]", lst.findAll(33).toString());
+        IntList l2 = IntArrayList.fromArray(new int[]{8, 2, 4, 0, 6});
+        assertEquals("[0, 2, 4, 8]", lst.intersectionWith(l2).toString());
+
+        PrimitiveIterator.OfInt iterator = lst.iterator();
+        int sum = 0;
+        while (iterator.hasNext()) {
+            sum += iterator.nextInt();
+        }
+        assertEquals(63, sum);
+        assertThrows(NoSuchElementException.class, iterator::nextInt);
+
+        lst.keepOnly(2, 20);
+        assertEquals("[2, 3, 4, 5, 33, 7, 8]", lst.toString());
+        lst.detach(3, 4);
+        assertEquals("[2, 3, 4, 7, 8]", lst.toString());
+        assertThrows(IllegalArgumentException.class, () -> lst.detach(4, 3));
+
+        lst.clear();
+        assertTrue(lst.isEmpty());
+        assertThrows(NoSuchElementException.class, lst::removeFirst);
+    }
+
+    @Test
+    @DisplayName("Test for LongArrayList")
+    public void testLongArrayList() {
+        LongList lst = new LongArrayList();
+        for (long i = 0; i < 5; i++) {
+            lst.addFirst(i << 40);
+        }
+        assertEquals(4L << 40, lst.get(0));
+        assertEquals(5, lst.toArray().length);
+        lst.detach(1, 3);
+        assertEquals("[" + (4L << 40) + ", 0]", lst.toString());
+    }
+
+    @Test
+    @DisplayName("Test for DoubleArrayList")
+    public void testDoubleArrayList() {
+        DoubleList lst = DoubleArrayList.fromArray(new double[]{0.5, Double.NaN, 1.5, 0.5});
+        assertEquals(2, lst.findAll(0.5).size());
+        assertEquals(1, lst.indexOf(Double.NaN));
+        DoubleList l2 = DoubleArrayList.fromArray(new double[]{Double.NaN, 0.5});
+        assertEquals("[0.5, NaN, 0.5]", lst.intersectionWith(l2).toString());
+    }
+}
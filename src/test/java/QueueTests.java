@@ -0,0 +1,186 @@
+import com.neoterux.tda.list.ArrayList;
+import com.neoterux.tda.queue.*;
+import org.junit.jupiter.api.*;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("A collection of tests for Queue TDA implementations")
+public class QueueTests {
+
+    @Test
+    @DisplayName("Test for ConcurrentLinkedQueue in a single thread")
+    public void testConcurrentLinkedQueue() {
+        Queue<Integer> queue = new ConcurrentLinkedQueue<>();
+        assertTrue(queue.isEmpty());
+        assertNull(queue.peekFirst());
+        assertNull(queue.removeFirst());
+        assertFalse(queue.addLast(null));
+        for (int i = 0; i < 5; i++) {
+            assertTrue(queue.addLast(i));
+        }
+        assertEquals(5, queue.size());
+        assertEquals("[0, 1, 2, 3, 4]", queue.toString());
+        assertEquals(0, queue.removeFirst());
+        assertEquals(1, queue.peekFirst());
+        assertEquals("[1, 2, 3, 4]", queue.toString());
+        while (!queue.isEmpty())
+            queue.removeFirst();
+        assertEquals(0, queue.size());
+        assertEquals("[]", queue.toString());
+    }
+
+    @Test
+    @DisplayName("Test for ConcurrentLinkedQueue with producers and consumers")
+    public void testConcurrentProducersConsumers() throws InterruptedException {
+        Queue<Integer> queue = new ConcurrentLinkedQueue<>();
+        int producers = 3, consumers = 3, perProducer = 20000;
+        Set<Integer> consumed = ConcurrentHashMap.newKeySet();
+        AtomicInteger violations = new AtomicInteger();
+        Thread[] threads = new Thread[producers + consumers];
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            threads[p] = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++)
+                    queue.addLast(base + i);
+            });
+        }
+        for (int c = 0; c < consumers; c++) {
+            threads[producers + c] = new Thread(() -> {
+                // los elementos de un mismo productor se retiran en el orden en que fueron añadidos
+                int[] lastSeen = new int[producers];
+                java.util.Arrays.fill(lastSeen, -1);
+                while (consumed.size() < producers * perProducer) {
+                    Integer e = queue.removeFirst();
+                    if (e == null) {
+                        Thread.yield();
+                        continue;
+                    }
+                    if (e % perProducer <= lastSeen[e / perProducer] || !consumed.add(e))
+                        violations.incrementAndGet();
+                    lastSeen[e / perProducer] = e % perProducer;
+                }
+            });
+        }
+        for (Thread t : threads)
+            t.start();
+        for (Thread t : threads)
+            t.join();
+        assertEquals(0, violations.get());
+        assertEquals(producers * perProducer, consumed.size());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test for ArrayBlockingQueue in a single thread")
+    public void testArrayBlockingQueue() throws InterruptedException {
+        assertThrows(IllegalArgumentException.class, () -> new ArrayBlockingQueue<Integer>(0));
+        ArrayBlockingQueue<Integer> queue = new ArrayBlockingQueue<>(4);
+        assertTrue(queue.isEmpty());
+        assertNull(queue.peekFirst());
+        assertNull(queue.removeFirst());
+        assertNull(queue.poll(1, TimeUnit.MILLISECONDS));
+        assertFalse(queue.addLast(null));
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.addLast(i));
+        }
+        assertFalse(queue.addLast(4));
+        assertFalse(queue.offer(4, 1, TimeUnit.MILLISECONDS));
+        assertEquals(0, queue.remainingCapacity());
+        assertEquals("[0, 1, 2, 3]", queue.toString());
+        // los elementos siguientes dan la vuelta al arreglo
+        assertEquals(0, queue.take());
+        assertEquals(1, queue.removeFirst());
+        assertTrue(queue.put(4));
+        assertTrue(queue.offer(5, 1, TimeUnit.MILLISECONDS));
+        assertEquals(2, queue.peekFirst());
+        assertEquals("[2, 3, 4, 5]", queue.toString());
+
+        ArrayList<Integer> drained = new ArrayList<>();
+        assertEquals(3, queue.drainTo(drained, 3));
+        assertEquals("[2, 3, 4]", drained.toString());
+        assertEquals(1, queue.drainTo(drained));
+        assertEquals(0, queue.drainTo(drained));
+        assertEquals("[2, 3, 4, 5]", drained.toString());
+        assertTrue(queue.isEmpty());
+
+        assertEquals(3, queue.putAll(java.util.Arrays.asList(6, null, 7, 8)));
+        assertEquals("[6, 7, 8]", queue.toString());
+        assertEquals(6, queue.poll(1, TimeUnit.MILLISECONDS));
+        queue.clear();
+        assertEquals(0, queue.size());
+        assertEquals(4, queue.remainingCapacity());
+        assertEquals("[]", queue.toString());
+    }
+
+    @Test
+    @DisplayName("Test for ArrayBlockingQueue with blocking producers and consumers")
+    public void testBlockingProducersConsumers() throws InterruptedException {
+        ArrayBlockingQueue<Integer> queue = new ArrayBlockingQueue<>(64);
+        int producers = 3, consumers = 3, perProducer = 20000, batch = 100;
+        Set<Integer> consumed = ConcurrentHashMap.newKeySet();
+        AtomicInteger violations = new AtomicInteger();
+        AtomicInteger remaining = new AtomicInteger(producers * perProducer);
+        Thread[] threads = new Thread[producers + consumers];
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            boolean batched = p % 2 == 0;
+            threads[p] = new Thread(() -> {
+                try {
+                    for (int i = 0; i < perProducer; i += batch) {
+                        if (batched) {
+                            java.util.List<Integer> chunk = new java.util.ArrayList<>(batch);
+                            for (int j = i; j < i + batch; j++)
+                                chunk.add(base + j);
+                            queue.putAll(chunk);
+                        } else {
+                            for (int j = i; j < i + batch; j++)
+                                queue.put(base + j);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    violations.incrementAndGet();
+                }
+            });
+        }
+        for (int c = 0; c < consumers; c++) {
+            boolean draining = c % 2 == 0;
+            threads[producers + c] = new Thread(() -> {
+                int[] lastSeen = new int[producers];
+                java.util.Arrays.fill(lastSeen, -1);
+                ArrayList<Integer> drained = new ArrayList<>();
+                try {
+                    while (remaining.get() > 0) {
+                        drained.clear();
+                        if (draining) {
+                            queue.drainTo(drained, batch);
+                        } else {
+                            Integer e = queue.poll(1, TimeUnit.MILLISECONDS);
+                            if (e != null)
+                                drained.addLast(e);
+                        }
+                        remaining.addAndGet(-drained.size());
+                        for (Integer e : drained) {
+                            if (e % perProducer <= lastSeen[e / perProducer] || !consumed.add(e))
+                                violations.incrementAndGet();
+                            lastSeen[e / perProducer] = e % perProducer;
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    violations.incrementAndGet();
+                }
+            });
+        }
+        for (Thread t : threads)
+            t.start();
+        for (Thread t : threads)
+            t.join(60000);
+        assertEquals(0, violations.get());
+        assertEquals(producers * perProducer, consumed.size());
+        assertTrue(queue.isEmpty());
+    }
+}
@@ -0,0 +1,118 @@
+import com.neoterux.tda.list.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("A collection of tests for removeIf and retainAll")
+public class RemoveIfTests {
+
+    /**
+     * Compara el contenido de la lista recorriéndola por iterador y por índices, y la modifica en ambos extremos
+     * para validar los enlaces después de filtrarla.
+     */
+    private static void assertContent(String expected, List<Integer> lst) {
+        assertEquals(expected, lst.toString());
+        StringBuilder indexed = new StringBuilder("[");
+        for (int i = 0; i < lst.size(); i++)
+            indexed.append(i == 0 ? "" : ", ").append(lst.get(i));
+        assertEquals(expected, indexed.append("]").toString());
+        assertTrue(lst.addLast(-1));
+        assertTrue(lst.addFirst(-2));
+        assertEquals(-1, lst.removeLast());
+        assertEquals(-2, lst.removeFirst());
+        assertEquals(expected, lst.toString());
+    }
+
+    @ParameterizedTest
+    @MethodSource("ListFixtures#lists")
+    @DisplayName("Test removeIf on every list implementation")
+    public void testRemoveIf(Supplier<List<Integer>> factory) {
+        List<Integer> lst = ListFixtures.filled(factory, 20);
+        assertFalse(lst.removeIf(e -> e > 100));
+        assertTrue(lst.removeIf(e -> e % 3 != 0));
+        assertEquals(7, lst.size());
+        assertContent("[0, 3, 6, 9, 12, 15, 18]", lst);
+        // elimina ambos extremos
+        assertTrue(lst.removeIf(e -> e == 0 || e == 18));
+        assertContent("[3, 6, 9, 12, 15]", lst);
+        assertTrue(lst.removeIf(e -> true));
+        assertTrue(lst.isEmpty());
+        assertFalse(lst.removeIf(e -> true));
+        assertContent("[]", lst);
+        assertTrue(lst.addLast(1));
+        assertContent("[1]", lst);
+        assertThrows(NullPointerException.class, () -> lst.removeIf(null));
+    }
+
+    @ParameterizedTest
+    @MethodSource("ListFixtures#lists")
+    @DisplayName("Test that a failing filter keeps the elements it did not evaluate")
+    public void testFailingFilter(Supplier<List<Integer>> factory) {
+        List<Integer> lst = ListFixtures.filled(factory, 20);
+        assertThrows(IllegalStateException.class, () -> lst.removeIf(e -> {
+            if (e == 10)
+                throw new IllegalStateException();
+            return e % 2 == 0;
+        }));
+        if (lst instanceof CopyOnWriteArrayList) {
+            // la nueva versión de la lista no se publica
+            assertEquals(20, lst.size());
+            return;
+        }
+        assertEquals(15, lst.size());
+        assertContent("[1, 3, 5, 7, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19]", lst);
+    }
+
+    @ParameterizedTest
+    @MethodSource("ListFixtures#lists")
+    @DisplayName("Test retainAll with repo lists and java.util collections")
+    public void testRetainAll(Supplier<List<Integer>> factory) {
+        List<Integer> lst = ListFixtures.filled(factory, 20);
+        ArrayList<Integer> keep = new ArrayList<>();
+        for (int i = 15; i < 30; i++)
+            keep.addLast(i);
+        assertTrue(lst.retainAll(keep));
+        assertFalse(lst.retainAll(keep));
+        assertContent("[15, 16, 17, 18, 19]", lst);
+        assertFalse(lst.retainAll(lst));
+
+        assertTrue(lst.retainAll(Arrays.asList(19, 16, 16, 40)));
+        assertContent("[16, 19]", lst);
+        assertTrue(lst.retainAll(new HashSet<>(Arrays.asList(19))));
+        assertContent("[19]", lst);
+        assertTrue(lst.retainAll(new ArrayList<Integer>()));
+        assertTrue(lst.isEmpty());
+    }
+
+    @ParameterizedTest
+    @MethodSource("ListFixtures#mutableLists")
+    @DisplayName("Test removeIf and retainAll through a subList view")
+    public void testSubListView(Supplier<MutableList<Integer>> factory) {
+        MutableList<Integer> lst = ListFixtures.filled(factory, 10);
+        MutableList<Integer> view = lst.subList(2, 8);
+        assertTrue(view.removeIf(e -> e % 2 == 0));
+        assertEquals("[3, 5, 7]", view.toString());
+        assertEquals("[0, 1, 3, 5, 7, 8, 9]", lst.toString());
+        assertTrue(view.retainAll(Arrays.asList(5)));
+        assertEquals("[0, 1, 5, 8, 9]", lst.toString());
+    }
+
+    @Test
+    @DisplayName("Test that removeIf keeps the IndexedList index consistent")
+    public void testIndexedList() {
+        IndexedList<Integer> indexed = new IndexedList<>(new ArrayList<>());
+        for (int i = 0; i < 10; i++)
+            indexed.addLast(i % 3);
+        assertEquals(4, indexed.findAll(0).size());
+        assertTrue(indexed.removeIf(e -> e == 0));
+        assertEquals(0, indexed.findAll(0).size());
+        assertEquals(3, indexed.findAll(1).size());
+        assertEquals(0, indexed.indexOf(1));
+    }
+}
@@ -0,0 +1,140 @@
+import com.neoterux.tda.list.*;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("A collection of tests for splice and split on the linked lists")
+public class SpliceTests {
+
+    private static <L extends List<Integer>> L fill(L lst, int from, int to) {
+        for (int i = from; i < to; i++)
+            lst.addLast(i);
+        return lst;
+    }
+
+    /**
+     * Recorre la lista por índices en ambos sentidos y la modifica en ambos extremos, para validar los enlaces
+     * después de mover los nodos.
+     */
+    private static void assertLinked(String expected, List<Integer> lst) {
+        assertEquals(expected, lst.toString());
+        StringBuilder forward = new StringBuilder("[");
+        for (int i = 0; i < lst.size(); i++)
+            forward.append(i == 0 ? "" : ", ").append(lst.get(i));
+        assertEquals(expected, forward.append("]").toString());
+        for (int i = lst.size() - 1; i >= 0; i--)
+            assertNotNull(lst.get(i));
+        int size = lst.size();
+        lst.addLast(-1);
+        lst.addFirst(-2);
+        assertEquals(-1, lst.removeLast());
+        assertEquals(-2, lst.removeFirst());
+        assertEquals(size, lst.size());
+        assertEquals(expected, lst.toString());
+    }
+
+    @Test
+    @DisplayName("Test transferAll, splice and splitAt on LinkedList")
+    public void testLinkedList() {
+        LinkedList<Integer> lst = fill(new LinkedList<>(4), 0, 4);
+        LinkedList<Integer> other = fill(new LinkedList<>(), 4, 7);
+        lst.transferAll(other);
+        assertTrue(other.isEmpty());
+        assertLinked("[0, 1, 2, 3, 4, 5, 6]", lst);
+        assertLinked("[]", other);
+
+        lst.get(5);
+        lst.splice(2, fill(new LinkedList<>(), 10, 12));
+        assertLinked("[0, 1, 10, 11, 2, 3, 4, 5, 6]", lst);
+        lst.splice(0, fill(new LinkedList<>(), 20, 21));
+        lst.splice(lst.size(), fill(new LinkedList<>(), 30, 31));
+        lst.splice(3, new LinkedList<>());
+        assertLinked("[20, 0, 1, 10, 11, 2, 3, 4, 5, 6, 30]", lst);
+        LinkedList<Integer> empty = new LinkedList<>();
+        empty.transferAll(lst);
+        assertLinked("[20, 0, 1, 10, 11, 2, 3, 4, 5, 6, 30]", empty);
+        assertTrue(lst.isEmpty());
+
+        LinkedList<Integer> rest = empty.splitAt(7);
+        assertLinked("[20, 0, 1, 10, 11, 2, 3]", empty);
+        assertLinked("[4, 5, 6, 30]", rest);
+        assertLinked("[]", rest.splitAt(4));
+        LinkedList<Integer> all = rest.splitAt(0);
+        assertLinked("[]", rest);
+        assertLinked("[4, 5, 6, 30]", all);
+
+        assertThrows(IllegalArgumentException.class, () -> all.transferAll(all));
+        assertThrows(IndexOutOfBoundsException.class, () -> all.splice(5, new LinkedList<>()));
+        assertThrows(IndexOutOfBoundsException.class, () -> all.splitAt(-1));
+    }
+
+    @Test
+    @DisplayName("Test transferAll, splice and splitAt on SCLinkedList")
+    public void testSCLinkedList() {
+        SCLinkedList<Integer> lst = fill(new SCLinkedList<>(4), 0, 4);
+        SCLinkedList<Integer> other = fill(new SCLinkedList<>(), 4, 7);
+        lst.transferAll(other);
+        assertTrue(other.isEmpty());
+        assertLinked("[0, 1, 2, 3, 4, 5, 6]", lst);
+        assertLinked("[]", other);
+
+        lst.get(5);
+        lst.splice(2, fill(new SCLinkedList<>(), 10, 12));
+        assertLinked("[0, 1, 10, 11, 2, 3, 4, 5, 6]", lst);
+        lst.splice(0, fill(new SCLinkedList<>(), 20, 21));
+        lst.splice(lst.size(), fill(new SCLinkedList<>(), 30, 31));
+        lst.splice(3, new SCLinkedList<>());
+        assertLinked("[20, 0, 1, 10, 11, 2, 3, 4, 5, 6, 30]", lst);
+        SCLinkedList<Integer> empty = new SCLinkedList<>();
+        empty.transferAll(lst);
+        assertLinked("[20, 0, 1, 10, 11, 2, 3, 4, 5, 6, 30]", empty);
+        assertTrue(lst.isEmpty());
+
+        SCLinkedList<Integer> rest = empty.splitAt(7);
+        assertLinked("[20, 0, 1, 10, 11, 2, 3]", empty);
+        assertLinked("[4, 5, 6, 30]", rest);
+        assertLinked("[]", rest.splitAt(4));
+        SCLinkedList<Integer> all = rest.splitAt(0);
+        assertLinked("[]", rest);
+        assertLinked("[4, 5, 6, 30]", all);
+
+        assertThrows(IllegalArgumentException.class, () -> all.transferAll(all));
+        assertThrows(IndexOutOfBoundsException.class, () -> all.splice(5, new SCLinkedList<>()));
+        assertThrows(IndexOutOfBoundsException.class, () -> all.splitAt(-1));
+    }
+
+    @Test
+    @DisplayName("Test transferAll, splice and splitAt on SimpleLinkedList")
+    public void testSimpleLinkedList() {
+        SimpleLinkedList<Integer> lst = fill(new SimpleLinkedList<>(), 0, 4);
+        SimpleLinkedList<Integer> other = fill(new SimpleLinkedList<>(), 4, 7);
+        lst.transferAll(other);
+        assertTrue(other.isEmpty());
+        assertLinked("[0, 1, 2, 3, 4, 5, 6]", lst);
+        assertLinked("[]", other);
+
+        lst.get(5);
+        lst.splice(2, fill(new SimpleLinkedList<>(), 10, 12));
+        assertLinked("[0, 1, 10, 11, 2, 3, 4, 5, 6]", lst);
+        lst.splice(0, fill(new SimpleLinkedList<>(), 20, 21));
+        lst.splice(lst.size(), fill(new SimpleLinkedList<>(), 30, 31));
+        lst.splice(3, new SimpleLinkedList<>());
+        assertLinked("[20, 0, 1, 10, 11, 2, 3, 4, 5, 6, 30]", lst);
+        SimpleLinkedList<Integer> empty = new SimpleLinkedList<>();
+        empty.transferAll(lst);
+        assertLinked("[20, 0, 1, 10, 11, 2, 3, 4, 5, 6, 30]", empty);
+        assertTrue(lst.isEmpty());
+
+        SimpleLinkedList<Integer> rest = empty.splitAt(7);
+        assertLinked("[20, 0, 1, 10, 11, 2, 3]", empty);
+        assertLinked("[4, 5, 6, 30]", rest);
+        assertLinked("[]", rest.splitAt(4));
+        SimpleLinkedList<Integer> all = rest.splitAt(0);
+        assertLinked("[]", rest);
+        assertLinked("[4, 5, 6, 30]", all);
+
+        assertThrows(IllegalArgumentException.class, () -> all.transferAll(all));
+        assertThrows(IndexOutOfBoundsException.class, () -> all.splice(5, new SimpleLinkedList<>()));
+        assertThrows(IndexOutOfBoundsException.class, () -> all.splitAt(-1));
+    }
+}
@@ -0,0 +1,154 @@
+import com.neoterux.tda.stack.*;
+import org.junit.jupiter.api.*;
+
+import java.util.EmptyStackException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("A collection of tests for Stack TDA implementations")
+public class StackTests {
+
+    @Test
+    @DisplayName("Test for fixed ArrayStack")
+    public void testArrayStack() {
+        Stack<Integer> stack = new ArrayStack<>(2);
+        assertTrue(stack.isEmpty());
+        assertNull(stack.peek());
+        assertThrows(EmptyStackException.class, stack::pop);
+        stack.push(1);
+        stack.push(2);
+        assertFalse(stack.isEmpty());
+        assertThrows(StackOverflowError.class, () -> stack.push(3));
+        assertEquals(2, stack.pop());
+        assertEquals(1, stack.peek());
+    }
+
+    @Test
+    @DisplayName("Test for growable ArrayStack with growth policies")
+    public void testGrowableArrayStack() {
+        ArrayStack<Integer> doubling = new ArrayStack<>(2, GrowthPolicy.doubling());
+        ArrayStack<Integer> factor = new ArrayStack<>(2, GrowthPolicy.factor(1.5));
+        ArrayStack<Integer> fixed = new ArrayStack<>(2, GrowthPolicy.fixedIncrement(5));
+        for (int i = 0; i < 3; i++) {
+            doubling.push(i);
+            factor.push(i);
+            fixed.push(i);
+        }
+        assertEquals(4, doubling.capacity());
+        assertEquals(3, factor.capacity());
+        assertEquals(7, fixed.capacity());
+
+        fixed.trimToSize();
+        assertEquals(3, fixed.capacity());
+        assertEquals(2, fixed.pop());
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.factor(1));
+    }
+
+    @Test
+    @DisplayName("Test for ArrayStack shrink on pop")
+    public void testShrinkingArrayStack() {
+        ArrayStack<Integer> stack = new ArrayStack<>(4, GrowthPolicy.doubling(), true);
+        for (int i = 0; i < 64; i++) {
+            stack.push(i);
+        }
+        assertEquals(64, stack.capacity());
+        while (stack.size() > 15) {
+            stack.pop();
+        }
+        assertEquals(32, stack.capacity());
+        while (!stack.isEmpty()) {
+            stack.pop();
+        }
+        assertEquals(4, stack.capacity());
+    }
+
+    @Test
+    @DisplayName("Test for fixed IntArrayStack")
+    public void testIntArrayStack() {
+        IntStack stack = new IntArrayStack(3);
+        assertTrue(stack.isEmpty());
+        assertThrows(EmptyStackException.class, stack::pop);
+        stack.push(1);
+        stack.push(2);
+        stack.push(3);
+        assertThrows(StackOverflowError.class, () -> stack.push(4));
+        assertEquals(3, stack.peek());
+        assertEquals(3, stack.pop());
+        assertEquals(2, stack.size());
+
+        PrimitiveIterator.OfInt it = stack.iterator();
+        assertEquals(1, it.nextInt());
+        assertEquals(2, it.nextInt());
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    @DisplayName("Test for growable primitive stacks")
+    public void testGrowablePrimitiveStacks() {
+        LongStack longs = new LongArrayStack(1, true);
+        DoubleStack doubles = new DoubleArrayStack(1, true);
+        for (int i = 0; i < 100; i++) {
+            longs.push(i);
+            doubles.push(i / 2.0);
+        }
+        assertEquals(100, longs.size());
+        assertTrue(longs.capacity() >= 100);
+        assertEquals(99L, longs.pop());
+        assertEquals(49.5, doubles.pop());
+        assertThrows(IllegalArgumentException.class, () -> new IntArrayStack(0, true));
+    }
+
+    @Test
+    @DisplayName("Test for ConcurrentStack with several threads")
+    public void testConcurrentStack() throws InterruptedException {
+        ConcurrentStack<Integer> stack = new ConcurrentStack<>();
+        assertNull(stack.peek());
+        assertNull(stack.tryPop());
+        assertThrows(EmptyStackException.class, stack::pop);
+        stack.push(1);
+        stack.push(2);
+        assertEquals(2, stack.size());
+        assertEquals("[1, 2]", StreamSupport.stream(stack.spliterator(), false)
+                .collect(Collectors.toList()).toString());
+        Iterator<Integer> it = stack.iterator();
+        assertEquals(1, it.next());
+        assertEquals(2, it.next());
+        assertThrows(NoSuchElementException.class, it::next);
+        assertEquals(2, stack.pop());
+        stack.clear();
+        assertTrue(stack.isEmpty());
+
+        // cada hilo añade 10000 elementos distintos y retira la mitad, ningún elemento se pierde ni se repite
+        int threads = 4, perThread = 10000;
+        Set<Integer> popped = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicated = new AtomicInteger();
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int base = t * perThread;
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    stack.push(base + i);
+                    if ((i & 1) == 1 && !popped.add(stack.pop()))
+                        duplicated.incrementAndGet();
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers)
+            worker.join();
+        assertEquals(0, duplicated.get());
+        assertEquals(threads * perThread / 2, stack.size());
+        Integer e;
+        while ((e = stack.tryPop()) != null)
+            assertTrue(popped.add(e));
+        assertEquals(threads * perThread, popped.size());
+    }
+}
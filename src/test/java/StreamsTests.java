@@ -0,0 +1,129 @@
+import com.neoterux.tda.list.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Spliterator;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("A collection of tests for the spliterators and streams of the lists")
+public class StreamsTests {
+
+    private static final int SIZE = 10000;
+
+    /**
+     * Crea una lista con los enteros [0, SIZE), añadiendo la primera mitad al inicio para que el arreglo circular
+     * empiece a la mitad de su buffer y se pruebe el recorrido con índices físicos.
+     */
+    private static List<Integer> populated(Supplier<List<Integer>> factory) {
+        List<Integer> lst = factory.get();
+        for (int i = SIZE / 2 - 1; i >= 0; i--) {
+            lst.addFirst(i);
+        }
+        for (int i = SIZE / 2; i < SIZE; i++) {
+            lst.addLast(i);
+        }
+        return lst;
+    }
+
+    @ParameterizedTest
+    @MethodSource("ListFixtures#lists")
+    @DisplayName("Test sequential and parallel streams for every List implementation")
+    public void testStreams(Supplier<List<Integer>> factory) {
+        List<Integer> lst = populated(factory);
+        long expected = (long) SIZE * (SIZE - 1) / 2;
+        assertEquals(expected, lst.stream().mapToLong(Integer::longValue).sum());
+        assertEquals(expected, lst.parallelStream().mapToLong(Integer::longValue).sum());
+        java.util.List<Integer> ordered = lst.parallelStream().collect(Collectors.toList());
+        assertEquals(SIZE, ordered.size());
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(i, ordered.get(i));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("ListFixtures#lists")
+    @DisplayName("Test that the spliterators are sized and split evenly")
+    public void testSpliterators(Supplier<List<Integer>> factory) {
+        List<Integer> lst = populated(factory);
+        Spliterator<Integer> right = lst.spliterator();
+        assertTrue(right.hasCharacteristics(Spliterator.ORDERED));
+        if (lst instanceof ConcurrentLinkedList) {
+            // la lista puede modificarse durante el recorrido, por lo que su tamaño no se conoce
+            assertTrue(right.hasCharacteristics(Spliterator.CONCURRENT));
+            assertFalse(right.hasCharacteristics(Spliterator.SIZED));
+            return;
+        }
+        assertTrue(right.hasCharacteristics(Spliterator.SIZED));
+        assertEquals(SIZE, right.getExactSizeIfKnown());
+        Spliterator<Integer> left = right.trySplit();
+        assertNotNull(left);
+        assertTrue(right.hasCharacteristics(Spliterator.SUBSIZED));
+        assertEquals(SIZE, left.getExactSizeIfKnown() + right.getExactSizeIfKnown());
+        // UnrolledLinkedList divide en el límite de bloque más cercano a la mitad, ver testChunkSpliterator
+        if (!(lst instanceof UnrolledLinkedList)) {
+            assertEquals(SIZE / 2, left.getExactSizeIfKnown());
+            assertEquals(SIZE / 2, right.getExactSizeIfKnown());
+        }
+        assertTrue(left.tryAdvance(e -> assertEquals(0, e)));
+        long first = SIZE - right.getExactSizeIfKnown();
+        assertTrue(right.tryAdvance(e -> assertEquals(first, (long) e)));
+    }
+
+    @Test
+    @DisplayName("Test that the UnrolledLinkedList spliterator splits on block boundaries")
+    public void testChunkSpliterator() {
+        UnrolledLinkedList<Integer> lst = new UnrolledLinkedList<>(16);
+        for (int i = 0; i < 100; i++)
+            lst.addLast(i);
+        Spliterator<Integer> right = lst.spliterator();
+        Spliterator<Integer> left = right.trySplit();
+        // 100 elementos en bloques de 16: el límite más cercano a la mitad sin superarla es 48
+        assertEquals(48, left.getExactSizeIfKnown());
+        assertEquals(52, right.getExactSizeIfKnown());
+        assertTrue(right.tryAdvance(e -> assertEquals(48, e)));
+        // tras consumir parte de un bloque, la división empieza en la posición actual
+        Spliterator<Integer> middle = right.trySplit();
+        assertEquals(15, middle.getExactSizeIfKnown());
+        assertTrue(middle.tryAdvance(e -> assertEquals(49, e)));
+        assertTrue(right.tryAdvance(e -> assertEquals(64, e)));
+
+        // un rango dentro de un solo bloque se divide a la mitad
+        Spliterator<Integer> tail = new UnrolledLinkedList<Integer>(16).spliterator();
+        assertNull(tail.trySplit());
+        UnrolledLinkedList<Integer> small = new UnrolledLinkedList<>(16);
+        for (int i = 0; i < 10; i++)
+            small.addLast(i);
+        Spliterator<Integer> whole = small.spliterator();
+        assertEquals(5, whole.trySplit().getExactSizeIfKnown());
+        assertEquals(5, whole.getExactSizeIfKnown());
+
+        // divisiones recursivas conservan el orden y el contenido
+        java.util.List<Integer> collected = lst.parallelStream().collect(Collectors.toList());
+        assertEquals(100, collected.size());
+        for (int i = 0; i < 100; i++)
+            assertEquals(i, collected.get(i));
+    }
+
+    @Test
+    @DisplayName("Test streams of the primitive lists")
+    public void testPrimitiveStreams() {
+        IntList ints = new IntArrayList();
+        LongList longs = new LongArrayList();
+        DoubleList doubles = new DoubleArrayList();
+        for (int i = 0; i < SIZE; i++) {
+            ints.addLast(i);
+            longs.addLast(i);
+            doubles.addLast(i);
+        }
+        long expected = (long) SIZE * (SIZE - 1) / 2;
+        assertEquals(expected, ints.parallelStream().asLongStream().sum());
+        assertEquals(expected, longs.parallelStream().sum());
+        assertEquals(expected, doubles.parallelStream().sum());
+        assertArrayEquals(ints.toArray(), ints.stream().toArray());
+        assertEquals(SIZE / 2, ints.spliterator().trySplit().getExactSizeIfKnown());
+    }
+}
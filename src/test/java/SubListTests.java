@@ -0,0 +1,118 @@
+import com.neoterux.tda.list.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("A collection of tests for the subList views")
+public class SubListTests {
+
+    @ParameterizedTest
+    @MethodSource("ListFixtures#mutableLists")
+    @DisplayName("Test reads, writes and structural edits through a view")
+    public void testWriteThrough(Supplier<MutableList<Integer>> factory) {
+        MutableList<Integer> lst = ListFixtures.filled(factory, 10);
+        MutableList<Integer> view = lst.subList(2, 6);
+        assertEquals(4, view.size());
+        assertEquals("[2, 3, 4, 5]", view.toString());
+        assertEquals(3, view.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> view.get(4));
+
+        assertEquals(3, view.set(1, 30));
+        assertEquals(30, lst.get(3));
+        // los reemplazos en la lista original no invalidan la vista
+        lst.set(2, 20);
+        assertEquals(20, view.get(0));
+
+        assertTrue(view.addLast(6));
+        assertTrue(view.addFirst(1));
+        view.add(2, 25);
+        assertEquals("[1, 20, 25, 30, 4, 5, 6]", view.toString());
+        assertEquals("[0, 1, 1, 20, 25, 30, 4, 5, 6, 6, 7, 8, 9]", lst.toString());
+
+        assertEquals(1, view.removeFirst());
+        assertEquals(6, view.removeLast());
+        assertEquals(25, view.remove(1));
+        assertEquals("[20, 30, 4, 5]", view.toString());
+        assertEquals("[0, 1, 20, 30, 4, 5, 6, 7, 8, 9]", lst.toString());
+
+        assertTrue(view.addAll(2, lst.subList(8, 10)));
+        assertEquals("[20, 30, 8, 9, 4, 5]", view.toString());
+        view.detach(1, 2);
+        view.keepOnly(1, 2);
+        assertEquals("[9, 4]", view.toString());
+        assertEquals("[0, 1, 9, 4, 6, 7, 8, 9]", lst.toString());
+
+        view.clear();
+        assertTrue(view.isEmpty());
+        assertEquals("[0, 1, 6, 7, 8, 9]", lst.toString());
+        assertTrue(view.addLast(5));
+        assertEquals("[0, 1, 5, 6, 7, 8, 9]", lst.toString());
+    }
+
+    @ParameterizedTest
+    @MethodSource("ListFixtures#mutableLists")
+    @DisplayName("Test views of views and the bounds of a view")
+    public void testNestedViews(Supplier<MutableList<Integer>> factory) {
+        MutableList<Integer> lst = ListFixtures.filled(factory, 10);
+        assertThrows(IndexOutOfBoundsException.class, () -> lst.subList(-1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> lst.subList(3, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> lst.subList(0, 11));
+        assertTrue(lst.subList(10, 10).isEmpty());
+
+        MutableList<Integer> outer = lst.subList(1, 9);
+        MutableList<Integer> inner = outer.subList(2, 5);
+        assertEquals("[3, 4, 5]", inner.toString());
+        inner.addLast(50);
+        assertEquals(9, outer.size());
+        assertEquals("[1, 2, 3, 4, 5, 50, 6, 7, 8]", outer.toString());
+        assertEquals(11, lst.size());
+        assertEquals(1, inner.findAll(50).size());
+
+        // modificar la vista exterior invalida la interior, pero no a la inversa
+        outer.removeFirst();
+        assertThrows(ConcurrentModificationException.class, () -> inner.get(0));
+        assertEquals("[2, 3, 4, 5, 50, 6, 7, 8]", outer.toString());
+    }
+
+    @ParameterizedTest
+    @MethodSource("ListFixtures#mutableLists")
+    @DisplayName("Test that views fail fast after a structural change to the parent")
+    public void testFailFast(Supplier<MutableList<Integer>> factory) {
+        MutableList<Integer> lst = ListFixtures.filled(factory, 10);
+        MutableList<Integer> view = lst.subList(2, 6);
+        Iterator<Integer> it = view.iterator();
+        assertEquals(2, it.next());
+        lst.addLast(10);
+        assertThrows(ConcurrentModificationException.class, it::next);
+        assertThrows(ConcurrentModificationException.class, () -> view.get(0));
+        assertThrows(ConcurrentModificationException.class, view::size);
+        assertThrows(ConcurrentModificationException.class, () -> view.addLast(1));
+    }
+
+    @Test
+    @DisplayName("Test that lists with a modification count detect changes that keep the size")
+    public void testSameSizeChanges() {
+        java.util.List<MutableList<Integer>> lists = java.util.Arrays.asList(new ArrayList<>(), new LinkedList<>(),
+                new CircularArrayList<>(), new UnrolledLinkedList<>(4));
+        for (MutableList<Integer> lst : lists) {
+            for (int i = 0; i < 10; i++)
+                lst.addLast(i);
+            MutableList<Integer> view = lst.subList(0, 5);
+            lst.addFirst(-1);
+            lst.removeLast();
+            assertThrows(ConcurrentModificationException.class, () -> view.get(0), lst.getClass().getSimpleName());
+        }
+        LinkedList<Integer> linked = new LinkedList<>();
+        for (int i = 0; i < 10; i++)
+            linked.addLast(i);
+        MutableList<Integer> view = linked.subList(0, 5);
+        linked.rotate(1);
+        assertThrows(ConcurrentModificationException.class, () -> view.get(0));
+    }
+}